@@ -21,7 +21,12 @@ import java.util.function.Supplier;
 
 import org.springframework.boot.context.properties.PropertyMapper;
 import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.ConcurrencyLimit;
 import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.Health;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.Hedging;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.Pool;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.Retry;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.Retry.Throttling;
 import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.Ssl;
 import org.springframework.util.ObjectUtils;
 
@@ -102,10 +107,20 @@ final class ChannelConfigUtils {
 		map.from(channelDefaultsConfig::isSecure)
 			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::isSecure, channel::isSecure))
 			.to(channel::setSecure);
+		map.from(channelDefaultsConfig::getTransport)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::getTransport, channel::getTransport))
+			.to(channel::setTransport);
 		map.from(channelDefaultsConfig::getUserAgent)
 			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::getUserAgent, channel::getUserAgent))
 			.to(channel::setUserAgent);
+		map.from(channelDefaultsConfig::isWarmup)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::isWarmup, channel::isWarmup))
+			.to(channel::setWarmup);
+		this.applyDefaultsIfNecessary(channel.getConcurrencyLimit(), channelDefaultsConfig.getConcurrencyLimit());
 		this.applyDefaultsIfNecessary(channel.getHealth(), channelDefaultsConfig.getHealth());
+		this.applyDefaultsIfNecessary(channel.getHedging(), channelDefaultsConfig.getHedging());
+		this.applyDefaultsIfNecessary(channel.getPool(), channelDefaultsConfig.getPool());
+		this.applyDefaultsIfNecessary(channel.getRetry(), channelDefaultsConfig.getRetry());
 		this.applyDefaultsIfNecessary(channel.getSsl(), channelDefaultsConfig.getSsl());
 		map.from(channelDefaultsConfig::getServiceConfig)
 			.when(notModifiedByUserAndDefaultsSpecified(baseConfig::getServiceConfig, channel::getServiceConfig))
@@ -116,6 +131,24 @@ final class ChannelConfigUtils {
 		return channel;
 	}
 
+	void applyDefaultsIfNecessary(ConcurrencyLimit channelLimit, ConcurrencyLimit channelDefaultsConfigLimit) {
+		PropertyMapper map = PropertyMapper.get();
+		ConcurrencyLimit baseConfigLimit = new ChannelConfig().getConcurrencyLimit();
+		map.from(channelDefaultsConfigLimit::isEnabled)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigLimit::isEnabled, channelLimit::isEnabled))
+			.to(channelLimit::setEnabled);
+		map.from(channelDefaultsConfigLimit::getInitialLimit)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigLimit::getInitialLimit,
+					channelLimit::getInitialLimit))
+			.to(channelLimit::setInitialLimit);
+		map.from(channelDefaultsConfigLimit::getMinLimit)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigLimit::getMinLimit, channelLimit::getMinLimit))
+			.to(channelLimit::setMinLimit);
+		map.from(channelDefaultsConfigLimit::getMaxLimit)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigLimit::getMaxLimit, channelLimit::getMaxLimit))
+			.to(channelLimit::setMaxLimit);
+	}
+
 	void applyDefaultsIfNecessary(Health channelHealth, Health channelDefaultsConfigHealth) {
 		PropertyMapper map = PropertyMapper.get();
 		Health baseConfigHealth = new ChannelConfig().getHealth();
@@ -128,6 +161,86 @@ final class ChannelConfigUtils {
 			.to(channelHealth::setServiceName);
 	}
 
+	void applyDefaultsIfNecessary(Hedging channelHedging, Hedging channelDefaultsConfigHedging) {
+		PropertyMapper map = PropertyMapper.get();
+		Hedging baseConfigHedging = new ChannelConfig().getHedging();
+		map.from(channelDefaultsConfigHedging::isEnabled)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigHedging::isEnabled, channelHedging::isEnabled))
+			.to(channelHedging::setEnabled);
+		map.from(channelDefaultsConfigHedging::getMethods)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigHedging::getMethods, channelHedging::getMethods))
+			.to(channelHedging::setMethods);
+		map.from(channelDefaultsConfigHedging::getMaxAttempts)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigHedging::getMaxAttempts,
+					channelHedging::getMaxAttempts))
+			.to(channelHedging::setMaxAttempts);
+		map.from(channelDefaultsConfigHedging::getDelay)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigHedging::getDelay, channelHedging::getDelay))
+			.to(channelHedging::setDelay);
+		map.from(channelDefaultsConfigHedging::getNonFatalStatusCodes)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigHedging::getNonFatalStatusCodes,
+					channelHedging::getNonFatalStatusCodes))
+			.to(channelHedging::setNonFatalStatusCodes);
+	}
+
+	void applyDefaultsIfNecessary(Pool channelPool, Pool channelDefaultsConfigPool) {
+		PropertyMapper map = PropertyMapper.get();
+		Pool baseConfigPool = new ChannelConfig().getPool();
+		map.from(channelDefaultsConfigPool::getSize)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigPool::getSize, channelPool::getSize))
+			.to(channelPool::setSize);
+		map.from(channelDefaultsConfigPool::getSelection)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigPool::getSelection, channelPool::getSelection))
+			.to(channelPool::setSelection);
+	}
+
+	void applyDefaultsIfNecessary(Retry channelRetry, Retry channelDefaultsConfigRetry) {
+		PropertyMapper map = PropertyMapper.get();
+		Retry baseConfigRetry = new ChannelConfig().getRetry();
+		map.from(channelDefaultsConfigRetry::isEnabled)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigRetry::isEnabled, channelRetry::isEnabled))
+			.to(channelRetry::setEnabled);
+		map.from(channelDefaultsConfigRetry::getMethods)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigRetry::getMethods, channelRetry::getMethods))
+			.to(channelRetry::setMethods);
+		map.from(channelDefaultsConfigRetry::getMaxAttempts)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigRetry::getMaxAttempts, channelRetry::getMaxAttempts))
+			.to(channelRetry::setMaxAttempts);
+		map.from(channelDefaultsConfigRetry::getInitialBackoff)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigRetry::getInitialBackoff,
+					channelRetry::getInitialBackoff))
+			.to(channelRetry::setInitialBackoff);
+		map.from(channelDefaultsConfigRetry::getMaxBackoff)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigRetry::getMaxBackoff, channelRetry::getMaxBackoff))
+			.to(channelRetry::setMaxBackoff);
+		map.from(channelDefaultsConfigRetry::getBackoffMultiplier)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigRetry::getBackoffMultiplier,
+					channelRetry::getBackoffMultiplier))
+			.to(channelRetry::setBackoffMultiplier);
+		map.from(channelDefaultsConfigRetry::getRetryableStatusCodes)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigRetry::getRetryableStatusCodes,
+					channelRetry::getRetryableStatusCodes))
+			.to(channelRetry::setRetryableStatusCodes);
+		map.from(channelDefaultsConfigRetry::getBufferSize)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigRetry::getBufferSize, channelRetry::getBufferSize))
+			.to(channelRetry::setBufferSize);
+		map.from(channelDefaultsConfigRetry::getPerRpcBufferLimit)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigRetry::getPerRpcBufferLimit,
+					channelRetry::getPerRpcBufferLimit))
+			.to(channelRetry::setPerRpcBufferLimit);
+		Throttling channelThrottling = channelRetry.getThrottling();
+		Throttling baseConfigThrottling = baseConfigRetry.getThrottling();
+		Throttling channelDefaultsConfigThrottling = channelDefaultsConfigRetry.getThrottling();
+		map.from(channelDefaultsConfigThrottling::getMaxTokens)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigThrottling::getMaxTokens,
+					channelThrottling::getMaxTokens))
+			.to(channelThrottling::setMaxTokens);
+		map.from(channelDefaultsConfigThrottling::getTokenRatio)
+			.when(notModifiedByUserAndDefaultsSpecified(baseConfigThrottling::getTokenRatio,
+					channelThrottling::getTokenRatio))
+			.to(channelThrottling::setTokenRatio);
+	}
+
 	void applyDefaultsIfNecessary(Ssl channelSsl, Ssl channelDefaultsConfigSsl) {
 		PropertyMapper map = PropertyMapper.get();
 		Ssl baseConfigSsl = new ChannelConfig().getSsl();
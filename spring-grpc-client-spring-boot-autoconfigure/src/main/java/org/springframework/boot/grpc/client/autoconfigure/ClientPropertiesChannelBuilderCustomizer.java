@@ -16,19 +16,34 @@
 
 package org.springframework.boot.grpc.client.autoconfigure;
 
+import java.math.BigDecimal;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import org.springframework.boot.context.properties.PropertyMapper;
 import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.ConcurrencyLimit;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.Hedging;
+import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig.Retry;
 import org.springframework.grpc.client.GrpcChannelBuilderCustomizer;
+import org.springframework.grpc.client.interceptor.ConcurrencyLimitClientInterceptor;
 import org.springframework.grpc.client.interceptor.DefaultDeadlineSetupClientInterceptor;
+import org.springframework.grpc.limit.AdaptiveConcurrencyLimiter;
+import org.springframework.util.Assert;
 import org.springframework.util.unit.DataSize;
 
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
 
 /**
  * A {@link GrpcChannelBuilderCustomizer} that maps {@link GrpcClientProperties client
@@ -43,6 +58,12 @@ class ClientPropertiesChannelBuilderCustomizer<T extends ManagedChannelBuilder<T
 
 	private final GrpcClientProperties properties;
 
+	/**
+	 * Concurrency limiters keyed by target, shared by all channels to the same target as
+	 * long as the limits configured for it do not change.
+	 */
+	private final Map<String, TargetLimiter> limiters = new ConcurrentHashMap<>();
+
 	ClientPropertiesChannelBuilderCustomizer(GrpcClientProperties properties) {
 		this.properties = properties;
 	}
@@ -67,14 +88,121 @@ class ClientPropertiesChannelBuilderCustomizer<T extends ManagedChannelBuilder<T
 					? channel.getHealth().getServiceName() : "";
 			defaultServiceConfig.put("healthCheckConfig", Map.of("serviceName", serviceNameToCheck));
 		}
+		applyRetryAndHedging(target, channel, defaultServiceConfig, builder);
 		if (!defaultServiceConfig.isEmpty()) {
 			builder.defaultServiceConfig(defaultServiceConfig);
 		}
+		ConcurrencyLimit concurrencyLimit = channel.getConcurrencyLimit();
+		if (concurrencyLimit.isEnabled()) {
+			TargetLimiter limiter = this.limiters.compute(target,
+					(key, existing) -> (existing != null && existing.hasLimitsOf(concurrencyLimit)) ? existing
+							: TargetLimiter.of(concurrencyLimit));
+			builder.intercept(new ConcurrencyLimitClientInterceptor(limiter.limiter()));
+		}
 		if (channel.getDefaultDeadline() != null && channel.getDefaultDeadline().toMillis() > 0L) {
 			builder.intercept(new DefaultDeadlineSetupClientInterceptor(channel.getDefaultDeadline()));
 		}
 	}
 
+	private void applyRetryAndHedging(String target, ChannelConfig channel, Map<String, Object> serviceConfig,
+			T builder) {
+		Retry retry = channel.getRetry();
+		Hedging hedging = channel.getHedging();
+		if (!retry.isEnabled() && !hedging.isEnabled()) {
+			return;
+		}
+		List<Object> methodConfigs = new ArrayList<>();
+		if (serviceConfig.get("methodConfig") instanceof Collection<?> configuredMethodConfigs) {
+			methodConfigs.addAll(configuredMethodConfigs);
+		}
+		if (hedging.isEnabled()) {
+			Duration delay = hedging.getDelay();
+			Assert.state(delay != null && !delay.isNegative() && !delay.isZero(),
+					() -> "Channel '%s' must set a positive hedging delay".formatted(target));
+			Map<String, Object> policy = new LinkedHashMap<>();
+			policy.put("maxAttempts", (double) hedging.getMaxAttempts());
+			policy.put("hedgingDelay", durationValue(delay));
+			policy.put("nonFatalStatusCodes", statusCodes(hedging.getNonFatalStatusCodes()));
+			methodConfigs.add(Map.of("name", methodNames(hedging.getMethods()), "hedgingPolicy", policy));
+		}
+		if (retry.isEnabled()) {
+			Assert.state(!hedging.isEnabled() || !overlaps(retry.getMethods(), hedging.getMethods()),
+					() -> "Channel '%s' cannot both retry and hedge the same methods".formatted(target));
+			Map<String, Object> policy = new LinkedHashMap<>();
+			policy.put("maxAttempts", (double) retry.getMaxAttempts());
+			policy.put("initialBackoff", durationValue(retry.getInitialBackoff()));
+			policy.put("maxBackoff", durationValue(retry.getMaxBackoff()));
+			policy.put("backoffMultiplier", retry.getBackoffMultiplier());
+			policy.put("retryableStatusCodes", statusCodes(retry.getRetryableStatusCodes()));
+			methodConfigs.add(Map.of("name", methodNames(retry.getMethods()), "retryPolicy", policy));
+		}
+		assertUniqueMethodNames(target, methodConfigs);
+		serviceConfig.put("methodConfig", methodConfigs);
+		Retry.Throttling throttling = retry.getThrottling();
+		if (throttling.getMaxTokens() > 0) {
+			serviceConfig.putIfAbsent("retryThrottling",
+					Map.of("maxTokens", (double) throttling.getMaxTokens(), "tokenRatio", throttling.getTokenRatio()));
+		}
+		builder.enableRetry();
+		PropertyMapper mapper = PropertyMapper.get();
+		mapper.from(retry.getBufferSize()).as(DataSize::toBytes).to(builder::retryBufferSize);
+		mapper.from(retry.getPerRpcBufferLimit()).as(DataSize::toBytes).to(builder::perRpcBufferLimit);
+	}
+
+	private static List<Object> methodNames(List<String> methods) {
+		if (methods.isEmpty()) {
+			// An empty name applies the policy to all methods of the channel
+			return List.of(Map.of());
+		}
+		List<Object> names = new ArrayList<>();
+		for (String method : methods) {
+			int separator = method.indexOf('/');
+			names.add((separator < 0) ? Map.of("service", method)
+					: Map.of("service", method.substring(0, separator), "method", method.substring(separator + 1)));
+		}
+		return names;
+	}
+
+	/**
+	 * Check that no two method configs name the same service or method, which gRPC
+	 * rejects when the service config is parsed, long after the channel is created.
+	 * @param target the target of the channel
+	 * @param methodConfigs the raw and typed method configs of the channel
+	 */
+	private static void assertUniqueMethodNames(String target, List<Object> methodConfigs) {
+		Set<String> names = new LinkedHashSet<>();
+		for (Object methodConfig : methodConfigs) {
+			if (methodConfig instanceof Map<?, ?> config && config.get("name") instanceof Collection<?> configNames) {
+				for (Object name : configNames) {
+					if (name instanceof Map<?, ?> nameMap) {
+						String service = (nameMap.get("service") instanceof String value) ? value : "";
+						String method = (nameMap.get("method") instanceof String value) ? value : "";
+						String key = service + "/" + method;
+						Assert.state(names.add(key), () -> "Channel '%s' has more than one method config for '%s'"
+							.formatted(target, "/".equals(key) ? "all methods" : key));
+					}
+				}
+			}
+		}
+	}
+
+	private static boolean overlaps(List<String> methods, List<String> otherMethods) {
+		if (methods.isEmpty() && otherMethods.isEmpty()) {
+			return true;
+		}
+		Set<String> common = new LinkedHashSet<>(methods);
+		common.retainAll(otherMethods);
+		return !common.isEmpty();
+	}
+
+	private static List<Object> statusCodes(Set<Status.Code> codes) {
+		return codes.stream().map((code) -> (Object) code.name()).toList();
+	}
+
+	private static String durationValue(Duration duration) {
+		return BigDecimal.valueOf(duration.toNanos(), 9).stripTrailingZeros().toPlainString() + "s";
+	}
+
 	private boolean targetAllowsLoadBalancer(String authority) {
 		var targetUri = this.properties.getTarget(authority);
 		return !authority.startsWith("unix:") && !authority.startsWith("in-process:") && !targetUri.startsWith("unix:")
@@ -85,4 +213,20 @@ class ClientPropertiesChannelBuilderCustomizer<T extends ManagedChannelBuilder<T
 		return (duration) -> setter.accept(duration.toNanos(), TimeUnit.NANOSECONDS);
 	}
 
+	private record TargetLimiter(int initialLimit, int minLimit, int maxLimit, AdaptiveConcurrencyLimiter limiter) {
+
+		static TargetLimiter of(ConcurrencyLimit concurrencyLimit) {
+			return new TargetLimiter(concurrencyLimit.getInitialLimit(), concurrencyLimit.getMinLimit(),
+					concurrencyLimit.getMaxLimit(), new AdaptiveConcurrencyLimiter(concurrencyLimit.getInitialLimit(),
+							concurrencyLimit.getMinLimit(), concurrencyLimit.getMaxLimit()));
+		}
+
+		boolean hasLimitsOf(ConcurrencyLimit concurrencyLimit) {
+			return this.initialLimit == concurrencyLimit.getInitialLimit()
+					&& this.minLimit == concurrencyLimit.getMinLimit()
+					&& this.maxLimit == concurrencyLimit.getMaxLimit();
+		}
+
+	}
+
 }
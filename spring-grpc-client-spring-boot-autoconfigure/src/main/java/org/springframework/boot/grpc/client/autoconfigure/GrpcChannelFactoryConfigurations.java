@@ -26,6 +26,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.grpc.client.ChannelCredentialsProvider;
+import org.springframework.grpc.client.ChannelShutdownListener;
 import org.springframework.grpc.client.ClientInterceptorFilter;
 import org.springframework.grpc.client.ClientInterceptorsConfigurer;
 import org.springframework.grpc.client.GrpcChannelBuilderCustomizer;
@@ -59,13 +60,19 @@ class GrpcChannelFactoryConfigurations {
 				ChannelBuilderCustomizers channelBuilderCustomizers,
 				ClientInterceptorsConfigurer interceptorsConfigurer,
 				ObjectProvider<GrpcChannelFactoryCustomizer> channelFactoryCustomizers,
-				ChannelCredentialsProvider credentials) {
+				ObjectProvider<ChannelShutdownListener> shutdownListeners, ChannelCredentialsProvider credentials) {
 			List<GrpcChannelBuilderCustomizer<io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder>> builderCustomizers = List
 				.of(channelBuilderCustomizers::customize);
 			ShadedNettyGrpcChannelFactory factory = new ShadedNettyGrpcChannelFactory(builderCustomizers,
 					interceptorsConfigurer);
 			factory.setCredentialsProvider(credentials);
 			factory.setVirtualTargets(properties);
+			factory.setShareChannels(properties.isShareChannels());
+			factory.setShutdownTimeout(properties.getShutdownTimeout());
+			shutdownListeners.ifAvailable(factory::setShutdownListener);
+			factory.setEventLoopThreads(properties.getNetty().getEventLoopThreads());
+			factory.setTransportProvider((target) -> properties.getChannel(target).getTransport());
+			factory.setPoolOptionsProvider(properties);
 			channelFactoryCustomizers.orderedStream().forEach((customizer) -> customizer.customize(factory));
 			return factory;
 		}
@@ -85,12 +92,18 @@ class GrpcChannelFactoryConfigurations {
 				ChannelBuilderCustomizers channelBuilderCustomizers,
 				ClientInterceptorsConfigurer interceptorsConfigurer,
 				ObjectProvider<GrpcChannelFactoryCustomizer> channelFactoryCustomizers,
-				ChannelCredentialsProvider credentials) {
+				ObjectProvider<ChannelShutdownListener> shutdownListeners, ChannelCredentialsProvider credentials) {
 			List<GrpcChannelBuilderCustomizer<NettyChannelBuilder>> builderCustomizers = List
 				.of(channelBuilderCustomizers::customize);
 			NettyGrpcChannelFactory factory = new NettyGrpcChannelFactory(builderCustomizers, interceptorsConfigurer);
 			factory.setCredentialsProvider(credentials);
 			factory.setVirtualTargets(properties);
+			factory.setShareChannels(properties.isShareChannels());
+			factory.setShutdownTimeout(properties.getShutdownTimeout());
+			shutdownListeners.ifAvailable(factory::setShutdownListener);
+			factory.setEventLoopThreads(properties.getNetty().getEventLoopThreads());
+			factory.setTransportProvider((target) -> properties.getChannel(target).getTransport());
+			factory.setPoolOptionsProvider(properties);
 			channelFactoryCustomizers.orderedStream().forEach((customizer) -> customizer.customize(factory));
 			return factory;
 		}
@@ -110,7 +123,8 @@ class GrpcChannelFactoryConfigurations {
 				ChannelBuilderCustomizers channelBuilderCustomizers,
 				ClientInterceptorsConfigurer interceptorsConfigurer,
 				ObjectProvider<ClientInterceptorFilter> interceptorFilter,
-				ObjectProvider<GrpcChannelFactoryCustomizer> channelFactoryCustomizers) {
+				ObjectProvider<GrpcChannelFactoryCustomizer> channelFactoryCustomizers,
+				ObjectProvider<ChannelShutdownListener> shutdownListeners) {
 			List<GrpcChannelBuilderCustomizer<InProcessChannelBuilder>> inProcessBuilderCustomizers = List
 				.of(channelBuilderCustomizers::customize);
 			InProcessGrpcChannelFactory factory = new InProcessGrpcChannelFactory(inProcessBuilderCustomizers,
@@ -119,6 +133,10 @@ class GrpcChannelFactoryConfigurations {
 				factory.setInterceptorFilter(interceptorFilter.getIfAvailable(() -> null));
 			}
 			factory.setVirtualTargets(properties);
+			factory.setShareChannels(properties.isShareChannels());
+			factory.setShutdownTimeout(properties.getShutdownTimeout());
+			shutdownListeners.ifAvailable(factory::setShutdownListener);
+			factory.setPoolOptionsProvider(properties);
 			channelFactoryCustomizers.orderedStream().forEach((customizer) -> customizer.customize(factory));
 			return factory;
 		}
@@ -16,9 +16,14 @@
 
 package org.springframework.boot.grpc.client.autoconfigure;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -29,11 +34,16 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.log.LogAccessor;
 import org.springframework.grpc.client.ChannelCredentialsProvider;
 import org.springframework.grpc.client.ClientInterceptorsConfigurer;
 import org.springframework.grpc.client.CoroutineStubFactory;
+import org.springframework.grpc.client.GlobalClientInterceptor;
 import org.springframework.grpc.client.GrpcChannelBuilderCustomizer;
+import org.springframework.grpc.client.GrpcChannelFactory;
+import org.springframework.grpc.client.GrpcChannelWarmup;
 import org.springframework.grpc.client.GrpcClientFactory;
+import org.springframework.grpc.marshaller.ZeroCopyClientInterceptor;
 
 import io.grpc.CompressorRegistry;
 import io.grpc.DecompressorRegistry;
@@ -47,6 +57,8 @@ import io.grpc.ManagedChannelBuilder;
 		GrpcChannelFactoryConfigurations.InProcessChannelFactoryConfiguration.class, ClientScanConfiguration.class })
 public final class GrpcClientAutoConfiguration {
 
+	private static final LogAccessor logger = new LogAccessor(GrpcClientAutoConfiguration.class);
+
 	/**
 	 * Order applied to the {@link ClientPropertiesChannelBuilderCustomizer} used to apply
 	 * {@link GrpcClientProperties} to channel builders.
@@ -102,12 +114,70 @@ public final class GrpcClientAutoConfiguration {
 		return (name, builder) -> builder.decompressorRegistry(registry);
 	}
 
+	@Bean
+	@GlobalClientInterceptor
+	@ConditionalOnMissingBean
+	@ConditionalOnBooleanProperty("spring.grpc.client.zero-copy-marshalling")
+	ZeroCopyClientInterceptor zeroCopyClientInterceptor() {
+		return new ZeroCopyClientInterceptor();
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	GrpcChannelWarmup grpcChannelWarmup(ObjectProvider<GrpcChannelFactory> channelFactory,
+			GrpcClientProperties properties) {
+		return new GrpcChannelWarmup(channelFactory::getObject, warmupTargets(properties),
+				properties.getWarmupTimeout());
+	}
+
+	/**
+	 * Gets the names of the configured channels that have warmup enabled. Warmup is
+	 * skipped, with a warning, when channels are not shared as clients would not use the
+	 * warmed channels.
+	 * @param properties the client properties
+	 * @return the names of the channels to warm up
+	 */
+	private static List<String> warmupTargets(GrpcClientProperties properties) {
+		List<String> targets = new ArrayList<>();
+		if (properties.getDefaultChannel().isWarmup()) {
+			targets.add("default");
+		}
+		properties.getChannels().keySet().stream().sorted().forEach((name) -> {
+			if (!"default".equals(name) && properties.getChannel(name).isWarmup()) {
+				targets.add(name);
+			}
+		});
+		if (!targets.isEmpty() && !properties.isShareChannels()) {
+			logger.warn(() -> "Channel warmup is enabled for " + targets
+					+ " but is skipped because channels are not shared, set spring.grpc.client.share-channels=true"
+					+ " for clients to use the warmed channels");
+			return List.of();
+		}
+		return targets;
+	}
+
 	@ConditionalOnMissingBean
 	@Bean
 	ChannelBuilderCustomizers channelBuilderCustomizers(ObjectProvider<GrpcChannelBuilderCustomizer<?>> customizers) {
 		return new ChannelBuilderCustomizers(customizers.orderedStream().toList());
 	}
 
+	@Bean
+	@ConditionalOnBooleanProperty("spring.grpc.client.cache-clients")
+	static BeanPostProcessor grpcClientFactoryCacheClientsPostProcessor() {
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessBeforeInitialization(Object bean, String beanName) {
+				if (bean instanceof GrpcClientFactory clientFactory) {
+					clientFactory.setCacheClients(true);
+				}
+				return bean;
+			}
+
+		};
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	@ConditionalOnMissingBean(GrpcClientFactory.class)
 	@Import(DefaultGrpcClientRegistrations.class)
@@ -18,24 +18,34 @@ package org.springframework.boot.grpc.client.autoconfigure;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.convert.DurationUnit;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.StandardEnvironment;
 import org.springframework.grpc.client.BlockingStubFactory;
+import org.springframework.grpc.client.ChannelPoolOptions;
+import org.springframework.grpc.client.ChannelPoolOptionsProvider;
 import org.springframework.grpc.client.NegotiationType;
 import org.springframework.grpc.client.StubFactory;
 import org.springframework.grpc.client.VirtualTargets;
+import org.springframework.grpc.netty.NettyTransport;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.unit.DataSize;
 
 import io.grpc.ManagedChannel;
+import io.grpc.Status;
 
 /**
  * Configuration properties for the gRPC client side.
@@ -45,7 +55,8 @@ import io.grpc.ManagedChannel;
  * @author Vahid Ramezani
  */
 @ConfigurationProperties(prefix = "spring.grpc.client")
-public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
+public class GrpcClientProperties
+		implements EnvironmentAware, InitializingBean, VirtualTargets, ChannelPoolOptionsProvider {
 
 	/**
 	 * Map of channels configured by name.
@@ -71,10 +82,47 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 	 */
 	private Class<? extends StubFactory<?>> defaultStubFactory = BlockingStubFactory.class;
 
+	/**
+	 * Whether the client factory should return the same client for repeated requests with
+	 * the same target, type and stub factory, with all clients for a target sharing a
+	 * single channel.
+	 */
+	private boolean cacheClients;
+
+	/**
+	 * Whether channels created for the same target and options should share a single
+	 * underlying channel that is shut down once its last user has released it.
+	 */
+	private boolean shareChannels;
+
+	/**
+	 * Maximum time to wait for all channels to terminate on shutdown. Channels with a
+	 * longer grace period are forcefully shut down once it has elapsed.
+	 */
+	private @Nullable Duration shutdownTimeout;
+
+	/**
+	 * Whether clients should parse protobuf responses directly from the transport buffers
+	 * instead of first copying each message into a byte array.
+	 */
+	private boolean zeroCopyMarshalling;
+
+	/**
+	 * Maximum time to wait on startup for channels with warmup enabled to become ready.
+	 */
+	private Duration warmupTimeout = Duration.ofSeconds(10);
+
+	private final Netty netty = new Netty();
+
 	private Environment environment;
 
 	private ChannelConfigUtils channelConfigUtils;
 
+	/**
+	 * Channels resolved by {@link #getChannel(String)} keyed by name.
+	 */
+	private final Map<String, ChannelConfig> resolvedChannels = new ConcurrentReferenceHashMap<>();
+
 	GrpcClientProperties() {
 		this.defaultChannel.setAddress("static://localhost:9090");
 		this.environment = new StandardEnvironment();
@@ -101,11 +149,63 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 		this.defaultStubFactory = defaultStubFactory;
 	}
 
+	public boolean isCacheClients() {
+		return this.cacheClients;
+	}
+
+	public void setCacheClients(boolean cacheClients) {
+		this.cacheClients = cacheClients;
+	}
+
+	public boolean isShareChannels() {
+		return this.shareChannels;
+	}
+
+	public void setShareChannels(boolean shareChannels) {
+		this.shareChannels = shareChannels;
+	}
+
+	public @Nullable Duration getShutdownTimeout() {
+		return this.shutdownTimeout;
+	}
+
+	public void setShutdownTimeout(@Nullable Duration shutdownTimeout) {
+		this.shutdownTimeout = shutdownTimeout;
+	}
+
+	public boolean isZeroCopyMarshalling() {
+		return this.zeroCopyMarshalling;
+	}
+
+	public void setZeroCopyMarshalling(boolean zeroCopyMarshalling) {
+		this.zeroCopyMarshalling = zeroCopyMarshalling;
+	}
+
+	public Duration getWarmupTimeout() {
+		return this.warmupTimeout;
+	}
+
+	public void setWarmupTimeout(Duration warmupTimeout) {
+		this.warmupTimeout = warmupTimeout;
+	}
+
+	public Netty getNetty() {
+		return this.netty;
+	}
+
 	@Override
 	public void setEnvironment(Environment environment) {
 		this.environment = environment;
 	}
 
+	/**
+	 * Clears the resolved channels when the properties are (re)bound.
+	 */
+	@Override
+	public void afterPropertiesSet() {
+		this.resolvedChannels.clear();
+	}
+
 	// VisibleForTesting
 	void setChannelConfigUtils(ChannelConfigUtils channelConfigUtils) {
 		this.channelConfigUtils = channelConfigUtils;
@@ -120,6 +220,11 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 	 * property set to {@code true} then the global channel defaults (i.e.
 	 * 'spring.grpc.client.channel-defaults') are applied to properties that were not
 	 * explicitly set on the channel by the user.
+	 * <p>
+	 * Channels that need resolving (i.e. unknown names or channels that inherit the
+	 * defaults) are resolved once per name and the result is reused until the properties
+	 * are bound again. Defaults are applied to a copy so the configured channel is never
+	 * modified. The returned instance is shared and must not be modified.
 	 * @param name the name of the channel
 	 * @return the configured channel if found, or a newly created channel using the
 	 * default channel as a template with channel defaults applied when the channel
@@ -127,16 +232,17 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 	 * {@code true}
 	 */
 	public ChannelConfig getChannel(String name) {
-		if ("default".equals(name)) {
-			return this.defaultChannel.isInheritDefaults()
-					? this.channelConfigUtils.applyDefaultsIfNecessary(this.defaultChannel, this.channelDefaults)
-					: this.defaultChannel;
+		ChannelConfig channel = "default".equals(name) ? this.defaultChannel : this.channels.get(name);
+		if (channel != null && !channel.isInheritDefaults()) {
+			return channel;
 		}
-		ChannelConfig namedChannel = this.channels.get(name);
+		return this.resolvedChannels.computeIfAbsent(name, this::resolveChannel);
+	}
+
+	private ChannelConfig resolveChannel(String name) {
+		ChannelConfig namedChannel = "default".equals(name) ? this.defaultChannel : this.channels.get(name);
 		if (namedChannel != null) {
-			return namedChannel.isInheritDefaults()
-					? this.channelConfigUtils.applyDefaultsIfNecessary(namedChannel, this.channelDefaults)
-					: namedChannel;
+			return this.channelConfigUtils.applyDefaultsIfNecessary(namedChannel.copy(), this.channelDefaults);
 		}
 		ChannelConfig newChannel = this.defaultChannel.copy();
 		newChannel = newChannel.isInheritDefaults()
@@ -168,6 +274,13 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 		return this.environment.resolvePlaceholders(address);
 	}
 
+	@Override
+	public ChannelPoolOptions getPoolOptions(String path) {
+		ChannelConfig.Pool pool = this.getChannel(path).getPool();
+		return (pool.getSize() > 1) ? new ChannelPoolOptions(pool.getSize(), pool.getSelection())
+				: ChannelPoolOptions.SINGLE;
+	}
+
 	/**
 	 * Represents the configuration for a {@link ManagedChannel gRPC channel}.
 	 */
@@ -183,6 +296,8 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 		 */
 		private @Nullable Duration defaultDeadline;
 
+		private final ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+
 		/**
 		 * The load balancing policy the channel should use.
 		 */
@@ -195,6 +310,8 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 
 		private final Health health = new Health();
 
+		private final Hedging hedging = new Hedging();
+
 		/**
 		 * The duration without ongoing RPCs before going to idle mode.
 		 */
@@ -243,6 +360,10 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 		 */
 		private NegotiationType negotiationType = NegotiationType.PLAINTEXT;
 
+		private final Pool pool = new Pool();
+
+		private final Retry retry = new Retry();
+
 		/**
 		 * Flag to say that strict SSL checks are not enabled (so the remote certificate
 		 * could be anonymous).
@@ -256,11 +377,24 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 
 		private final Ssl ssl = new Ssl();
 
+		/**
+		 * The Netty transport to use for the channel. Channels to unix domain sockets
+		 * always use epoll.
+		 */
+		private NettyTransport transport = NettyTransport.AUTO;
+
 		/**
 		 * The custom User-Agent for the channel.
 		 */
 		private @Nullable String userAgent;
 
+		/**
+		 * Whether to connect the channel when the application starts rather than on its
+		 * first call. Requires channels to be shared so that clients use the connected
+		 * channel.
+		 */
+		private boolean warmup;
+
 		public String getAddress() {
 			return this.address;
 		}
@@ -293,10 +427,18 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 			this.enableKeepAlive = enableKeepAlive;
 		}
 
+		public ConcurrencyLimit getConcurrencyLimit() {
+			return this.concurrencyLimit;
+		}
+
 		public Health getHealth() {
 			return this.health;
 		}
 
+		public Hedging getHedging() {
+			return this.hedging;
+		}
+
 		public Duration getIdleTimeout() {
 			return this.idleTimeout;
 		}
@@ -375,6 +517,14 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 			this.negotiationType = negotiationType;
 		}
 
+		public Pool getPool() {
+			return this.pool;
+		}
+
+		public Retry getRetry() {
+			return this.retry;
+		}
+
 		public boolean isSecure() {
 			return this.secure;
 		}
@@ -391,6 +541,14 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 			return this.ssl;
 		}
 
+		public NettyTransport getTransport() {
+			return this.transport;
+		}
+
+		public void setTransport(NettyTransport transport) {
+			this.transport = transport;
+		}
+
 		public @Nullable String getUserAgent() {
 			return this.userAgent;
 		}
@@ -399,6 +557,14 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 			this.userAgent = userAgent;
 		}
 
+		public boolean isWarmup() {
+			return this.warmup;
+		}
+
+		public void setWarmup(boolean warmup) {
+			this.warmup = warmup;
+		}
+
 		/**
 		 * Provide a copy of the channel instance.
 		 * @return a copy of the channel instance.
@@ -418,9 +584,15 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 			copy.maxInboundMetadataSize = this.maxInboundMetadataSize;
 			copy.userAgent = this.userAgent;
 			copy.defaultDeadline = this.defaultDeadline;
+			copy.concurrencyLimit.copyValuesFrom(this.getConcurrencyLimit());
 			copy.health.copyValuesFrom(this.getHealth());
+			copy.hedging.copyValuesFrom(this.getHedging());
+			copy.pool.copyValuesFrom(this.getPool());
+			copy.retry.copyValuesFrom(this.getRetry());
 			copy.secure = this.secure;
 			copy.ssl.copyValuesFrom(this.getSsl());
+			copy.transport = this.transport;
+			copy.warmup = this.warmup;
 			copy.serviceConfig.putAll(this.serviceConfig);
 			return copy;
 		}
@@ -430,6 +602,75 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 			return ConfigurationPropertiesMapUtils.convertIntegerKeyedMapsToLists(getServiceConfig());
 		}
 
+		public static class ConcurrencyLimit {
+
+			/**
+			 * Whether to limit the number of calls in flight on the channel, adapting the
+			 * limit to the response times of the target. Calls over the limit fail with
+			 * RESOURCE_EXHAUSTED.
+			 */
+			private boolean enabled;
+
+			/**
+			 * Number of calls allowed in flight before any response times are known.
+			 */
+			private int initialLimit = 20;
+
+			/**
+			 * Lowest number of calls in flight the limit may shrink to.
+			 */
+			private int minLimit = 1;
+
+			/**
+			 * Highest number of calls in flight the limit may grow to.
+			 */
+			private int maxLimit = 200;
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public int getInitialLimit() {
+				return this.initialLimit;
+			}
+
+			public void setInitialLimit(int initialLimit) {
+				this.initialLimit = initialLimit;
+			}
+
+			public int getMinLimit() {
+				return this.minLimit;
+			}
+
+			public void setMinLimit(int minLimit) {
+				this.minLimit = minLimit;
+			}
+
+			public int getMaxLimit() {
+				return this.maxLimit;
+			}
+
+			public void setMaxLimit(int maxLimit) {
+				this.maxLimit = maxLimit;
+			}
+
+			/**
+			 * Copies the values from another instance.
+			 * @param other instance to copy values from
+			 */
+			void copyValuesFrom(ConcurrencyLimit other) {
+				this.enabled = other.enabled;
+				this.initialLimit = other.initialLimit;
+				this.minLimit = other.minLimit;
+				this.maxLimit = other.maxLimit;
+			}
+
+		}
+
 		public static class Health {
 
 			/**
@@ -469,6 +710,320 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 
 		}
 
+		public static class Hedging {
+
+			/**
+			 * Whether to hedge calls on the channel by sending further attempts when no
+			 * response has been received after the hedging delay.
+			 */
+			private boolean enabled;
+
+			/**
+			 * Methods to hedge, as a fully qualified service name or as 'service/method'.
+			 * When empty, all methods of the channel are hedged.
+			 */
+			private List<String> methods = new ArrayList<>();
+
+			/**
+			 * Maximum number of attempts, including the original call.
+			 */
+			private int maxAttempts = 2;
+
+			/**
+			 * Delay before sending each further attempt, usually a high percentile of the
+			 * latency of the hedged methods. Required when hedging is enabled.
+			 */
+			private @Nullable Duration delay;
+
+			/**
+			 * Status codes that do not cancel the outstanding attempts of a hedged call.
+			 */
+			private Set<Status.Code> nonFatalStatusCodes = new LinkedHashSet<>();
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public List<String> getMethods() {
+				return this.methods;
+			}
+
+			public void setMethods(List<String> methods) {
+				this.methods = new ArrayList<>(methods);
+			}
+
+			public int getMaxAttempts() {
+				return this.maxAttempts;
+			}
+
+			public void setMaxAttempts(int maxAttempts) {
+				this.maxAttempts = maxAttempts;
+			}
+
+			public @Nullable Duration getDelay() {
+				return this.delay;
+			}
+
+			public void setDelay(@Nullable Duration delay) {
+				this.delay = delay;
+			}
+
+			public Set<Status.Code> getNonFatalStatusCodes() {
+				return this.nonFatalStatusCodes;
+			}
+
+			public void setNonFatalStatusCodes(Set<Status.Code> nonFatalStatusCodes) {
+				this.nonFatalStatusCodes = new LinkedHashSet<>(nonFatalStatusCodes);
+			}
+
+			/**
+			 * Copies the values from another instance.
+			 * @param other instance to copy values from
+			 */
+			void copyValuesFrom(Hedging other) {
+				this.enabled = other.enabled;
+				this.methods = new ArrayList<>(other.methods);
+				this.maxAttempts = other.maxAttempts;
+				this.delay = other.delay;
+				this.nonFatalStatusCodes = new LinkedHashSet<>(other.nonFatalStatusCodes);
+			}
+
+		}
+
+		public static class Pool {
+
+			/**
+			 * Number of underlying channels (and therefore connections) that calls on the
+			 * channel are spread across.
+			 */
+			private int size = 1;
+
+			/**
+			 * How the underlying channel is selected for each call when the pool size is
+			 * greater than 1.
+			 */
+			private ChannelPoolOptions.Selection selection = ChannelPoolOptions.Selection.ROUND_ROBIN;
+
+			public int getSize() {
+				return this.size;
+			}
+
+			public void setSize(int size) {
+				this.size = size;
+			}
+
+			public ChannelPoolOptions.Selection getSelection() {
+				return this.selection;
+			}
+
+			public void setSelection(ChannelPoolOptions.Selection selection) {
+				this.selection = selection;
+			}
+
+			/**
+			 * Copies the values from another instance.
+			 * @param other instance to copy values from
+			 */
+			void copyValuesFrom(Pool other) {
+				this.size = other.size;
+				this.selection = other.selection;
+			}
+
+		}
+
+		public static class Retry {
+
+			/**
+			 * Whether to retry failed calls on the channel.
+			 */
+			private boolean enabled;
+
+			/**
+			 * Methods to retry, as a fully qualified service name or as 'service/method'.
+			 * When empty, all methods of the channel are retried.
+			 */
+			private List<String> methods = new ArrayList<>();
+
+			/**
+			 * Maximum number of attempts, including the original call.
+			 */
+			private int maxAttempts = 3;
+
+			/**
+			 * Delay before the first retry.
+			 */
+			private Duration initialBackoff = Duration.ofMillis(100);
+
+			/**
+			 * Maximum delay between retries.
+			 */
+			private Duration maxBackoff = Duration.ofSeconds(1);
+
+			/**
+			 * Multiplier applied to the delay after each retry.
+			 */
+			private double backoffMultiplier = 2.0;
+
+			/**
+			 * Status codes for which a failed call is retried.
+			 */
+			private Set<Status.Code> retryableStatusCodes = new LinkedHashSet<>(Set.of(Status.Code.UNAVAILABLE));
+
+			/**
+			 * Maximum memory used across the channel to buffer the messages of retried
+			 * and hedged calls. When not set, the gRPC default is used.
+			 */
+			private @Nullable DataSize bufferSize;
+
+			/**
+			 * Maximum memory used to buffer the messages of a single retried or hedged
+			 * call. When not set, the gRPC default is used.
+			 */
+			private @Nullable DataSize perRpcBufferLimit;
+
+			private final Throttling throttling = new Throttling();
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public List<String> getMethods() {
+				return this.methods;
+			}
+
+			public void setMethods(List<String> methods) {
+				this.methods = new ArrayList<>(methods);
+			}
+
+			public int getMaxAttempts() {
+				return this.maxAttempts;
+			}
+
+			public void setMaxAttempts(int maxAttempts) {
+				this.maxAttempts = maxAttempts;
+			}
+
+			public Duration getInitialBackoff() {
+				return this.initialBackoff;
+			}
+
+			public void setInitialBackoff(Duration initialBackoff) {
+				this.initialBackoff = initialBackoff;
+			}
+
+			public Duration getMaxBackoff() {
+				return this.maxBackoff;
+			}
+
+			public void setMaxBackoff(Duration maxBackoff) {
+				this.maxBackoff = maxBackoff;
+			}
+
+			public double getBackoffMultiplier() {
+				return this.backoffMultiplier;
+			}
+
+			public void setBackoffMultiplier(double backoffMultiplier) {
+				this.backoffMultiplier = backoffMultiplier;
+			}
+
+			public Set<Status.Code> getRetryableStatusCodes() {
+				return this.retryableStatusCodes;
+			}
+
+			public void setRetryableStatusCodes(Set<Status.Code> retryableStatusCodes) {
+				this.retryableStatusCodes = new LinkedHashSet<>(retryableStatusCodes);
+			}
+
+			public @Nullable DataSize getBufferSize() {
+				return this.bufferSize;
+			}
+
+			public void setBufferSize(@Nullable DataSize bufferSize) {
+				this.bufferSize = bufferSize;
+			}
+
+			public @Nullable DataSize getPerRpcBufferLimit() {
+				return this.perRpcBufferLimit;
+			}
+
+			public void setPerRpcBufferLimit(@Nullable DataSize perRpcBufferLimit) {
+				this.perRpcBufferLimit = perRpcBufferLimit;
+			}
+
+			public Throttling getThrottling() {
+				return this.throttling;
+			}
+
+			/**
+			 * Copies the values from another instance.
+			 * @param other instance to copy values from
+			 */
+			void copyValuesFrom(Retry other) {
+				this.enabled = other.enabled;
+				this.methods = new ArrayList<>(other.methods);
+				this.maxAttempts = other.maxAttempts;
+				this.initialBackoff = other.initialBackoff;
+				this.maxBackoff = other.maxBackoff;
+				this.backoffMultiplier = other.backoffMultiplier;
+				this.retryableStatusCodes = new LinkedHashSet<>(other.retryableStatusCodes);
+				this.bufferSize = other.bufferSize;
+				this.perRpcBufferLimit = other.perRpcBufferLimit;
+				this.throttling.copyValuesFrom(other.throttling);
+			}
+
+			public static class Throttling {
+
+				/**
+				 * Size of the token bucket that throttles retries and hedging when calls
+				 * keep failing. Each failure removes a token and each success adds the
+				 * token ratio, and no further attempts are made while at most half of the
+				 * tokens are left. When 0, attempts are not throttled.
+				 */
+				private int maxTokens;
+
+				/**
+				 * Number of tokens added back for each successful call.
+				 */
+				private double tokenRatio = 0.1;
+
+				public int getMaxTokens() {
+					return this.maxTokens;
+				}
+
+				public void setMaxTokens(int maxTokens) {
+					this.maxTokens = maxTokens;
+				}
+
+				public double getTokenRatio() {
+					return this.tokenRatio;
+				}
+
+				public void setTokenRatio(double tokenRatio) {
+					this.tokenRatio = tokenRatio;
+				}
+
+				/**
+				 * Copies the values from another instance.
+				 * @param other instance to copy values from
+				 */
+				void copyValuesFrom(Throttling other) {
+					this.maxTokens = other.maxTokens;
+					this.tokenRatio = other.tokenRatio;
+				}
+
+			}
+
+		}
+
 		public static class Ssl {
 
 			/**
@@ -515,4 +1070,23 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 
 	}
 
+	public static class Netty {
+
+		/**
+		 * Number of threads of each event loop group shared by the channels. When the
+		 * value is 0, the Netty default is used and channels using the 'auto' transport
+		 * keep the default gRPC event loop group.
+		 */
+		private int eventLoopThreads;
+
+		public int getEventLoopThreads() {
+			return this.eventLoopThreads;
+		}
+
+		public void setEventLoopThreads(int eventLoopThreads) {
+			this.eventLoopThreads = eventLoopThreads;
+		}
+
+	}
+
 }
@@ -16,6 +16,10 @@
 
 package org.springframework.boot.grpc.client.autoconfigure;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
 import javax.net.ssl.TrustManagerFactory;
 
 import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig;
@@ -32,6 +36,11 @@ import io.grpc.TlsChannelCredentials;
 
 /**
  * Provides channel credentials using channel configuration and {@link SslBundles}.
+ * <p>
+ * TLS credentials created from an SSL bundle are cached per bundle and secure flag. Each
+ * update of a bundle starts a new generation of it, and credentials cached for an earlier
+ * generation are replaced on their next use, including credentials that were being
+ * created from the previous bundle while it was updated.
  *
  * @author David Syer
  */
@@ -41,6 +50,10 @@ class NamedChannelCredentialsProvider implements ChannelCredentialsProvider {
 
 	private final GrpcClientProperties properties;
 
+	private final Map<BundleCredentialsKey, CachedCredentials> bundleCredentials = new ConcurrentHashMap<>();
+
+	private final Map<String, AtomicLong> bundleGenerations = new ConcurrentHashMap<>();
+
 	NamedChannelCredentialsProvider(SslBundles bundles, GrpcClientProperties properties) {
 		this.bundles = bundles;
 		this.properties = properties;
@@ -56,13 +69,7 @@ class NamedChannelCredentialsProvider implements ChannelCredentialsProvider {
 		if (sslEnabled) {
 			String bundleName = channel.getSsl().getBundle();
 			Assert.notNull(bundleName, "Bundle name must not be null when SSL is enabled");
-			SslBundle bundle = this.bundles.getBundle(bundleName);
-			TrustManagerFactory trustManagers = channel.isSecure() ? bundle.getManagers().getTrustManagerFactory()
-					: InsecureTrustManagerFactory.INSTANCE;
-			return TlsChannelCredentials.newBuilder()
-				.keyManager(bundle.getManagers().getKeyManagerFactory().getKeyManagers())
-				.trustManager(trustManagers.getTrustManagers())
-				.build();
+			return getBundleCredentials(new BundleCredentialsKey(bundleName, channel.isSecure()));
 		}
 		else {
 			if (channel.isSecure()) {
@@ -76,4 +83,43 @@ class NamedChannelCredentialsProvider implements ChannelCredentialsProvider {
 		}
 	}
 
+	private ChannelCredentials getBundleCredentials(BundleCredentialsKey key) {
+		AtomicLong generation = bundleGeneration(key.bundleName());
+		CachedCredentials cached = this.bundleCredentials.get(key);
+		if (cached != null && cached.generation() == generation.get()) {
+			return cached.credentials();
+		}
+		return this.bundleCredentials.compute(key, (cachedKey, existing) -> {
+			// Read the generation before the bundle so that an update in between leaves
+			// the new entry stale rather than current
+			long current = generation.get();
+			return (existing != null && existing.generation() == current) ? existing
+					: new CachedCredentials(current, createBundleCredentials(cachedKey));
+		}).credentials();
+	}
+
+	private AtomicLong bundleGeneration(String bundleName) {
+		return this.bundleGenerations.computeIfAbsent(bundleName, (name) -> {
+			AtomicLong generation = new AtomicLong();
+			this.bundles.addBundleUpdateHandler(name, (updatedBundle) -> generation.incrementAndGet());
+			return generation;
+		});
+	}
+
+	private ChannelCredentials createBundleCredentials(BundleCredentialsKey key) {
+		SslBundle bundle = this.bundles.getBundle(key.bundleName());
+		TrustManagerFactory trustManagers = key.secure() ? bundle.getManagers().getTrustManagerFactory()
+				: InsecureTrustManagerFactory.INSTANCE;
+		return TlsChannelCredentials.newBuilder()
+			.keyManager(bundle.getManagers().getKeyManagerFactory().getKeyManagers())
+			.trustManager(trustManagers.getTrustManagers())
+			.build();
+	}
+
+	record BundleCredentialsKey(String bundleName, boolean secure) {
+	}
+
+	private record CachedCredentials(long generation, ChannelCredentials credentials) {
+	}
+
 }
@@ -19,14 +19,20 @@ package org.springframework.boot.grpc.client.autoconfigure;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig;
+import org.springframework.grpc.client.ChannelPoolOptions;
 import org.springframework.grpc.client.NegotiationType;
+import org.springframework.grpc.netty.NettyTransport;
 import org.springframework.util.unit.DataSize;
 
+import io.grpc.Status;
+
 /**
  * Tests for {@link ChannelConfigUtils#applyDefaultsIfNecessary}.
  *
@@ -42,10 +48,19 @@ class ChannelConfigUtilsApplyDefaultsTests {
 		channel.setDefaultDeadline(
 				Optional.ofNullable(channel.getDefaultDeadline()).orElse(Duration.ofSeconds(1)).plusSeconds(60));
 		channel.setDefaultLoadBalancingPolicy(channel.getDefaultLoadBalancingPolicy() + "1");
+		channel.getConcurrencyLimit().setEnabled(!channel.getConcurrencyLimit().isEnabled());
+		channel.getConcurrencyLimit().setInitialLimit(channel.getConcurrencyLimit().getInitialLimit() + 1);
+		channel.getConcurrencyLimit().setMinLimit(channel.getConcurrencyLimit().getMinLimit() + 1);
+		channel.getConcurrencyLimit().setMaxLimit(channel.getConcurrencyLimit().getMaxLimit() + 1);
 		channel.setEnableKeepAlive(!channel.isEnableKeepAlive());
 		channel.getHealth().setEnabled(!channel.getHealth().isEnabled());
 		channel.getHealth()
 			.setServiceName(Optional.ofNullable(channel.getHealth().getServiceName()).orElse("someservice") + "1");
+		channel.getHedging().setEnabled(!channel.getHedging().isEnabled());
+		channel.getHedging().setMethods(List.of("example.Service"));
+		channel.getHedging().setMaxAttempts(channel.getHedging().getMaxAttempts() + 1);
+		channel.getHedging().setDelay(Duration.ofMillis(10));
+		channel.getHedging().setNonFatalStatusCodes(Set.of(Status.Code.ABORTED));
 		channel.setIdleTimeout(channel.getIdleTimeout().plusSeconds(60));
 		channel.setInheritDefaults(!channel.isInheritDefaults());
 		channel.setKeepAliveTime(channel.getKeepAliveTime().plusSeconds(60));
@@ -55,11 +70,29 @@ class ChannelConfigUtilsApplyDefaultsTests {
 		channel.setMaxInboundMetadataSize(DataSize.ofBytes(channel.getMaxInboundMetadataSize().toBytes() + 1000L));
 		int nextIdx = channel.getNegotiationType().ordinal() % NegotiationType.values().length;
 		channel.setNegotiationType(NegotiationType.values()[nextIdx]);
+		channel.getPool().setSize(channel.getPool().getSize() + 1);
+		int nextSelectionIdx = (channel.getPool().getSelection().ordinal() + 1)
+				% ChannelPoolOptions.Selection.values().length;
+		channel.getPool().setSelection(ChannelPoolOptions.Selection.values()[nextSelectionIdx]);
+		channel.getRetry().setEnabled(!channel.getRetry().isEnabled());
+		channel.getRetry().setMethods(List.of("example.Service/Method"));
+		channel.getRetry().setMaxAttempts(channel.getRetry().getMaxAttempts() + 1);
+		channel.getRetry().setInitialBackoff(channel.getRetry().getInitialBackoff().plusMillis(10));
+		channel.getRetry().setMaxBackoff(channel.getRetry().getMaxBackoff().plusMillis(10));
+		channel.getRetry().setBackoffMultiplier(channel.getRetry().getBackoffMultiplier() + 1);
+		channel.getRetry().setRetryableStatusCodes(Set.of(Status.Code.INTERNAL));
+		channel.getRetry().setBufferSize(DataSize.ofMegabytes(1));
+		channel.getRetry().setPerRpcBufferLimit(DataSize.ofKilobytes(64));
+		channel.getRetry().getThrottling().setMaxTokens(channel.getRetry().getThrottling().getMaxTokens() + 10);
+		channel.getRetry().getThrottling().setTokenRatio(channel.getRetry().getThrottling().getTokenRatio() + 0.1);
 		channel.setSecure(!channel.isSecure());
 		channel.getSsl().setEnabled(!Optional.ofNullable(channel.getSsl().isEnabled()).orElse(false));
 		channel.getSsl().setBundle(Optional.ofNullable(channel.getSsl().getBundle()).orElse("somebundle") + "1");
 		channel.getServiceConfig().put("some", "entry");
+		channel.setTransport(
+				NettyTransport.values()[(channel.getTransport().ordinal() + 1) % NettyTransport.values().length]);
 		channel.setUserAgent(Optional.ofNullable(channel.getUserAgent()).orElse("someguy") + "1");
+		channel.setWarmup(!channel.isWarmup());
 		return channel;
 	}
 
@@ -17,18 +17,24 @@
 package org.springframework.boot.grpc.client.autoconfigure;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 
@@ -38,18 +44,26 @@ import org.springframework.boot.grpc.client.autoconfigure.GrpcClientAutoConfigur
 import org.springframework.boot.ssl.SslBundles;
 import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 import org.springframework.grpc.client.ChannelCredentialsProvider;
+import org.springframework.grpc.client.ChannelShutdownListener;
 import org.springframework.grpc.client.GrpcChannelBuilderCustomizer;
 import org.springframework.grpc.client.GrpcChannelFactory;
+import org.springframework.grpc.client.GrpcChannelWarmup;
 import org.springframework.grpc.client.GrpcClientFactory;
 import org.springframework.grpc.client.InProcessGrpcChannelFactory;
 import org.springframework.grpc.client.NettyGrpcChannelFactory;
 import org.springframework.grpc.client.ShadedNettyGrpcChannelFactory;
+import org.springframework.grpc.client.interceptor.ConcurrencyLimitClientInterceptor;
+import org.springframework.grpc.marshaller.ZeroCopyClientInterceptor;
+import org.springframework.grpc.netty.NettyTransport;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import io.grpc.ClientInterceptor;
 import io.grpc.Codec;
 import io.grpc.CompressorRegistry;
 import io.grpc.DecompressorRegistry;
@@ -110,6 +124,18 @@ class GrpcClientAutoConfigurationTests {
 			.run((context) -> assertThat(context).hasSingleBean(GrpcClientAutoConfiguration.class));
 	}
 
+	@Test
+	void zeroCopyClientInterceptorAutoConfiguredWhenPropertySet() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.zero-copy-marshalling=true")
+			.run((context) -> assertThat(context).hasSingleBean(ZeroCopyClientInterceptor.class));
+	}
+
+	@Test
+	void zeroCopyClientInterceptorNotAutoConfiguredByDefault() {
+		this.contextRunner().run((context) -> assertThat(context).doesNotHaveBean(ZeroCopyClientInterceptor.class));
+	}
+
 	@Test
 	void whenHasUserDefinedCredentialsProviderDoesNotAutoConfigureBean() {
 		ChannelCredentialsProvider customCredentialsProvider = mock(ChannelCredentialsProvider.class);
@@ -166,6 +192,131 @@ class GrpcClientAutoConfigurationTests {
 		});
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void clientPropertiesChannelCustomizerAutoConfiguredWithRetryAndHedging() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.channels.test.retry.enabled=true",
+					"spring.grpc.client.channels.test.retry.max-attempts=4",
+					"spring.grpc.client.channels.test.retry.initial-backoff=50ms",
+					"spring.grpc.client.channels.test.retry.retryable-status-codes=unavailable,aborted",
+					"spring.grpc.client.channels.test.retry.buffer-size=1MB",
+					"spring.grpc.client.channels.test.retry.throttling.max-tokens=10",
+					"spring.grpc.client.channels.test.hedging.enabled=true",
+					"spring.grpc.client.channels.test.hedging.methods=example.Catalog/GetItem",
+					"spring.grpc.client.channels.test.hedging.delay=20ms")
+			.run((context) -> {
+				var customizer = context.getBean("clientPropertiesChannelCustomizer",
+						GrpcChannelBuilderCustomizer.class);
+				ManagedChannelBuilder<?> builder = Mockito.mock();
+				customizer.customize("test", builder);
+				ArgumentCaptor<Map<String, ?>> serviceConfig = ArgumentCaptor.captor();
+				then(builder).should().defaultServiceConfig(serviceConfig.capture());
+				then(builder).should().enableRetry();
+				then(builder).should().retryBufferSize(1024 * 1024);
+				assertThat(serviceConfig.getValue().get("retryThrottling"))
+					.isEqualTo(Map.of("maxTokens", 10.0, "tokenRatio", 0.1));
+				assertThat((List<Map<String, Object>>) serviceConfig.getValue().get("methodConfig"))
+					.containsExactly(
+							Map.of("name", List.of(Map.of("service", "example.Catalog", "method", "GetItem")),
+									"hedgingPolicy",
+									Map.of("maxAttempts", 2.0, "hedgingDelay", "0.02s", "nonFatalStatusCodes",
+											List.of())),
+							Map.of("name", List.of(Map.of()), "retryPolicy",
+									Map.of("maxAttempts", 4.0, "initialBackoff", "0.05s", "maxBackoff", "1s",
+											"backoffMultiplier", 2.0, "retryableStatusCodes",
+											List.of("UNAVAILABLE", "ABORTED"))));
+				// The generated service config must also be accepted by a real channel
+				NettyChannelBuilder realBuilder = NettyChannelBuilder.forTarget("dns:///localhost:9090");
+				customizer.customize("test", realBuilder);
+				realBuilder.build().shutdownNow();
+			});
+	}
+
+	@Test
+	void clientPropertiesChannelCustomizerRejectsRetryAndHedgingOfSameMethods() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.channels.test.retry.enabled=true",
+					"spring.grpc.client.channels.test.hedging.enabled=true",
+					"spring.grpc.client.channels.test.hedging.delay=20ms")
+			.run((context) -> {
+				var customizer = context.getBean("clientPropertiesChannelCustomizer",
+						GrpcChannelBuilderCustomizer.class);
+				ManagedChannelBuilder<?> builder = Mockito.mock();
+				assertThatIllegalStateException().isThrownBy(() -> customizer.customize("test", builder))
+					.withMessage("Channel 'test' cannot both retry and hedge the same methods");
+			});
+	}
+
+	@Test
+	void clientPropertiesChannelCustomizerRejectsHedgingWithoutDelay() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.channels.test.hedging.enabled=true")
+			.run((context) -> {
+				var customizer = context.getBean("clientPropertiesChannelCustomizer",
+						GrpcChannelBuilderCustomizer.class);
+				ManagedChannelBuilder<?> builder = Mockito.mock();
+				assertThatIllegalStateException().isThrownBy(() -> customizer.customize("test", builder))
+					.withMessage("Channel 'test' must set a positive hedging delay");
+			});
+	}
+
+	@Test
+	void clientPropertiesChannelCustomizerRejectsPolicyDuplicatingServiceConfig() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.channels.test.retry.enabled=true")
+			.run((context) -> {
+				context.getBean(GrpcClientProperties.class)
+					.getChannel("test")
+					.getServiceConfig()
+					.put("methodConfig", List.of(Map.of("name", List.of(Map.of()), "timeout", "1s")));
+				var customizer = context.getBean("clientPropertiesChannelCustomizer",
+						GrpcChannelBuilderCustomizer.class);
+				ManagedChannelBuilder<?> builder = Mockito.mock();
+				assertThatIllegalStateException().isThrownBy(() -> customizer.customize("test", builder))
+					.withMessage("Channel 'test' has more than one method config for 'all methods'");
+			});
+	}
+
+	@Test
+	void clientPropertiesChannelCustomizerAutoConfiguredWithConcurrencyLimit() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.channels.test.concurrency-limit.enabled=true",
+					"spring.grpc.client.channels.test.concurrency-limit.initial-limit=5")
+			.run((context) -> {
+				var customizer = context.getBean("clientPropertiesChannelCustomizer",
+						GrpcChannelBuilderCustomizer.class);
+				ManagedChannelBuilder<?> builder = Mockito.mock();
+				customizer.customize("test", builder);
+				customizer.customize("test", builder);
+				ArgumentCaptor<ClientInterceptor> interceptors = ArgumentCaptor.captor();
+				then(builder).should(times(2)).intercept(interceptors.capture());
+				assertThat(interceptors.getAllValues()).allSatisfy(
+						(interceptor) -> assertThat(interceptor).isInstanceOf(ConcurrencyLimitClientInterceptor.class)
+							.extracting("limiter")
+							.hasFieldOrPropertyWithValue("limit", 5)
+							.isSameAs(ReflectionTestUtils.getField(interceptors.getAllValues().get(0), "limiter")));
+			});
+	}
+
+	@Test
+	void clientPropertiesChannelCustomizerCreatesNewLimiterWhenLimitsChange() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.channels.test.concurrency-limit.enabled=true",
+					"spring.grpc.client.channels.test.concurrency-limit.initial-limit=5")
+			.run((context) -> {
+				var customizer = context.getBean("clientPropertiesChannelCustomizer",
+						GrpcChannelBuilderCustomizer.class);
+				ManagedChannelBuilder<?> builder = Mockito.mock();
+				customizer.customize("test", builder);
+				context.getBean(GrpcClientProperties.class).getChannel("test").getConcurrencyLimit().setInitialLimit(8);
+				customizer.customize("test", builder);
+				ArgumentCaptor<ClientInterceptor> interceptors = ArgumentCaptor.captor();
+				then(builder).should(times(2)).intercept(interceptors.capture());
+				assertThat(interceptors.getAllValues()).extracting("limiter").extracting("limit").containsExactly(5, 8);
+			});
+	}
+
 	@Test
 	void compressionCustomizerAutoConfiguredAsExpected() {
 		this.contextRunner().run((context) -> {
@@ -259,6 +410,21 @@ class GrpcClientAutoConfigurationTests {
 			.run((context) -> assertThat(context).doesNotHaveBean(ClientScanConfiguration.class));
 	}
 
+	@Test
+	void clientFactoryCachesClientsWhenPropertySet() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.cache-clients=true")
+			.run((context) -> assertThat(context).getBean(GrpcClientFactory.class)
+				.hasFieldOrPropertyWithValue("cacheClients", true));
+	}
+
+	@Test
+	void clientFactoryDoesNotCacheClientsByDefault() {
+		this.contextRunner()
+			.run((context) -> assertThat(context).getBean(GrpcClientFactory.class)
+				.hasFieldOrPropertyWithValue("cacheClients", false));
+	}
+
 	@Test
 	void whenInProcessEnabledPropNotSetDoesAutoconfigureInProcess() {
 		this.contextRunner()
@@ -387,6 +553,70 @@ class GrpcClientAutoConfigurationTests {
 				.isInstanceOf(GrpcClientProperties.class));
 	}
 
+	@Test
+	void channelFactorySharesChannelsWhenPropertySet() {
+		this.contextRunnerWithoutInProcessChannelFactory()
+			.withPropertyValues("spring.grpc.server.port=0", "spring.grpc.client.share-channels=true")
+			.run((context) -> assertThat(context).getBean(GrpcChannelFactory.class)
+				.hasFieldOrPropertyWithValue("shareChannels", true));
+	}
+
+	@Test
+	void channelFactoryShutdownTimeoutAndListenerConfigured() {
+		ChannelShutdownListener listener = mock();
+		this.contextRunnerWithoutInProcessChannelFactory()
+			.withPropertyValues("spring.grpc.server.port=0", "spring.grpc.client.shutdown-timeout=5s")
+			.withBean(ChannelShutdownListener.class, () -> listener)
+			.run((context) -> assertThat(context).getBean(GrpcChannelFactory.class)
+				.hasFieldOrPropertyWithValue("shutdownTimeout", Duration.ofSeconds(5))
+				.hasFieldOrPropertyWithValue("shutdownListener", listener));
+	}
+
+	@Test
+	void channelWarmupConfiguredForChannelsWithWarmupEnabled() {
+		this.contextRunnerWithoutInProcessChannelFactory()
+			.withPropertyValues("spring.grpc.server.port=0", "spring.grpc.client.share-channels=true",
+					"spring.grpc.client.warmup-timeout=100ms",
+					"spring.grpc.client.channels.warm.address=static://localhost:0",
+					"spring.grpc.client.channels.warm.warmup=true",
+					"spring.grpc.client.channels.cold.address=static://localhost:0")
+			.run((context) -> assertThat(context).getBean(GrpcChannelWarmup.class)
+				.hasFieldOrPropertyWithValue("targets", List.of("warm"))
+				.hasFieldOrPropertyWithValue("timeout", Duration.ofMillis(100)));
+	}
+
+	@Test
+	@ExtendWith(OutputCaptureExtension.class)
+	void channelWarmupSkippedWithWarningWhenChannelsAreNotShared(CapturedOutput output) {
+		this.contextRunnerWithoutInProcessChannelFactory()
+			.withPropertyValues("spring.grpc.server.port=0", "spring.grpc.client.channels.warm.warmup=true")
+			.run((context) -> assertThat(context).getBean(GrpcChannelWarmup.class)
+				.hasFieldOrPropertyWithValue("targets", List.of()));
+		assertThat(output).contains("Channel warmup is enabled for [warm] but is skipped");
+	}
+
+	@Test
+	void channelFactoryEventLoopThreadsSetFromProperty() {
+		this.contextRunnerWithoutInProcessChannelFactory()
+			.withPropertyValues("spring.grpc.server.port=0", "spring.grpc.client.netty.event-loop-threads=2")
+			.run((context) -> assertThat(context).getBean(GrpcChannelFactory.class)
+				.hasFieldOrPropertyWithValue("eventLoopThreads", 2));
+	}
+
+	@Test
+	void channelFactoryTransportProviderUsesChannelProperties() {
+		this.contextRunnerWithoutInProcessChannelFactory()
+			.withPropertyValues("spring.grpc.server.port=0", "spring.grpc.client.channels.test.transport=nio")
+			.run((context) -> assertThat(context).getBean(GrpcChannelFactory.class)
+				.extracting("transportProvider")
+				.satisfies((provider) -> {
+					@SuppressWarnings("unchecked")
+					var transports = (Function<String, NettyTransport>) provider;
+					assertThat(transports.apply("test")).isEqualTo(NettyTransport.NIO);
+					assertThat(transports.apply("other")).isEqualTo(NettyTransport.AUTO);
+				}));
+	}
+
 	@Test
 	void inProcessChannelFactoryAutoConfiguredAsExpected() {
 		this.contextRunner()
@@ -19,6 +19,7 @@ package org.springframework.boot.grpc.client.autoconfigure;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -27,6 +28,7 @@ import static org.mockito.Mockito.verify;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -43,11 +45,15 @@ import org.mockito.verification.VerificationMode;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
 import org.springframework.boot.grpc.client.autoconfigure.GrpcClientProperties.ChannelConfig;
+import org.springframework.grpc.client.ChannelPoolOptions;
 import org.springframework.grpc.client.NegotiationType;
+import org.springframework.grpc.netty.NettyTransport;
 import org.springframework.mock.env.MockEnvironment;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.unit.DataSize;
 
+import io.grpc.Status;
+
 /**
  * Tests for {@link GrpcClientProperties}.
  *
@@ -96,6 +102,10 @@ class GrpcClientPropertiesTests {
 			var channel = channelFromProperties.apply(properties);
 			assertThat(channel.getAddress()).isEqualTo("static://localhost:9090");
 			assertThat(channel.getDefaultLoadBalancingPolicy()).isEqualTo("round_robin");
+			assertThat(channel.getConcurrencyLimit().isEnabled()).isFalse();
+			assertThat(channel.getConcurrencyLimit().getInitialLimit()).isEqualTo(20);
+			assertThat(channel.getConcurrencyLimit().getMinLimit()).isEqualTo(1);
+			assertThat(channel.getConcurrencyLimit().getMaxLimit()).isEqualTo(200);
 			assertThat(channel.getHealth().isEnabled()).isFalse();
 			assertThat(channel.getHealth().getServiceName()).isNull();
 			assertThat(channel.getNegotiationType()).isEqualTo(NegotiationType.PLAINTEXT);
@@ -109,6 +119,26 @@ class GrpcClientPropertiesTests {
 			assertThat(channel.getMaxInboundMessageSize()).isEqualTo(DataSize.ofBytes(4194304));
 			assertThat(channel.getMaxInboundMetadataSize()).isEqualTo(DataSize.ofBytes(8192));
 			assertThat(channel.getUserAgent()).isNull();
+			assertThat(channel.getPool().getSize()).isEqualTo(1);
+			assertThat(channel.getPool().getSelection()).isEqualTo(ChannelPoolOptions.Selection.ROUND_ROBIN);
+			assertThat(channel.getTransport()).isEqualTo(NettyTransport.AUTO);
+			assertThat(channel.isWarmup()).isFalse();
+			assertThat(channel.getRetry().isEnabled()).isFalse();
+			assertThat(channel.getRetry().getMethods()).isEmpty();
+			assertThat(channel.getRetry().getMaxAttempts()).isEqualTo(3);
+			assertThat(channel.getRetry().getInitialBackoff()).isEqualTo(Duration.ofMillis(100));
+			assertThat(channel.getRetry().getMaxBackoff()).isEqualTo(Duration.ofSeconds(1));
+			assertThat(channel.getRetry().getBackoffMultiplier()).isEqualTo(2.0);
+			assertThat(channel.getRetry().getRetryableStatusCodes()).containsExactly(Status.Code.UNAVAILABLE);
+			assertThat(channel.getRetry().getBufferSize()).isNull();
+			assertThat(channel.getRetry().getPerRpcBufferLimit()).isNull();
+			assertThat(channel.getRetry().getThrottling().getMaxTokens()).isZero();
+			assertThat(channel.getRetry().getThrottling().getTokenRatio()).isEqualTo(0.1);
+			assertThat(channel.getHedging().isEnabled()).isFalse();
+			assertThat(channel.getHedging().getMethods()).isEmpty();
+			assertThat(channel.getHedging().getMaxAttempts()).isEqualTo(2);
+			assertThat(channel.getHedging().getDelay()).isNull();
+			assertThat(channel.getHedging().getNonFatalStatusCodes()).isEmpty();
 			assertThat(channel.isSecure()).isTrue();
 			assertThat(channel.getSsl().isEnabled()).isNull();
 			assertThat(channel.getSsl().determineEnabled()).isFalse();
@@ -136,6 +166,10 @@ class GrpcClientPropertiesTests {
 			var propPrefix = "spring.grpc.client.%s.".formatted(channelName);
 			map.put("%s.address".formatted(propPrefix), "static://my-server:8888");
 			map.put("%s.default-load-balancing-policy".formatted(propPrefix), "pick_first");
+			map.put("%s.concurrency-limit.enabled".formatted(propPrefix), "true");
+			map.put("%s.concurrency-limit.initial-limit".formatted(propPrefix), "10");
+			map.put("%s.concurrency-limit.min-limit".formatted(propPrefix), "2");
+			map.put("%s.concurrency-limit.max-limit".formatted(propPrefix), "50");
 			map.put("%s.health.enabled".formatted(propPrefix), "true");
 			map.put("%s.health.service-name".formatted(propPrefix), "my-service");
 			map.put("%s.negotiation-type".formatted(propPrefix), "plaintext_upgrade");
@@ -148,6 +182,26 @@ class GrpcClientPropertiesTests {
 			map.put("%s.max-inbound-message-size".formatted(propPrefix), "200MB");
 			map.put("%s.max-inbound-metadata-size".formatted(propPrefix), "1GB");
 			map.put("%s.user-agent".formatted(propPrefix), "me");
+			map.put("%s.pool.size".formatted(propPrefix), "4");
+			map.put("%s.pool.selection".formatted(propPrefix), "least-in-flight");
+			map.put("%s.transport".formatted(propPrefix), "io-uring");
+			map.put("%s.warmup".formatted(propPrefix), "true");
+			map.put("%s.retry.enabled".formatted(propPrefix), "true");
+			map.put("%s.retry.methods".formatted(propPrefix), "example.Catalog/ListItems");
+			map.put("%s.retry.max-attempts".formatted(propPrefix), "5");
+			map.put("%s.retry.initial-backoff".formatted(propPrefix), "50ms");
+			map.put("%s.retry.max-backoff".formatted(propPrefix), "2s");
+			map.put("%s.retry.backoff-multiplier".formatted(propPrefix), "1.5");
+			map.put("%s.retry.retryable-status-codes".formatted(propPrefix), "unavailable,resource-exhausted");
+			map.put("%s.retry.buffer-size".formatted(propPrefix), "32MB");
+			map.put("%s.retry.per-rpc-buffer-limit".formatted(propPrefix), "512KB");
+			map.put("%s.retry.throttling.max-tokens".formatted(propPrefix), "100");
+			map.put("%s.retry.throttling.token-ratio".formatted(propPrefix), "0.2");
+			map.put("%s.hedging.enabled".formatted(propPrefix), "true");
+			map.put("%s.hedging.methods".formatted(propPrefix), "example.Catalog");
+			map.put("%s.hedging.max-attempts".formatted(propPrefix), "3");
+			map.put("%s.hedging.delay".formatted(propPrefix), "25ms");
+			map.put("%s.hedging.non-fatal-status-codes".formatted(propPrefix), "unavailable");
 			map.put("%s.secure".formatted(propPrefix), "false");
 			map.put("%s.ssl.enabled".formatted(propPrefix), "true");
 			map.put("%s.ssl.bundle".formatted(propPrefix), "my-bundle");
@@ -155,6 +209,10 @@ class GrpcClientPropertiesTests {
 			var channel = channelFromProperties.apply(properties);
 			assertThat(channel.getAddress()).isEqualTo("static://my-server:8888");
 			assertThat(channel.getDefaultLoadBalancingPolicy()).isEqualTo("pick_first");
+			assertThat(channel.getConcurrencyLimit().isEnabled()).isTrue();
+			assertThat(channel.getConcurrencyLimit().getInitialLimit()).isEqualTo(10);
+			assertThat(channel.getConcurrencyLimit().getMinLimit()).isEqualTo(2);
+			assertThat(channel.getConcurrencyLimit().getMaxLimit()).isEqualTo(50);
 			assertThat(channel.getHealth().isEnabled()).isTrue();
 			assertThat(channel.getHealth().getServiceName()).isEqualTo("my-service");
 			assertThat(channel.getNegotiationType()).isEqualTo(NegotiationType.PLAINTEXT_UPGRADE);
@@ -168,6 +226,27 @@ class GrpcClientPropertiesTests {
 			assertThat(channel.getMaxInboundMessageSize()).isEqualTo(DataSize.ofMegabytes(200));
 			assertThat(channel.getMaxInboundMetadataSize()).isEqualTo(DataSize.ofGigabytes(1));
 			assertThat(channel.getUserAgent()).isEqualTo("me");
+			assertThat(channel.getPool().getSize()).isEqualTo(4);
+			assertThat(channel.getPool().getSelection()).isEqualTo(ChannelPoolOptions.Selection.LEAST_IN_FLIGHT);
+			assertThat(channel.getTransport()).isEqualTo(NettyTransport.IO_URING);
+			assertThat(channel.isWarmup()).isTrue();
+			assertThat(channel.getRetry().isEnabled()).isTrue();
+			assertThat(channel.getRetry().getMethods()).containsExactly("example.Catalog/ListItems");
+			assertThat(channel.getRetry().getMaxAttempts()).isEqualTo(5);
+			assertThat(channel.getRetry().getInitialBackoff()).isEqualTo(Duration.ofMillis(50));
+			assertThat(channel.getRetry().getMaxBackoff()).isEqualTo(Duration.ofSeconds(2));
+			assertThat(channel.getRetry().getBackoffMultiplier()).isEqualTo(1.5);
+			assertThat(channel.getRetry().getRetryableStatusCodes()).containsExactly(Status.Code.UNAVAILABLE,
+					Status.Code.RESOURCE_EXHAUSTED);
+			assertThat(channel.getRetry().getBufferSize()).isEqualTo(DataSize.ofMegabytes(32));
+			assertThat(channel.getRetry().getPerRpcBufferLimit()).isEqualTo(DataSize.ofKilobytes(512));
+			assertThat(channel.getRetry().getThrottling().getMaxTokens()).isEqualTo(100);
+			assertThat(channel.getRetry().getThrottling().getTokenRatio()).isEqualTo(0.2);
+			assertThat(channel.getHedging().isEnabled()).isTrue();
+			assertThat(channel.getHedging().getMethods()).containsExactly("example.Catalog");
+			assertThat(channel.getHedging().getMaxAttempts()).isEqualTo(3);
+			assertThat(channel.getHedging().getDelay()).isEqualTo(Duration.ofMillis(25));
+			assertThat(channel.getHedging().getNonFatalStatusCodes()).containsExactly(Status.Code.UNAVAILABLE);
 			assertThat(channel.isSecure()).isFalse();
 			assertThat(channel.getSsl().isEnabled()).isTrue();
 			assertThat(channel.getSsl().determineEnabled()).isTrue();
@@ -313,6 +392,7 @@ class GrpcClientPropertiesTests {
 			var defaultChannel = new ChannelConfig();
 			defaultChannel.setAddress("static://my-server:9999");
 			defaultChannel.setDefaultLoadBalancingPolicy("custom");
+			defaultChannel.getConcurrencyLimit().setEnabled(true);
 			defaultChannel.getHealth().setEnabled(true);
 			defaultChannel.getHealth().setServiceName("custom-service");
 			defaultChannel.setEnableKeepAlive(true);
@@ -328,6 +408,12 @@ class GrpcClientPropertiesTests {
 			defaultChannel.setSecure(false);
 			defaultChannel.getSsl().setEnabled(true);
 			defaultChannel.getSsl().setBundle("custom-bundle");
+			defaultChannel.setTransport(NettyTransport.NIO);
+			defaultChannel.setWarmup(true);
+			defaultChannel.getRetry().setEnabled(true);
+			defaultChannel.getRetry().setMethods(List.of("example.Catalog"));
+			defaultChannel.getRetry().getThrottling().setMaxTokens(10);
+			defaultChannel.getHedging().setDelay(Duration.ofMillis(10));
 			var properties = newProperties(defaultChannel, Collections.emptyMap());
 			var newChannel = properties.getChannel("new-channel");
 			assertThat(newChannel).isNotSameAs(defaultChannel);
@@ -378,6 +464,37 @@ class GrpcClientPropertiesTests {
 					argumentSet("doesApplyDefaultsWhenInheritDefaultsTrue", Boolean.TRUE, true));
 		}
 
+		@Test
+		void withKnownNameInheritingDefaultsDoesNotModifyConfiguredChannel() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.client.channel-defaults.user-agent", "default-agent");
+			map.put("spring.grpc.client.channels.c1.inherit-defaults", "true");
+			GrpcClientProperties properties = bindProperties(map);
+			var channel = properties.getChannel("c1");
+			assertThat(channel.getUserAgent()).isEqualTo("default-agent");
+			assertThat(properties.getChannels().get("c1").getUserAgent()).isNull();
+		}
+
+		@Test
+		void resolvedChannelIsReusedUntilPropertiesAreBoundAgain() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.client.channel-defaults.address", "static://base-default-service:9090");
+			map.put("spring.grpc.client.default-channel.inherit-defaults", "true");
+			GrpcClientProperties properties = bindProperties(map);
+			ChannelConfigUtils configUtilsSpy = spy(new ChannelConfigUtils());
+			properties.setChannelConfigUtils(configUtilsSpy);
+
+			var channel = properties.getChannel("foo-channel");
+			assertThat(properties.getChannel("foo-channel")).isSameAs(channel);
+			verify(configUtilsSpy, times(1)).applyDefaultsIfNecessary(any(ChannelConfig.class),
+					any(ChannelConfig.class));
+
+			properties.afterPropertiesSet();
+			assertThat(properties.getChannel("foo-channel")).isNotSameAs(channel);
+			verify(configUtilsSpy, times(2)).applyDefaultsIfNecessary(any(ChannelConfig.class),
+					any(ChannelConfig.class));
+		}
+
 	}
 
 	@Nested
@@ -419,6 +536,30 @@ class GrpcClientPropertiesTests {
 
 	}
 
+	@Nested
+	class GetPoolOptionsAPI {
+
+		@Test
+		void channelWithoutPoolReturnsSingle() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.client.channels.c1.address", "static://my-server:8888");
+			GrpcClientProperties properties = bindProperties(map);
+			assertThat(properties.getPoolOptions("c1")).isSameAs(ChannelPoolOptions.SINGLE);
+		}
+
+		@Test
+		void channelWithPoolReturnsPoolOptions() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.client.channels.c1.pool.size", "3");
+			map.put("spring.grpc.client.channels.c1.pool.selection", "least_in_flight");
+			GrpcClientProperties properties = bindProperties(map);
+			assertThat(properties.getPoolOptions("c1"))
+				.isEqualTo(new ChannelPoolOptions(3, ChannelPoolOptions.Selection.LEAST_IN_FLIGHT));
+			assertThat(properties.getPoolOptions("c2")).isSameAs(ChannelPoolOptions.SINGLE);
+		}
+
+	}
+
 	@Nested
 	class CopyDefaultsAPI {
 
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.grpc.client.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import java.security.KeyStore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.TrustManagerFactory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.boot.ssl.SslBundle;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.boot.ssl.SslManagerBundle;
+
+import io.grpc.ChannelCredentials;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.TlsChannelCredentials;
+
+/**
+ * Tests for {@link NamedChannelCredentialsProvider}.
+ */
+class NamedChannelCredentialsProviderTests {
+
+	private final SslBundles bundles = mock();
+
+	private final SslBundle bundle = mock();
+
+	private final GrpcClientProperties properties = new GrpcClientProperties();
+
+	private NamedChannelCredentialsProvider provider;
+
+	@BeforeEach
+	void prepareBundles() throws Exception {
+		KeyManagerFactory keyManagers = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+		KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+		keyStore.load(null, null);
+		keyManagers.init(keyStore, new char[0]);
+		TrustManagerFactory trustManagers = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+		trustManagers.init((KeyStore) null);
+		given(this.bundle.getManagers()).willReturn(SslManagerBundle.of(keyManagers, trustManagers));
+		given(this.bundles.getBundle("my-bundle")).willReturn(this.bundle);
+		this.properties.getChannels().put("tls", channelWithBundle(true));
+		this.properties.getChannels().put("insecure-tls", channelWithBundle(false));
+		this.provider = new NamedChannelCredentialsProvider(this.bundles, this.properties);
+	}
+
+	private GrpcClientProperties.ChannelConfig channelWithBundle(boolean secure) {
+		GrpcClientProperties.ChannelConfig channel = new GrpcClientProperties.ChannelConfig();
+		channel.getSsl().setBundle("my-bundle");
+		channel.setSecure(secure);
+		return channel;
+	}
+
+	@Test
+	void plaintextChannelUsesInsecureCredentials() {
+		assertThat(this.provider.getChannelCredentials("plain")).isInstanceOf(InsecureChannelCredentials.class);
+		then(this.bundles).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void bundleCredentialsAreCachedPerBundleAndSecureFlag() {
+		ChannelCredentials credentials = this.provider.getChannelCredentials("tls");
+		assertThat(credentials).isInstanceOf(TlsChannelCredentials.class);
+		assertThat(this.provider.getChannelCredentials("tls")).isSameAs(credentials);
+		assertThat(this.provider.getChannelCredentials("insecure-tls")).isNotSameAs(credentials);
+		then(this.bundles).should(times(2)).getBundle("my-bundle");
+		then(this.bundles).should(times(1)).addBundleUpdateHandler(eq("my-bundle"), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void bundleCredentialsAreRecreatedWhenBundleIsUpdated() {
+		ChannelCredentials credentials = this.provider.getChannelCredentials("tls");
+		ArgumentCaptor<Consumer<SslBundle>> updateHandler = ArgumentCaptor.forClass(Consumer.class);
+		then(this.bundles).should().addBundleUpdateHandler(eq("my-bundle"), updateHandler.capture());
+		updateHandler.getValue().accept(this.bundle);
+		assertThat(this.provider.getChannelCredentials("tls")).isNotSameAs(credentials);
+		then(this.bundles).should(times(2)).getBundle("my-bundle");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void bundleCredentialsCreatedWhileBundleIsUpdatedAreNotReused() {
+		AtomicReference<Consumer<SslBundle>> updateHandler = new AtomicReference<>();
+		willAnswer((invocation) -> {
+			updateHandler.set(invocation.getArgument(1));
+			return null;
+		}).given(this.bundles).addBundleUpdateHandler(eq("my-bundle"), any());
+		given(this.bundles.getBundle("my-bundle")).willAnswer((invocation) -> {
+			updateHandler.get().accept(this.bundle);
+			return this.bundle;
+		}).willReturn(this.bundle);
+		ChannelCredentials credentials = this.provider.getChannelCredentials("tls");
+		ChannelCredentials recreated = this.provider.getChannelCredentials("tls");
+		assertThat(recreated).isNotSameAs(credentials);
+		assertThat(this.provider.getChannelCredentials("tls")).isSameAs(recreated);
+	}
+
+}
@@ -16,14 +16,24 @@
 
 package org.springframework.grpc.client;
 
+import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.function.Supplier;
 
+import org.springframework.util.ConcurrentReferenceHashMap;
+
 import io.grpc.Channel;
 import io.grpc.ManagedChannel;
 import io.grpc.stub.AbstractStub;
 
 public abstract class AbstractStubFactory<T extends AbstractStub<?>> implements StubFactory<T> {
 
+	/**
+	 * Static stub factory methods keyed by the class that declares them, so each one is
+	 * only looked up once per factory.
+	 */
+	private final Map<Class<?>, Method> stubMethods = new ConcurrentReferenceHashMap<>();
+
 	protected static <S extends AbstractStub<?>> boolean supports(Class<S> baseType, Class<?> type) {
 		return baseType.isAssignableFrom(type);
 	}
@@ -39,7 +49,12 @@ public abstract class AbstractStubFactory<T extends AbstractStub<?>> implements
 
 	private Object createStub(Supplier<ManagedChannel> channel, Class<?> factory, String method) {
 		try {
-			return factory.getMethod(method, Channel.class).invoke(null, channel.get());
+			Method stubMethod = this.stubMethods.get(factory);
+			if (stubMethod == null) {
+				stubMethod = factory.getMethod(method, Channel.class);
+				this.stubMethods.put(factory, stubMethod);
+			}
+			return stubMethod.invoke(null, channel.get());
 		}
 		catch (Exception e) {
 			throw new IllegalStateException("Failed to create stub", e);
@@ -19,6 +19,9 @@ package org.springframework.grpc.client;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.util.Assert;
 
@@ -31,6 +34,9 @@ import io.grpc.ManagedChannelBuilder;
  * Provides functionality beyond what is available with the native channel builders (e.g.
  * {@code shutdownGracePeriod}) and overrides some native channel builder behavior (e.g.
  * {@code interceptors}.
+ * <p>
+ * Two options instances are equal when they hold equal settings. Customizers are compared
+ * by identity.
  *
  * @author Chris Bono
  */
@@ -150,4 +156,23 @@ public final class ChannelBuilderOptions {
 				this.customizer.then(customizer));
 	}
 
+	@Override
+	public boolean equals(@Nullable Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof ChannelBuilderOptions other)) {
+			return false;
+		}
+		return this.mergeWithGlobalInterceptors == other.mergeWithGlobalInterceptors
+				&& this.interceptors.equals(other.interceptors)
+				&& this.shutdownGracePeriod.equals(other.shutdownGracePeriod) && this.customizer == other.customizer;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.interceptors, this.mergeWithGlobalInterceptors, this.shutdownGracePeriod,
+				System.identityHashCode(this.customizer));
+	}
+
 }
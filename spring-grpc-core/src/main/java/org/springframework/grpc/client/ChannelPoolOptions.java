@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client;
+
+import org.springframework.util.Assert;
+
+import io.grpc.Channel;
+import io.grpc.ManagedChannel;
+
+/**
+ * Options describing how many {@link ManagedChannel channels} back a single logical
+ * {@link Channel} and how calls are spread across them.
+ * <p>
+ * A single HTTP/2 connection is limited by the peer's {@code MAX_CONCURRENT_STREAMS}
+ * setting and by the event loop it runs on, so very busy targets can benefit from
+ * striping calls across several connections.
+ *
+ * @param size the number of channels in the pool (1 disables pooling)
+ * @param selection how a channel is selected for each call
+ * @author Oleksandr Shevchenko
+ */
+public record ChannelPoolOptions(int size, Selection selection) {
+
+	/** Options for a single, non-pooled channel. */
+	public static final ChannelPoolOptions SINGLE = new ChannelPoolOptions(1, Selection.ROUND_ROBIN);
+
+	public ChannelPoolOptions {
+		Assert.isTrue(size > 0, "size must be greater than 0");
+		Assert.notNull(selection, "selection must not be null");
+	}
+
+	/**
+	 * Strategy used to select the channel that serves a call.
+	 */
+	public enum Selection {
+
+		/**
+		 * Cycle through the channels in order.
+		 */
+		ROUND_ROBIN,
+
+		/**
+		 * Use the channel with the fewest calls in flight.
+		 */
+		LEAST_IN_FLIGHT
+
+	}
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client;
+
+/**
+ * A provider for obtaining the {@link ChannelPoolOptions pool options} of a gRPC client
+ * channel.
+ *
+ * @author Oleksandr Shevchenko
+ */
+@FunctionalInterface
+public interface ChannelPoolOptionsProvider {
+
+	/** Provider that never pools channels. */
+	ChannelPoolOptionsProvider SINGLE = (path) -> ChannelPoolOptions.SINGLE;
+
+	/**
+	 * Gets the pool options for the given target.
+	 * @param path the target string passed to the channel factory
+	 * @return the pool options to use for the target
+	 */
+	ChannelPoolOptions getPoolOptions(String path);
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client;
+
+import java.time.Duration;
+
+import io.grpc.ManagedChannel;
+
+/**
+ * Callback notified as each channel created by a {@link DefaultGrpcChannelFactory} is
+ * shut down when the factory is destroyed. Can be used to record how long channels take
+ * to terminate and which of them had to be forcefully shut down.
+ *
+ * @author Oleksandr Shevchenko
+ */
+@FunctionalInterface
+public interface ChannelShutdownListener {
+
+	/** Listener that ignores all notifications. */
+	ChannelShutdownListener NONE = (channel, elapsed, forced) -> {
+	};
+
+	/**
+	 * Called once the channel has terminated or been forcefully shut down.
+	 * @param channel the channel that was shut down
+	 * @param elapsed the time since the factory started shutting down its channels
+	 * @param forced whether the channel did not terminate within its grace period and was
+	 * {@link ManagedChannel#shutdownNow() forcefully shut down}
+	 */
+	void channelShutdown(ManagedChannel channel, Duration elapsed, boolean forced);
+
+}
@@ -20,6 +20,9 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 
 import org.jspecify.annotations.Nullable;
@@ -39,6 +42,16 @@ import io.grpc.ManagedChannelBuilder;
  * channels.
  * <p>
  * Implements {@link DisposableBean} to shut down channels when no longer needed.
+ * <p>
+ * When {@link #setShareChannels(boolean) channel sharing} is enabled, requests for the
+ * same target with equal {@link ChannelBuilderOptions options} are served by a single
+ * reference-counted channel. Each caller receives its own view of the channel and the
+ * underlying channel is shut down once every caller has shut down its view (or when the
+ * factory is destroyed).
+ * <p>
+ * When the {@link #setPoolOptionsProvider pool options} for a target ask for more than
+ * one channel, the returned channel stripes calls across that many underlying channels,
+ * each with its own connection. A pooled channel is shared as a single unit.
  *
  * @param <T> concrete type of channel builder used to create the channels
  * @author David Syer
@@ -49,7 +62,9 @@ public class DefaultGrpcChannelFactory<T extends ManagedChannelBuilder<T>>
 
 	private final LogAccessor log = new LogAccessor(getClass());
 
-	private final List<ManagedChannelWithShutdown> channels = new ArrayList<>();
+	private final List<ManagedChannelWithShutdown> channels = new CopyOnWriteArrayList<>();
+
+	private final Map<SharedChannelKey, SharedChannelHolder> sharedChannels = new ConcurrentHashMap<>();
 
 	private final List<GrpcChannelBuilderCustomizer<T>> globalCustomizers = new ArrayList<>();
 
@@ -59,8 +74,16 @@ public class DefaultGrpcChannelFactory<T extends ManagedChannelBuilder<T>>
 
 	private ChannelCredentialsProvider credentials = ChannelCredentialsProvider.INSECURE;
 
+	private ChannelPoolOptionsProvider poolOptions = ChannelPoolOptionsProvider.SINGLE;
+
 	protected VirtualTargets targets = VirtualTargets.DEFAULT;
 
+	private boolean shareChannels;
+
+	private @Nullable Duration shutdownTimeout;
+
+	private ChannelShutdownListener shutdownListener = ChannelShutdownListener.NONE;
+
 	public void setInterceptorFilter(@Nullable ClientInterceptorFilter interceptorFilter) {
 		this.interceptorFilter = interceptorFilter;
 	}
@@ -106,10 +129,83 @@ public class DefaultGrpcChannelFactory<T extends ManagedChannelBuilder<T>>
 		this.credentials = credentials;
 	}
 
+	public void setPoolOptionsProvider(ChannelPoolOptionsProvider poolOptions) {
+		this.poolOptions = poolOptions;
+	}
+
+	/**
+	 * Sets the maximum time to wait for all channels to terminate when the factory is
+	 * destroyed. Channels whose grace period is longer are forcefully shut down once the
+	 * timeout has elapsed.
+	 * @param shutdownTimeout the shutdown timeout or {@code null} to only use the grace
+	 * period of each channel
+	 */
+	public void setShutdownTimeout(@Nullable Duration shutdownTimeout) {
+		this.shutdownTimeout = shutdownTimeout;
+	}
+
+	/**
+	 * Sets the listener notified as each channel is shut down when the factory is
+	 * destroyed.
+	 * @param shutdownListener the shutdown listener
+	 */
+	public void setShutdownListener(ChannelShutdownListener shutdownListener) {
+		Assert.notNull(shutdownListener, () -> "shutdownListener must not be null");
+		this.shutdownListener = shutdownListener;
+	}
+
+	/**
+	 * Set whether channels created for the same target and options should be shared.
+	 * <p>
+	 * The credentials used by a channel are resolved by target, so equal targets also
+	 * share credentials. Customizers in the {@link ChannelBuilderOptions options} are
+	 * compared by identity, so options only share a channel when they hold the very same
+	 * customizer instance (a lambda created for each request never shares).
+	 * @param shareChannels whether to share channels (default false)
+	 */
+	public void setShareChannels(boolean shareChannels) {
+		this.shareChannels = shareChannels;
+	}
+
 	@Override
 	public ManagedChannel createChannel(String target, ChannelBuilderOptions options) {
 		var targetUri = this.targets.getTarget(target);
+		if (!this.shareChannels) {
+			return buildChannel(target, targetUri, options);
+		}
+		var key = new SharedChannelKey(target, targetUri, options);
+		while (true) {
+			// The holder builds the channel outside of the map's lock
+			var holder = this.sharedChannels.computeIfAbsent(key, SharedChannelHolder::new);
+			var channel = holder.get().retain();
+			if (channel != null) {
+				return channel;
+			}
+			// The last owner released the channel concurrently - so try again
+		}
+	}
+
+	private ManagedChannel buildChannel(String target, String targetUri, ChannelBuilderOptions options) {
+		return buildChannel(target, targetUri, options, new ArrayList<>());
+	}
+
+	private ManagedChannel buildChannel(String target, String targetUri, ChannelBuilderOptions options,
+			List<ManagedChannelWithShutdown> created) {
+		var poolOptions = this.poolOptions.getPoolOptions(target);
+		if (poolOptions.size() == 1) {
+			return buildSingleChannel(target, targetUri, options, created);
+		}
+		List<ManagedChannel> channels = new ArrayList<>(poolOptions.size());
+		for (int i = 0; i < poolOptions.size(); i++) {
+			channels.add(buildSingleChannel(target, targetUri, options, created));
+		}
+		return new StripedManagedChannel(channels, poolOptions.selection());
+	}
+
+	private ManagedChannel buildSingleChannel(String target, String targetUri, ChannelBuilderOptions options,
+			List<ManagedChannelWithShutdown> created) {
 		T builder = newChannelBuilder(targetUri, this.credentials.getChannelCredentials(target));
+		configureTransport(target, targetUri, builder);
 		// Handle interceptors
 		this.interceptorsConfigurer.configureInterceptors(builder, options.interceptors(),
 				options.mergeWithGlobalInterceptors(), this);
@@ -120,8 +216,9 @@ public class DefaultGrpcChannelFactory<T extends ManagedChannelBuilder<T>>
 			customizer.customize(target, builder);
 		}
 		var channel = builder.build();
-		var shutdownGracePeriod = options.shutdownGracePeriod();
-		this.channels.add(new ManagedChannelWithShutdown(channel, shutdownGracePeriod));
+		var channelWithShutdown = new ManagedChannelWithShutdown(channel, options.shutdownGracePeriod());
+		this.channels.add(channelWithShutdown);
+		created.add(channelWithShutdown);
 		return channel;
 	}
 
@@ -138,59 +235,120 @@ public class DefaultGrpcChannelFactory<T extends ManagedChannelBuilder<T>>
 		return (T) Grpc.newChannelBuilder(target, credentials);
 	}
 
+	/**
+	 * Configures the transport of a newly created channel builder before any interceptors
+	 * or customizers are applied. The default implementation does nothing.
+	 * @param target the target string passed to the channel factory
+	 * @param targetUri the target the builder was created for
+	 * @param builder the builder to configure
+	 */
+	protected void configureTransport(String target, String targetUri, T builder) {
+	}
+
 	/**
 	 * Performs a shutdown on all created channels as follows:
 	 * <ul>
 	 * <li>First an {@link ManagedChannel#shutdown() orderly shutdown} is initiated on
-	 * each channel.
-	 * <li>Next the channels are ordered by smallest to largest grace period, and in
-	 * serial fashion each channel is sent an {@link ManagedChannel#awaitTermination
-	 * awaitTermination} with the channel's remaining grace period.
-	 * <li>Finally, any channel not terminated is sent a
+	 * each channel, so that all channels terminate concurrently.
+	 * <li>Each channel is then given until its grace period (capped by the
+	 * {@link #setShutdownTimeout shutdown timeout}, if any) has elapsed since the start
+	 * of the shutdown to terminate. Channels are awaited in order of their deadlines and
+	 * any channel not terminated by its deadline is immediately sent a
 	 * {@link ManagedChannel#shutdownNow() forceful shutdown}.
+	 * <li>The {@link #setShutdownListener shutdown listener} is notified with the time
+	 * each channel took to shut down.
 	 * </ul>
 	 */
 	@Override
 	public void destroy() {
-		this.channels.stream().map(ManagedChannelWithShutdown::channel).forEach(ManagedChannel::shutdown);
-		this.channels.sort(Comparator.comparingLong((t) -> t.shutdownGracePeriod().toMillis()));
+		this.sharedChannels.clear();
+		long start = System.nanoTime();
+		List<ManagedChannelWithShutdown> channels = new ArrayList<>(this.channels);
+		channels.stream().map(ManagedChannelWithShutdown::channel).forEach(ManagedChannel::shutdown);
+		channels.sort(Comparator.comparingLong(this::shutdownDeadline));
+		boolean interrupted = false;
 		try {
-			long start = System.currentTimeMillis();
-			this.channels.forEach((channelWithShutdown) -> {
+			for (var channelWithShutdown : channels) {
 				var channel = channelWithShutdown.channel();
-				var gracePeriod = channelWithShutdown.shutdownGracePeriod();
-				if (!channel.isTerminated()) {
-					this.log.debug(() -> "Awaiting channel termination: " + channel.authority());
-					long totalTimeWaitedSinceStart = System.currentTimeMillis() - start;
-					long gracePeriodRemaining = gracePeriod.toMillis() - totalTimeWaitedSinceStart;
-					this.awaitTermination(channel, gracePeriodRemaining);
+				long remaining = start + shutdownDeadline(channelWithShutdown) - System.nanoTime();
+				boolean forced;
+				try {
+					forced = !awaitTermination(channel, TimeUnit.NANOSECONDS.toMillis(remaining));
 				}
-				this.log.debug(() -> "Completed channel termination: " + channel.authority());
-			});
+				catch (InterruptedException ex) {
+					interrupted = true;
+					forced = true;
+				}
+				if (forced) {
+					this.log.debug(() -> "Channel not terminated yet - forcing shutdown: " + channel.authority());
+					channel.shutdownNow();
+				}
+				var elapsed = Duration.ofNanos(System.nanoTime() - start);
+				this.log.debug(
+						() -> "Completed channel termination in " + elapsed.toMillis() + "ms: " + channel.authority());
+				this.shutdownListener.channelShutdown(channel, elapsed, forced);
+			}
 		}
 		finally {
-			this.channels.stream().map(ManagedChannelWithShutdown::channel).forEach((channel) -> {
+			channels.stream().map(ManagedChannelWithShutdown::channel).forEach((channel) -> {
 				if (!channel.isTerminated()) {
-					this.log.debug(() -> "Channel not terminated yet - forcing shutdown: " + channel.authority());
 					channel.shutdownNow();
 				}
 			});
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
 		}
 	}
 
-	private void awaitTermination(ManagedChannel channel, long awaitMillis) {
-		try {
-			if (awaitMillis > 0) {
-				channel.awaitTermination(awaitMillis, TimeUnit.MILLISECONDS);
-			}
-		}
-		catch (InterruptedException e) {
-			this.log.debug(() -> "Channel wait exceeded grace period - forcing shutdown: " + channel.authority());
-			channel.shutdownNow();
+	private long shutdownDeadline(ManagedChannelWithShutdown channelWithShutdown) {
+		long gracePeriod = channelWithShutdown.shutdownGracePeriod().toNanos();
+		return (this.shutdownTimeout != null) ? Math.min(gracePeriod, this.shutdownTimeout.toNanos()) : gracePeriod;
+	}
+
+	private boolean awaitTermination(ManagedChannel channel, long awaitMillis) throws InterruptedException {
+		if (channel.isTerminated()) {
+			return true;
 		}
+		this.log.debug(() -> "Awaiting channel termination: " + channel.authority());
+		return awaitMillis > 0 && channel.awaitTermination(awaitMillis, TimeUnit.MILLISECONDS);
 	}
 
 	record ManagedChannelWithShutdown(ManagedChannel channel, Duration shutdownGracePeriod) {
 	}
 
+	record SharedChannelKey(String target, String targetUri, ChannelBuilderOptions options) {
+	}
+
+	/**
+	 * Map entry for a shared channel that builds the channel on first use, so that the
+	 * channel is not built while holding the lock of the map.
+	 */
+	private final class SharedChannelHolder {
+
+		private final SharedChannelKey key;
+
+		private @Nullable SharedManagedChannel channel;
+
+		SharedChannelHolder(SharedChannelKey key) {
+			this.key = key;
+		}
+
+		synchronized SharedManagedChannel get() {
+			if (this.channel == null) {
+				List<ManagedChannelWithShutdown> created = new ArrayList<>();
+				ManagedChannel delegate = buildChannel(this.key.target(), this.key.targetUri(), this.key.options(),
+						created);
+				this.channel = new SharedManagedChannel(delegate, (released) -> {
+					DefaultGrpcChannelFactory.this.sharedChannels.remove(this.key, this);
+					// The released channel shuts itself down, the factory no longer has
+					// to
+					created.forEach(DefaultGrpcChannelFactory.this.channels::remove);
+				});
+			}
+			return this.channel;
+		}
+
+	}
+
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.util.Assert;
+
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+
+/**
+ * Connects the channels for a set of targets once all singletons have been created, so
+ * that the first call made through them does not have to wait for name resolution and
+ * connection setup.
+ * <p>
+ * All channels are connected in parallel and startup waits at most for the configured
+ * timeout for them to become {@link ConnectivityState#READY ready}. Channels that are not
+ * ready by then keep connecting in the background. The warmed channels are kept open
+ * until this bean is destroyed, so clients only benefit from the warmup when the
+ * {@link DefaultGrpcChannelFactory#setShareChannels channel factory shares channels}. The
+ * channels are created with {@link ChannelBuilderOptions#defaults() default options}, and
+ * a shared channel is only reused for the same target and options, so clients that create
+ * their channels with other options (custom interceptors or customizers, for instance)
+ * get a channel of their own that is not warmed up.
+ *
+ * @author Oleksandr Shevchenko
+ */
+public class GrpcChannelWarmup implements SmartInitializingSingleton, DisposableBean {
+
+	private final LogAccessor log = new LogAccessor(getClass());
+
+	private final Supplier<GrpcChannelFactory> channelFactory;
+
+	private final List<String> targets;
+
+	private final Duration timeout;
+
+	private final Map<String, ManagedChannel> channels = new LinkedHashMap<>();
+
+	private volatile boolean warmingUp;
+
+	/**
+	 * Construct a warmup for the given targets.
+	 * @param channelFactory supplies the factory used to create the channels, only called
+	 * when there is at least one target
+	 * @param targets the targets of the channels to connect
+	 * @param timeout the maximum time to wait for the channels to become ready
+	 */
+	public GrpcChannelWarmup(Supplier<GrpcChannelFactory> channelFactory, List<String> targets, Duration timeout) {
+		Assert.notNull(channelFactory, "channelFactory must not be null");
+		Assert.notNull(targets, "targets must not be null");
+		Assert.notNull(timeout, "timeout must not be null");
+		this.channelFactory = channelFactory;
+		this.targets = new ArrayList<>(targets);
+		this.timeout = timeout;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		if (this.targets.isEmpty()) {
+			return;
+		}
+		GrpcChannelFactory channelFactory = this.channelFactory.get();
+		long start = System.nanoTime();
+		CountDownLatch ready = new CountDownLatch(this.targets.size());
+		this.warmingUp = true;
+		try {
+			for (String target : this.targets) {
+				ManagedChannel channel = channelFactory.createChannel(target, ChannelBuilderOptions.defaults());
+				this.channels.put(target, channel);
+				awaitReady(channel, channel.getState(true), ready);
+			}
+			ready.await(this.timeout.toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			this.warmingUp = false;
+		}
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		this.channels.forEach((target, channel) -> {
+			ConnectivityState state = channel.getState(false);
+			if (state == ConnectivityState.READY) {
+				this.log.debug(() -> "Channel for '" + target + "' ready after warmup in " + elapsed + "ms");
+			}
+			else {
+				this.log.info(() -> "Channel for '" + target + "' not ready after warmup (" + state
+						+ "), continuing to connect in the background");
+			}
+		});
+	}
+
+	/**
+	 * Count down the latch once the channel is ready, watching its state changes until
+	 * then or until the warmup is over.
+	 * @param channel the channel to watch
+	 * @param state the current state of the channel
+	 * @param ready the latch to count down
+	 */
+	private void awaitReady(ManagedChannel channel, ConnectivityState state, CountDownLatch ready) {
+		if (state == ConnectivityState.READY || state == ConnectivityState.SHUTDOWN) {
+			ready.countDown();
+			return;
+		}
+		if (this.warmingUp) {
+			channel.notifyWhenStateChanged(state, () -> awaitReady(channel, channel.getState(false), ready));
+		}
+	}
+
+	@Override
+	public void destroy() {
+		this.channels.values().forEach(ManagedChannel::shutdown);
+		this.channels.clear();
+	}
+
+}
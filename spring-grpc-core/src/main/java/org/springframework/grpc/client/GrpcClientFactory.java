@@ -19,13 +19,17 @@ package org.springframework.grpc.client;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 
@@ -44,9 +48,11 @@ import org.springframework.core.type.filter.TypeFilter;
 import org.springframework.grpc.internal.ClasspathScanner;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
+import io.grpc.ManagedChannel;
 import io.grpc.stub.AbstractStub;
 
 /**
@@ -61,7 +67,35 @@ public class GrpcClientFactory implements ApplicationContextAware {
 
 	private static final String FACTORIES_BEAN_DEFINITION_NAME = GrpcClientFactory.class.getName() + ".factories";
 
-	private Map<Class<?>, StubFactory<?>> factories = new LinkedHashMap<>();
+	/**
+	 * Static {@code supports(Class)} methods of stub factories keyed by factory type,
+	 * empty when the factory does not declare one.
+	 */
+	private static final Map<Class<?>, Optional<Method>> SUPPORTS_METHODS = new ConcurrentReferenceHashMap<>();
+
+	/**
+	 * Results of {@link #supports(Class, Class)} keyed by factory type and stub type.
+	 */
+	private static final Map<FactoryAndType, Boolean> SUPPORTS = new ConcurrentReferenceHashMap<>();
+
+	/**
+	 * Stub factories keyed by their type, created once on first use and never modified
+	 * afterwards.
+	 */
+	private volatile @Nullable Map<Class<?>, StubFactory<?>> factories;
+
+	private final Object factoriesMonitor = new Object();
+
+	/**
+	 * Stub factory resolved for each requested factory type and stub type.
+	 */
+	private final Map<FactoryAndType, StubFactory<?>> resolvedFactories = new ConcurrentHashMap<>();
+
+	private final Map<ClientKey, Object> clients = new ConcurrentHashMap<>();
+
+	private final Map<String, ManagedChannel> clientChannels = new ConcurrentHashMap<>();
+
+	private boolean cacheClients;
 
 	private @Nullable ApplicationContext context;
 
@@ -82,39 +116,107 @@ public class GrpcClientFactory implements ApplicationContextAware {
 		return Objects.requireNonNull(this.context, "applicationContext must not be null");
 	}
 
+	/**
+	 * Set whether {@link #getClient} should return the same client for repeated calls
+	 * with the same target, type and factory. Cached clients for the same target share a
+	 * single channel, so callers that need per-call settings should derive them from the
+	 * cached client (e.g. with {@code withDeadlineAfter} or {@code withCallCredentials}).
+	 * Defaults to {@code false} which creates a new client and channel on every call.
+	 * @param cacheClients whether to cache clients
+	 */
+	public void setCacheClients(boolean cacheClients) {
+		this.cacheClients = cacheClients;
+	}
+
 	public <T> T getClient(String target, Class<T> type, Class<?> factory) {
+		if (!this.cacheClients) {
+			return createClient(type, factory,
+					() -> channels().createChannel(target, ChannelBuilderOptions.defaults()));
+		}
+		// Clients and channels are created outside the maps so that creating them never
+		// runs under a map lock, the loser of a race is discarded
+		ClientKey key = new ClientKey(target, type, factory);
+		Object client = this.clients.get(key);
+		if (client == null) {
+			client = createClient(type, factory, () -> clientChannel(target));
+			Object existing = this.clients.putIfAbsent(key, client);
+			if (existing != null) {
+				client = existing;
+			}
+		}
+		@SuppressWarnings("unchecked")
+		T result = (T) client;
+		return result;
+	}
+
+	private ManagedChannel clientChannel(String target) {
+		ManagedChannel channel = this.clientChannels.get(target);
+		if (channel == null) {
+			ManagedChannel created = channels().createChannel(target, ChannelBuilderOptions.defaults());
+			channel = this.clientChannels.putIfAbsent(target, created);
+			if (channel == null) {
+				channel = created;
+			}
+			else {
+				created.shutdown();
+			}
+		}
+		return channel;
+	}
+
+	private <T> T createClient(Class<T> type, Class<?> factory, Supplier<ManagedChannel> channel) {
 		@SuppressWarnings("unchecked")
 		StubFactory<T> stubs = (StubFactory<T>) findFactory(factory, type);
-		T client = (T) stubs.create(() -> channels().createChannel(target, ChannelBuilderOptions.defaults()), type);
+		T client = (T) stubs.create(channel, type);
 		return client;
 	}
 
-	private StubFactory<?> findFactory(Class<?> factoryType, Class<?> type) {
-		if (this.factories.isEmpty()) {
-			List<StubFactory<?>> factories = new ArrayList<>();
-			for (StubFactory<?> factory : this.requireNonNullContext().getBeansOfType(StubFactory.class).values()) {
-				factories.add(factory);
-			}
-			AnnotationAwareOrderComparator.sort(factories);
-			for (StubFactory<?> factory : factories) {
-				this.factories.put(factory.getClass(), factory);
+	private StubFactory<?> findFactory(@Nullable Class<?> factoryType, Class<?> type) {
+		FactoryAndType key = new FactoryAndType(factoryType, type);
+		StubFactory<?> factory = this.resolvedFactories.get(key);
+		if (factory == null) {
+			factory = findFactory(getFactories(), factoryType, type);
+			if (factory == null) {
+				throw new IllegalStateException(
+						"Cannot find a suitable factory for " + type.getName() + " with factory " + factoryType);
 			}
-			for (Class<?> factory : DEFAULT_FACTORIES) {
-				if (this.factories.containsKey(factory)) {
-					continue;
+			this.resolvedFactories.putIfAbsent(key, factory);
+		}
+		return factory;
+	}
+
+	private Map<Class<?>, StubFactory<?>> getFactories() {
+		Map<Class<?>, StubFactory<?>> factories = this.factories;
+		if (factories == null) {
+			synchronized (this.factoriesMonitor) {
+				factories = this.factories;
+				if (factories == null) {
+					factories = createFactories();
+					this.factories = factories;
 				}
-				this.factories.put(factory,
-						(StubFactory<?>) this.requireNonNullContext()
-							.getAutowireCapableBeanFactory()
-							.createBean(factory));
 			}
 		}
-		StubFactory<?> factory = findFactory(this.factories, factoryType, type);
-		if (factory == null) {
-			throw new IllegalStateException(
-					"Cannot find a suitable factory for " + type.getName() + " with factory " + factoryType);
+		return factories;
+	}
+
+	private Map<Class<?>, StubFactory<?>> createFactories() {
+		List<StubFactory<?>> beans = new ArrayList<>();
+		for (StubFactory<?> factory : this.requireNonNullContext().getBeansOfType(StubFactory.class).values()) {
+			beans.add(factory);
 		}
-		return factory;
+		AnnotationAwareOrderComparator.sort(beans);
+		Map<Class<?>, StubFactory<?>> factories = new LinkedHashMap<>();
+		for (StubFactory<?> factory : beans) {
+			factories.put(factory.getClass(), factory);
+		}
+		for (Class<?> factory : DEFAULT_FACTORIES) {
+			if (factories.containsKey(factory)) {
+				continue;
+			}
+			factories.put(factory,
+					(StubFactory<?>) this.requireNonNullContext().getAutowireCapableBeanFactory().createBean(factory));
+		}
+		return Collections.unmodifiableMap(factories);
 	}
 
 	private static @Nullable Class<?> findDefaultFactory(BeanDefinitionRegistry registry,
@@ -174,19 +276,28 @@ public class GrpcClientFactory implements ApplicationContextAware {
 		return null;
 	}
 
-	@SuppressWarnings("NullAway")
-	private static boolean supports(Class<?> factory, Class<?> type) {
-		// To avoid needing to instantiate the factory we use reflection to check for a
-		// static supports() method. If it exists we call it.
+	private static boolean supports(@Nullable Class<?> factory, Class<?> type) {
 		if (factory == null) {
 			return false;
 		}
-		Method method = ReflectionUtils.findMethod(factory, "supports", Class.class);
+		return SUPPORTS.computeIfAbsent(new FactoryAndType(factory, type), (key) -> computeSupports(factory, type));
+	}
+
+	@SuppressWarnings("NullAway")
+	private static boolean computeSupports(Class<?> factory, Class<?> type) {
+		// To avoid needing to instantiate the factory we use reflection to check for a
+		// static supports() method. If it exists we call it.
+		Optional<Method> method = SUPPORTS_METHODS.computeIfAbsent(factory, (key) -> {
+			Method supportsMethod = ReflectionUtils.findMethod(key, "supports", Class.class);
+			if (supportsMethod != null) {
+				ReflectionUtils.makeAccessible(supportsMethod);
+			}
+			return Optional.ofNullable(supportsMethod);
+		});
 		boolean supports = false;
-		if (method != null) {
-			ReflectionUtils.makeAccessible(method);
+		if (method.isPresent()) {
 			try {
-				supports = (boolean) ReflectionUtils.invokeMethod(method, null, type);
+				supports = (boolean) ReflectionUtils.invokeMethod(method.get(), null, type);
 			}
 			catch (Exception e) {
 				// Ignore
@@ -200,8 +311,8 @@ public class GrpcClientFactory implements ApplicationContextAware {
 		return supports;
 	}
 
-	private static @Nullable StubFactory<?> findFactory(Map<Class<?>, StubFactory<?>> values, Class<?> factoryType,
-			Class<?> type) {
+	private static @Nullable StubFactory<?> findFactory(Map<Class<?>, StubFactory<?>> values,
+			@Nullable Class<?> factoryType, Class<?> type) {
 		StubFactory<?> factory = null;
 		if (factoryType != null && factoryType != UnspecifiedStubFactory.class) {
 			factory = values.get(factoryType);
@@ -339,4 +450,12 @@ public class GrpcClientFactory implements ApplicationContextAware {
 
 	}
 
+	private record ClientKey(String target, Class<?> type, @Nullable Class<?> factory) {
+
+	}
+
+	private record FactoryAndType(@Nullable Class<?> factory, Class<?> type) {
+
+	}
+
 }
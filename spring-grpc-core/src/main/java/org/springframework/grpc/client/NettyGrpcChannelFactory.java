@@ -16,23 +16,44 @@
 
 package org.springframework.grpc.client;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.grpc.netty.NettyTransport;
+import org.springframework.grpc.netty.NettyTransports;
 
 import io.grpc.ChannelCredentials;
 import io.grpc.netty.NettyChannelBuilder;
-import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.epoll.EpollDomainSocketChannel;
-import io.netty.channel.epoll.EpollIoHandler;
 import io.netty.channel.unix.DomainSocketAddress;
 
 /**
  * {@link GrpcChannelFactory} that creates Netty-based gRPC channels.
+ * <p>
+ * The {@link #setTransportProvider transport} of each channel can be selected by target.
+ * Channels using the same transport share a single event loop group that is created on
+ * first use and shut down when the factory is destroyed. Channels to {@code unix:}
+ * targets always use the epoll transport. Channels using the {@link NettyTransport#AUTO
+ * AUTO} transport keep the default gRPC event loop group unless a number of
+ * {@link #setEventLoopThreads event loop threads} is set.
  *
  * @author Chris Bono
  * @author Andrey Litvitski
  */
 public class NettyGrpcChannelFactory extends DefaultGrpcChannelFactory<NettyChannelBuilder> {
 
+	private final Object monitor = new Object();
+
+	private final Map<NettyTransport, EventLoopGroup> eventLoopGroups = new EnumMap<>(NettyTransport.class);
+
+	private int eventLoopThreads;
+
+	private Function<String, NettyTransport> transportProvider = (target) -> NettyTransport.AUTO;
+
 	/**
 	 * Construct a channel factory instance.
 	 * @param globalCustomizers the global customizers to apply to all created channels
@@ -44,15 +65,66 @@ public class NettyGrpcChannelFactory extends DefaultGrpcChannelFactory<NettyChan
 		super(globalCustomizers, interceptorsConfigurer);
 	}
 
+	/**
+	 * Sets the number of threads of each event loop group shared by the created channels.
+	 * @param eventLoopThreads the number of threads or {@code 0} to use the Netty default
+	 */
+	public void setEventLoopThreads(int eventLoopThreads) {
+		this.eventLoopThreads = eventLoopThreads;
+	}
+
+	/**
+	 * Sets the provider of the transport to use for a channel.
+	 * @param transportProvider provides the transport given the target string passed to
+	 * the channel factory
+	 */
+	public void setTransportProvider(Function<String, NettyTransport> transportProvider) {
+		this.transportProvider = transportProvider;
+	}
+
 	@Override
 	protected NettyChannelBuilder newChannelBuilder(String target, ChannelCredentials credentials) {
 		if (target.startsWith("unix:")) {
 			target = target.substring(5);
 			return NettyChannelBuilder.forAddress(new DomainSocketAddress(target))
 				.channelType(EpollDomainSocketChannel.class)
-				.eventLoopGroup(new MultiThreadIoEventLoopGroup(EpollIoHandler.newFactory()));
+				.eventLoopGroup(eventLoopGroup(NettyTransport.EPOLL));
 		}
 		return NettyChannelBuilder.forTarget(target, credentials);
 	}
 
+	@Override
+	protected void configureTransport(String target, String targetUri, NettyChannelBuilder builder) {
+		if (targetUri.startsWith("unix:")) {
+			return;
+		}
+		NettyTransport transport = this.transportProvider.apply(target);
+		if (transport == NettyTransport.AUTO && this.eventLoopThreads == 0) {
+			return;
+		}
+		transport = NettyTransports.resolve(transport);
+		builder.channelType(NettyTransports.socketChannelType(transport)).eventLoopGroup(eventLoopGroup(transport));
+	}
+
+	private EventLoopGroup eventLoopGroup(NettyTransport transport) {
+		synchronized (this.monitor) {
+			return this.eventLoopGroups.computeIfAbsent(transport,
+					(key) -> NettyTransports.eventLoopGroup(key, this.eventLoopThreads));
+		}
+	}
+
+	@Override
+	public void destroy() {
+		try {
+			super.destroy();
+		}
+		finally {
+			synchronized (this.monitor) {
+				this.eventLoopGroups.values()
+					.forEach((group) -> group.shutdownGracefully(0, 15, TimeUnit.SECONDS).syncUninterruptibly());
+				this.eventLoopGroups.clear();
+			}
+		}
+	}
+
 }
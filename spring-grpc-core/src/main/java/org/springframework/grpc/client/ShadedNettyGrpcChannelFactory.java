@@ -16,21 +16,43 @@
 
 package org.springframework.grpc.client;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.grpc.netty.NettyTransport;
+import org.springframework.grpc.netty.ShadedNettyTransports;
 
 import io.grpc.ChannelCredentials;
 import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
 import io.grpc.netty.shaded.io.netty.channel.epoll.EpollDomainSocketChannel;
-import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
 import io.grpc.netty.shaded.io.netty.channel.unix.DomainSocketAddress;
 
 /**
  * {@link GrpcChannelFactory} that creates shaded Netty-based gRPC channels.
+ * <p>
+ * The {@link #setTransportProvider transport} of each channel can be selected by target.
+ * Channels using the same transport share a single event loop group that is created on
+ * first use and shut down when the factory is destroyed. Channels to {@code unix:}
+ * targets always use the epoll transport. Channels using the {@link NettyTransport#AUTO
+ * AUTO} transport keep the default gRPC event loop group unless a number of
+ * {@link #setEventLoopThreads event loop threads} is set.
  *
  * @author Chris Bono
  */
 public class ShadedNettyGrpcChannelFactory extends DefaultGrpcChannelFactory<NettyChannelBuilder> {
 
+	private final Object monitor = new Object();
+
+	private final Map<NettyTransport, EventLoopGroup> eventLoopGroups = new EnumMap<>(NettyTransport.class);
+
+	private int eventLoopThreads;
+
+	private Function<String, NettyTransport> transportProvider = (target) -> NettyTransport.AUTO;
+
 	/**
 	 * Construct a channel factory instance.
 	 * @param globalCustomizers the global customizers to apply to all created channels
@@ -42,15 +64,67 @@ public class ShadedNettyGrpcChannelFactory extends DefaultGrpcChannelFactory<Net
 		super(globalCustomizers, interceptorsConfigurer);
 	}
 
+	/**
+	 * Sets the number of threads of each event loop group shared by the created channels.
+	 * @param eventLoopThreads the number of threads or {@code 0} to use the Netty default
+	 */
+	public void setEventLoopThreads(int eventLoopThreads) {
+		this.eventLoopThreads = eventLoopThreads;
+	}
+
+	/**
+	 * Sets the provider of the transport to use for a channel.
+	 * @param transportProvider provides the transport given the target string passed to
+	 * the channel factory
+	 */
+	public void setTransportProvider(Function<String, NettyTransport> transportProvider) {
+		this.transportProvider = transportProvider;
+	}
+
 	@Override
 	protected NettyChannelBuilder newChannelBuilder(String path, ChannelCredentials credentials) {
 		if (path.startsWith("unix:")) {
 			path = path.substring(5);
 			return NettyChannelBuilder.forAddress(new DomainSocketAddress(path))
 				.channelType(EpollDomainSocketChannel.class)
-				.eventLoopGroup(new EpollEventLoopGroup());
+				.eventLoopGroup(eventLoopGroup(NettyTransport.EPOLL));
 		}
 		return NettyChannelBuilder.forTarget(path, credentials);
 	}
 
+	@Override
+	protected void configureTransport(String target, String targetUri, NettyChannelBuilder builder) {
+		if (targetUri.startsWith("unix:")) {
+			return;
+		}
+		NettyTransport transport = this.transportProvider.apply(target);
+		if (transport == NettyTransport.AUTO && this.eventLoopThreads == 0) {
+			return;
+		}
+		transport = ShadedNettyTransports.resolve(transport);
+		builder.channelType(ShadedNettyTransports.socketChannelType(transport))
+			.eventLoopGroup(eventLoopGroup(transport));
+	}
+
+	private EventLoopGroup eventLoopGroup(NettyTransport transport) {
+		synchronized (this.monitor) {
+			return this.eventLoopGroups.computeIfAbsent(transport,
+					(key) -> ShadedNettyTransports.eventLoopGroup(key, this.eventLoopThreads));
+		}
+	}
+
+	@Override
+	public void destroy() {
+		try {
+			super.destroy();
+		}
+		finally {
+			synchronized (this.monitor) {
+				this.eventLoopGroups.values()
+					.forEach((group) -> group.shutdownGracefully(0, 15, TimeUnit.SECONDS).syncUninterruptibly());
+				this.eventLoopGroups.clear();
+			}
+		}
+	}
+
 }
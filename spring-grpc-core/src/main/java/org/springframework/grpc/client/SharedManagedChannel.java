@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+
+/**
+ * A reference-counted {@link ManagedChannel} that is shared by several owners. Each owner
+ * receives its own {@link #retain() lease} and the underlying channel is only shut down
+ * once every lease has been shut down.
+ *
+ * @author Oleksandr Shevchenko
+ */
+final class SharedManagedChannel {
+
+	private final ManagedChannel delegate;
+
+	private final Consumer<SharedManagedChannel> onRelease;
+
+	private int references;
+
+	private boolean released;
+
+	/**
+	 * Construct a shared channel.
+	 * @param delegate the underlying channel
+	 * @param onRelease callback invoked when the last lease has been released
+	 */
+	SharedManagedChannel(ManagedChannel delegate, Consumer<SharedManagedChannel> onRelease) {
+		this.delegate = delegate;
+		this.onRelease = onRelease;
+	}
+
+	ManagedChannel delegate() {
+		return this.delegate;
+	}
+
+	/**
+	 * Gets a new lease on the underlying channel.
+	 * @return a lease that releases its reference when shut down, or {@code null} if the
+	 * last lease has already been released and the channel can no longer be shared
+	 */
+	synchronized @Nullable ManagedChannel retain() {
+		if (this.released) {
+			return null;
+		}
+		this.references++;
+		return new Lease();
+	}
+
+	/**
+	 * Releases a single reference to the underlying channel.
+	 * @return whether the underlying channel is no longer referenced
+	 */
+	private synchronized boolean release() {
+		this.references--;
+		if (this.references > 0) {
+			return false;
+		}
+		this.released = true;
+		this.onRelease.accept(this);
+		return true;
+	}
+
+	/**
+	 * The view of the shared channel handed out to a single owner.
+	 */
+	private final class Lease extends ManagedChannel {
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private volatile boolean lastReference;
+
+		@Override
+		public ManagedChannel shutdown() {
+			if (this.released.compareAndSet(false, true)) {
+				this.lastReference = release();
+				if (this.lastReference) {
+					SharedManagedChannel.this.delegate.shutdown();
+				}
+			}
+			return this;
+		}
+
+		@Override
+		public ManagedChannel shutdownNow() {
+			if (this.released.compareAndSet(false, true)) {
+				this.lastReference = release();
+			}
+			if (this.lastReference) {
+				SharedManagedChannel.this.delegate.shutdownNow();
+			}
+			return this;
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return this.released.get() || SharedManagedChannel.this.delegate.isShutdown();
+		}
+
+		@Override
+		public boolean isTerminated() {
+			if (this.released.get() && !this.lastReference) {
+				// Other owners still use the channel but this lease is done with it
+				return true;
+			}
+			return SharedManagedChannel.this.delegate.isTerminated();
+		}
+
+		@Override
+		public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+			if (this.released.get() && !this.lastReference) {
+				return true;
+			}
+			return SharedManagedChannel.this.delegate.awaitTermination(timeout, unit);
+		}
+
+		@Override
+		public ConnectivityState getState(boolean requestConnection) {
+			return SharedManagedChannel.this.delegate.getState(requestConnection);
+		}
+
+		@Override
+		public void notifyWhenStateChanged(ConnectivityState source, Runnable callback) {
+			SharedManagedChannel.this.delegate.notifyWhenStateChanged(source, callback);
+		}
+
+		@Override
+		public void resetConnectBackoff() {
+			SharedManagedChannel.this.delegate.resetConnectBackoff();
+		}
+
+		@Override
+		public void enterIdle() {
+			SharedManagedChannel.this.delegate.enterIdle();
+		}
+
+		@Override
+		public <RequestT, ResponseT> ClientCall<RequestT, ResponseT> newCall(
+				MethodDescriptor<RequestT, ResponseT> methodDescriptor, CallOptions callOptions) {
+			return SharedManagedChannel.this.delegate.newCall(methodDescriptor, callOptions);
+		}
+
+		@Override
+		public String authority() {
+			return SharedManagedChannel.this.delegate.authority();
+		}
+
+		@Override
+		public String toString() {
+			return "SharedManagedChannel.Lease[" + SharedManagedChannel.this.delegate + "]";
+		}
+
+	}
+
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.springframework.grpc.client.ChannelPoolOptions.Selection;
+import org.springframework.util.Assert;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ForwardingClientCall.SimpleForwardingClientCall;
+import io.grpc.ForwardingClientCallListener.SimpleForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * A {@link ManagedChannel} that spreads calls across several underlying channels, each
+ * with its own connection, according to a {@link Selection selection strategy}.
+ *
+ * @author Oleksandr Shevchenko
+ */
+final class StripedManagedChannel extends ManagedChannel {
+
+	private final ManagedChannel[] channels;
+
+	private final Selection selection;
+
+	private final AtomicInteger next = new AtomicInteger();
+
+	private final AtomicIntegerArray inFlight;
+
+	StripedManagedChannel(List<ManagedChannel> channels, Selection selection) {
+		Assert.notEmpty(channels, "channels must not be empty");
+		this.channels = channels.toArray(new ManagedChannel[0]);
+		this.selection = selection;
+		this.inFlight = new AtomicIntegerArray(this.channels.length);
+	}
+
+	@Override
+	public <RequestT, ResponseT> ClientCall<RequestT, ResponseT> newCall(
+			MethodDescriptor<RequestT, ResponseT> methodDescriptor, CallOptions callOptions) {
+		if (this.selection == Selection.ROUND_ROBIN) {
+			return this.channels[nextIndex()].newCall(methodDescriptor, callOptions);
+		}
+		int index = leastInFlightIndex();
+		return new InFlightTrackingCall<>(this.channels[index].newCall(methodDescriptor, callOptions), index);
+	}
+
+	private int nextIndex() {
+		return Math.floorMod(this.next.getAndIncrement(), this.channels.length);
+	}
+
+	private int leastInFlightIndex() {
+		// Start from a rotating offset so that ties do not always pick the first channel
+		int start = nextIndex();
+		int selected = start;
+		int least = Integer.MAX_VALUE;
+		for (int i = 0; i < this.channels.length; i++) {
+			int index = (start + i) % this.channels.length;
+			int count = this.inFlight.get(index);
+			if (count < least) {
+				least = count;
+				selected = index;
+			}
+		}
+		return selected;
+	}
+
+	@Override
+	public String authority() {
+		return this.channels[0].authority();
+	}
+
+	@Override
+	public ManagedChannel shutdown() {
+		for (ManagedChannel channel : this.channels) {
+			channel.shutdown();
+		}
+		return this;
+	}
+
+	@Override
+	public ManagedChannel shutdownNow() {
+		for (ManagedChannel channel : this.channels) {
+			channel.shutdownNow();
+		}
+		return this;
+	}
+
+	@Override
+	public boolean isShutdown() {
+		for (ManagedChannel channel : this.channels) {
+			if (!channel.isShutdown()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean isTerminated() {
+		for (ManagedChannel channel : this.channels) {
+			if (!channel.isTerminated()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		for (ManagedChannel channel : this.channels) {
+			if (!channel.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the most available state of the underlying channels, i.e. the pool is
+	 * {@link ConnectivityState#READY ready} as soon as any of its channels is ready.
+	 */
+	@Override
+	public ConnectivityState getState(boolean requestConnection) {
+		ConnectivityState best = ConnectivityState.SHUTDOWN;
+		for (ManagedChannel channel : this.channels) {
+			ConnectivityState state = channel.getState(requestConnection);
+			if (rank(state) < rank(best)) {
+				best = state;
+			}
+		}
+		return best;
+	}
+
+	private static int rank(ConnectivityState state) {
+		return switch (state) {
+			case READY -> 0;
+			case CONNECTING -> 1;
+			case IDLE -> 2;
+			case TRANSIENT_FAILURE -> 3;
+			case SHUTDOWN -> 4;
+		};
+	}
+
+	@Override
+	public void notifyWhenStateChanged(ConnectivityState source, Runnable callback) {
+		if (getState(false) != source) {
+			callback.run();
+			return;
+		}
+		AtomicBoolean notified = new AtomicBoolean();
+		for (ManagedChannel channel : this.channels) {
+			watch(channel, source, callback, notified);
+		}
+	}
+
+	private void watch(ManagedChannel channel, ConnectivityState source, Runnable callback, AtomicBoolean notified) {
+		channel.notifyWhenStateChanged(channel.getState(false), () -> {
+			if (notified.get()) {
+				return;
+			}
+			if (getState(false) != source) {
+				if (notified.compareAndSet(false, true)) {
+					callback.run();
+				}
+			}
+			else {
+				watch(channel, source, callback, notified);
+			}
+		});
+	}
+
+	@Override
+	public void resetConnectBackoff() {
+		for (ManagedChannel channel : this.channels) {
+			channel.resetConnectBackoff();
+		}
+	}
+
+	@Override
+	public void enterIdle() {
+		for (ManagedChannel channel : this.channels) {
+			channel.enterIdle();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "StripedManagedChannel[size=" + this.channels.length + ", selection=" + this.selection + ", authority="
+				+ authority() + "]";
+	}
+
+	/**
+	 * Keeps the in-flight count of the selected channel up to date for the lifetime of a
+	 * call.
+	 */
+	private final class InFlightTrackingCall<ReqT, RespT> extends SimpleForwardingClientCall<ReqT, RespT> {
+
+		private final int index;
+
+		private final AtomicBoolean done = new AtomicBoolean();
+
+		InFlightTrackingCall(ClientCall<ReqT, RespT> delegate, int index) {
+			super(delegate);
+			this.index = index;
+		}
+
+		@Override
+		public void start(Listener<RespT> responseListener, Metadata headers) {
+			StripedManagedChannel.this.inFlight.incrementAndGet(this.index);
+			try {
+				super.start(new SimpleForwardingClientCallListener<>(responseListener) {
+
+					@Override
+					public void onClose(Status status, Metadata trailers) {
+						finished();
+						super.onClose(status, trailers);
+					}
+
+				}, headers);
+			}
+			catch (RuntimeException ex) {
+				finished();
+				throw ex;
+			}
+		}
+
+		private void finished() {
+			if (this.done.compareAndSet(false, true)) {
+				StripedManagedChannel.this.inFlight.decrementAndGet(this.index);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.interceptor;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.grpc.limit.AdaptiveConcurrencyLimiter;
+import org.springframework.grpc.limit.AdaptiveConcurrencyLimiter.Permit;
+import org.springframework.util.Assert;
+
+import io.grpc.Attributes;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCallListener.SimpleForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.Status;
+
+/**
+ * A client interceptor that limits the number of unary calls in flight with an
+ * {@link AdaptiveConcurrencyLimiter}. Calls over the limit fail straight away with
+ * {@link Status#RESOURCE_EXHAUSTED} instead of adding to the load on a slow server.
+ * Streaming calls, whose duration says little about the load of the server, are not
+ * limited.
+ * <p>
+ * A call takes a permit when it is started and releases it when it closes. Calls that
+ * fail with {@link Status.Code#DEADLINE_EXCEEDED}, {@link Status.Code#UNAVAILABLE} or
+ * {@link Status.Code#RESOURCE_EXHAUSTED} shrink the limit, cancelled calls leave it
+ * unchanged and the round trip time of all other calls adjusts it.
+ *
+ * @author Oleksandr Shevchenko
+ */
+public class ConcurrencyLimitClientInterceptor implements ClientInterceptor {
+
+	private final AdaptiveConcurrencyLimiter limiter;
+
+	public ConcurrencyLimitClientInterceptor(AdaptiveConcurrencyLimiter limiter) {
+		Assert.notNull(limiter, "limiter must not be null");
+		this.limiter = limiter;
+	}
+
+	@Override
+	public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+			CallOptions callOptions, Channel next) {
+		if (method.getType() != MethodType.UNARY) {
+			return next.newCall(method, callOptions);
+		}
+		return new LimitedClientCall<>(this.limiter, method, callOptions, next);
+	}
+
+	/**
+	 * A call that only creates the call of the next channel once it has been started with
+	 * a permit, so that calls that are never started hold no permit and calls over the
+	 * limit do not reach the channel.
+	 */
+	private static final class LimitedClientCall<ReqT, RespT> extends ClientCall<ReqT, RespT> {
+
+		private final AdaptiveConcurrencyLimiter limiter;
+
+		private final MethodDescriptor<ReqT, RespT> method;
+
+		private final CallOptions callOptions;
+
+		private final Channel next;
+
+		private volatile @Nullable ClientCall<ReqT, RespT> delegate;
+
+		LimitedClientCall(AdaptiveConcurrencyLimiter limiter, MethodDescriptor<ReqT, RespT> method,
+				CallOptions callOptions, Channel next) {
+			this.limiter = limiter;
+			this.method = method;
+			this.callOptions = callOptions;
+			this.next = next;
+		}
+
+		@Override
+		public void start(Listener<RespT> responseListener, Metadata headers) {
+			Permit permit = this.limiter.tryAcquire();
+			if (permit == null) {
+				responseListener.onClose(
+						Status.RESOURCE_EXHAUSTED
+							.withDescription("Client concurrency limit reached for " + this.method.getFullMethodName()),
+						new Metadata());
+				return;
+			}
+			try {
+				ClientCall<ReqT, RespT> call = this.next.newCall(this.method, this.callOptions);
+				this.delegate = call;
+				call.start(new SimpleForwardingClientCallListener<>(responseListener) {
+
+					@Override
+					public void onClose(Status status, Metadata trailers) {
+						switch (status.getCode()) {
+							case DEADLINE_EXCEEDED, UNAVAILABLE, RESOURCE_EXHAUSTED -> permit.onDropped();
+							case CANCELLED -> permit.onIgnore();
+							default -> permit.onSuccess();
+						}
+						super.onClose(status, trailers);
+					}
+
+				}, headers);
+			}
+			catch (RuntimeException ex) {
+				permit.onIgnore();
+				throw ex;
+			}
+		}
+
+		@Override
+		public void request(int numMessages) {
+			ClientCall<ReqT, RespT> call = this.delegate;
+			if (call != null) {
+				call.request(numMessages);
+			}
+		}
+
+		@Override
+		public void cancel(@Nullable String message, @Nullable Throwable cause) {
+			// A started call releases its permit when its listener is closed
+			ClientCall<ReqT, RespT> call = this.delegate;
+			if (call != null) {
+				call.cancel(message, cause);
+			}
+		}
+
+		@Override
+		public void halfClose() {
+			ClientCall<ReqT, RespT> call = this.delegate;
+			if (call != null) {
+				call.halfClose();
+			}
+		}
+
+		@Override
+		public void sendMessage(ReqT message) {
+			ClientCall<ReqT, RespT> call = this.delegate;
+			if (call != null) {
+				call.sendMessage(message);
+			}
+		}
+
+		@Override
+		public void setMessageCompression(boolean enabled) {
+			ClientCall<ReqT, RespT> call = this.delegate;
+			if (call != null) {
+				call.setMessageCompression(enabled);
+			}
+		}
+
+		@Override
+		public boolean isReady() {
+			ClientCall<ReqT, RespT> call = this.delegate;
+			return call != null && call.isReady();
+		}
+
+		@Override
+		public Attributes getAttributes() {
+			ClientCall<ReqT, RespT> call = this.delegate;
+			return (call != null) ? call.getAttributes() : Attributes.EMPTY;
+		}
+
+	}
+
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.limit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * A concurrency limit that adapts to the observed round trip time of calls, following the
+ * gradient approach: while calls complete about as fast as they usually do the limit is
+ * allowed to grow, and once they slow down (queueing somewhere downstream) the limit
+ * shrinks in proportion to how much slower they have become. Calls that time out or are
+ * rejected by the other side shrink the limit straight away.
+ * <p>
+ * Callers {@link #tryAcquire() acquire} a {@link Permit} before starting a call and
+ * report its outcome through the permit once the call has finished.
+ *
+ * @author Oleksandr Shevchenko
+ */
+public class AdaptiveConcurrencyLimiter {
+
+	/**
+	 * Number of samples over which the long-term round trip time is averaged.
+	 */
+	private static final int LONG_WINDOW = 600;
+
+	/**
+	 * How much slower than the long-term average a call may be before the limit shrinks.
+	 */
+	private static final double RTT_TOLERANCE = 1.5;
+
+	/**
+	 * Extra calls allowed above the estimated limit so that the limit can grow.
+	 */
+	private static final int QUEUE_SIZE = 4;
+
+	/**
+	 * Factor the limit is multiplied with when a call is dropped.
+	 */
+	private static final double BACKOFF_RATIO = 0.9;
+
+	private static final double SMOOTHING = 0.2;
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private volatile int limit;
+
+	private double estimatedLimit;
+
+	private volatile double longRtt;
+
+	private long samples;
+
+	/**
+	 * Construct a limiter.
+	 * @param initialLimit the limit to start with
+	 * @param minLimit the lowest the limit may shrink to
+	 * @param maxLimit the highest the limit may grow to
+	 */
+	public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+		Assert.isTrue(minLimit > 0, "minLimit must be greater than 0");
+		Assert.isTrue(maxLimit >= minLimit, "maxLimit must not be less than minLimit");
+		Assert.isTrue(initialLimit >= minLimit && initialLimit <= maxLimit,
+				"initialLimit must be between minLimit and maxLimit");
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.limit = initialLimit;
+		this.estimatedLimit = initialLimit;
+	}
+
+	/**
+	 * Gets the current limit.
+	 * @return the maximum number of calls currently allowed in flight
+	 */
+	public int getLimit() {
+		return this.limit;
+	}
+
+	/**
+	 * Gets the number of calls in flight.
+	 * @return the number of acquired permits that have not been released yet
+	 */
+	public int getInFlight() {
+		return this.inFlight.get();
+	}
+
+	/**
+	 * Gets the long-term average round trip time of the calls that completed
+	 * successfully.
+	 * @return the latency estimate, or {@link Duration#ZERO} until a call has completed
+	 */
+	public Duration getLatencyEstimate() {
+		return Duration.ofNanos((long) this.longRtt);
+	}
+
+	/**
+	 * Try to acquire a permit for a new call.
+	 * @return the permit or {@code null} if the limit has been reached and the call
+	 * should be rejected
+	 */
+	public @Nullable Permit tryAcquire() {
+		while (true) {
+			int current = this.inFlight.get();
+			if (current >= this.limit) {
+				return null;
+			}
+			if (this.inFlight.compareAndSet(current, current + 1)) {
+				return new Permit(current + 1);
+			}
+		}
+	}
+
+	private synchronized void onSample(long rttNanos, int inFlightAtStart) {
+		this.samples++;
+		if (this.samples == 1) {
+			this.longRtt = rttNanos;
+		}
+		else {
+			double factor = 2.0 / (Math.min(this.samples, LONG_WINDOW) + 1);
+			this.longRtt = this.longRtt * (1 - factor) + rttNanos * factor;
+		}
+		if (this.longRtt / rttNanos > 2) {
+			// Calls are much faster than they used to be so let the average catch up
+			this.longRtt *= 0.95;
+		}
+		if (inFlightAtStart < this.estimatedLimit / 2) {
+			// The limit was not what held calls back so the sample says nothing about it
+			return;
+		}
+		double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * this.longRtt / rttNanos));
+		double newLimit = this.estimatedLimit * gradient + QUEUE_SIZE;
+		update(this.estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+	}
+
+	private synchronized void onDropped() {
+		update(this.estimatedLimit * BACKOFF_RATIO);
+	}
+
+	private void update(double newLimit) {
+		this.estimatedLimit = Math.max(this.minLimit, Math.min(this.maxLimit, newLimit));
+		this.limit = (int) this.estimatedLimit;
+	}
+
+	/**
+	 * Permission to run a single call. Exactly one of the outcome methods should be
+	 * called once the call has finished; only the first one has any effect.
+	 */
+	public final class Permit {
+
+		private final long startTime = System.nanoTime();
+
+		private final int inFlightAtStart;
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private Permit(int inFlightAtStart) {
+			this.inFlightAtStart = inFlightAtStart;
+		}
+
+		/**
+		 * The call completed and its round trip time should adjust the limit.
+		 */
+		public void onSuccess() {
+			if (release()) {
+				onSample(Math.max(1, System.nanoTime() - this.startTime), this.inFlightAtStart);
+			}
+		}
+
+		/**
+		 * The call timed out or was rejected because of overload and the limit should
+		 * shrink.
+		 */
+		public void onDropped() {
+			if (release()) {
+				AdaptiveConcurrencyLimiter.this.onDropped();
+			}
+		}
+
+		/**
+		 * The call finished in a way that says nothing about load (e.g. it was cancelled)
+		 * and the limit should not change.
+		 */
+		public void onIgnore() {
+			release();
+		}
+
+		private boolean release() {
+			if (this.released.compareAndSet(false, true)) {
+				AdaptiveConcurrencyLimiter.this.inFlight.decrementAndGet();
+				return true;
+			}
+			return false;
+		}
+
+	}
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.marshaller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.Marshaller;
+
+/**
+ * {@link MethodMarshallerProvider} that counts the messages and bytes decoded and encoded
+ * by the marshallers of each method. The marshallers themselves are chosen by a delegate
+ * provider, which allows the effect of a lower allocation marshaller to be measured per
+ * method.
+ *
+ * @author Oleksandr Shevchenko
+ */
+public class CountingMethodMarshallerProvider implements MethodMarshallerProvider {
+
+	private final MethodMarshallerProvider delegate;
+
+	private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a provider that counts the usage of the marshallers currently bound to each
+	 * method.
+	 */
+	public CountingMethodMarshallerProvider() {
+		this(new MethodMarshallerProvider() {
+
+			@Override
+			public <T> Marshaller<T> getMarshaller(MethodDescriptor<?, ?> method, Marshaller<T> marshaller) {
+				return marshaller;
+			}
+
+		});
+	}
+
+	/**
+	 * Creates a provider that counts the usage of the marshallers chosen by the given
+	 * provider.
+	 * @param delegate the provider choosing the marshallers
+	 */
+	public CountingMethodMarshallerProvider(MethodMarshallerProvider delegate) {
+		Assert.notNull(delegate, "delegate must not be null");
+		this.delegate = delegate;
+	}
+
+	@Override
+	public <T> Marshaller<T> getMarshaller(MethodDescriptor<?, ?> method, Marshaller<T> marshaller) {
+		Counters methodCounters = this.counters.computeIfAbsent(method.getFullMethodName(), (name) -> new Counters());
+		return new CountingMarshaller<>(this.delegate.getMarshaller(method, marshaller), methodCounters);
+	}
+
+	/**
+	 * Gets the counters of the given method.
+	 * @param fullMethodName the full name of the method
+	 * @return the counters or {@code null} if no marshaller has been provided for the
+	 * method
+	 */
+	public @Nullable Counters getCounters(String fullMethodName) {
+		return this.counters.get(fullMethodName);
+	}
+
+	/**
+	 * Gets the counters of all methods that marshallers have been provided for.
+	 * @return the counters keyed by full method name
+	 */
+	public Map<String, Counters> getCounters() {
+		return Map.copyOf(this.counters);
+	}
+
+	/**
+	 * Usage counters of the marshallers of a single method.
+	 */
+	public static final class Counters {
+
+		private final LongAdder parsedMessages = new LongAdder();
+
+		private final LongAdder parsedBytes = new LongAdder();
+
+		private final LongAdder streamedMessages = new LongAdder();
+
+		/**
+		 * Gets the number of messages that have been parsed.
+		 * @return the number of parsed messages
+		 */
+		public long getParsedMessages() {
+			return this.parsedMessages.sum();
+		}
+
+		/**
+		 * Gets the number of serialized bytes that have been parsed. Only streams that
+		 * know their length up front are counted.
+		 * @return the number of parsed bytes
+		 */
+		public long getParsedBytes() {
+			return this.parsedBytes.sum();
+		}
+
+		/**
+		 * Gets the number of messages that have been serialized.
+		 * @return the number of serialized messages
+		 */
+		public long getStreamedMessages() {
+			return this.streamedMessages.sum();
+		}
+
+	}
+
+	private static final class CountingMarshaller<T> implements Marshaller<T> {
+
+		private final Marshaller<T> delegate;
+
+		private final Counters counters;
+
+		CountingMarshaller(Marshaller<T> delegate, Counters counters) {
+			this.delegate = delegate;
+			this.counters = counters;
+		}
+
+		@Override
+		public InputStream stream(T value) {
+			this.counters.streamedMessages.increment();
+			return this.delegate.stream(value);
+		}
+
+		@Override
+		public T parse(InputStream stream) {
+			this.counters.parsedMessages.increment();
+			if (stream instanceof KnownLength) {
+				try {
+					this.counters.parsedBytes.add(stream.available());
+				}
+				catch (IOException ex) {
+					// Leave the byte count as it is and let the delegate report the
+					// failure
+				}
+			}
+			return this.delegate.parse(stream);
+		}
+
+	}
+
+}
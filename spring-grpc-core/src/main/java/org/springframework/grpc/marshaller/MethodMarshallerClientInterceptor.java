@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.marshaller;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.util.Assert;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.MethodDescriptor;
+
+/**
+ * {@link ClientInterceptor} that makes calls with the marshallers chosen by a
+ * {@link MethodMarshallerProvider} instead of the marshallers of the generated method
+ * descriptors. The rebound descriptors are created once per method.
+ *
+ * @author Oleksandr Shevchenko
+ * @see MethodMarshallers
+ */
+public class MethodMarshallerClientInterceptor implements ClientInterceptor {
+
+	private final MethodMarshallerProvider provider;
+
+	private final Map<MethodDescriptor<?, ?>, MethodDescriptor<?, ?>> methods = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates an interceptor that uses the marshallers chosen by the given provider.
+	 * @param provider the marshaller provider
+	 */
+	public MethodMarshallerClientInterceptor(MethodMarshallerProvider provider) {
+		Assert.notNull(provider, "provider must not be null");
+		this.provider = provider;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+			CallOptions callOptions, Channel next) {
+		var boundMethod = (MethodDescriptor<ReqT, RespT>) this.methods.computeIfAbsent(method,
+				(key) -> MethodMarshallers.bind(method, this.provider));
+		return next.newCall(boundMethod, callOptions);
+	}
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.marshaller;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.Marshaller;
+
+/**
+ * Strategy for choosing the {@link Marshaller} used for the messages of a gRPC method.
+ * Allows services and clients to use lower allocation or instrumented marshallers without
+ * changing their generated code.
+ *
+ * @author Oleksandr Shevchenko
+ * @see MethodMarshallers
+ */
+public interface MethodMarshallerProvider {
+
+	/**
+	 * Gets the marshaller to use for the request or response messages of the given
+	 * method.
+	 * @param <T> the type of message
+	 * @param method the method the marshaller is used for
+	 * @param marshaller the marshaller currently bound to the method
+	 * @return the marshaller to use, or the given marshaller to leave it unchanged
+	 */
+	<T> Marshaller<T> getMarshaller(MethodDescriptor<?, ?> method, Marshaller<T> marshaller);
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.marshaller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.Marshaller;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+
+/**
+ * Binds the marshallers chosen by a {@link MethodMarshallerProvider} to the methods of
+ * gRPC services and clients.
+ * <p>
+ * NOTE: Even though this class visibility is `public` it is intended for internal use
+ * only and not recommended for direct use.
+ *
+ * @author Oleksandr Shevchenko
+ */
+public final class MethodMarshallers {
+
+	private MethodMarshallers() {
+	}
+
+	/**
+	 * Returns a copy of the given method descriptor that uses the marshallers chosen by
+	 * the given provider.
+	 * @param <ReqT> the type of request
+	 * @param <RespT> the type of response
+	 * @param method the method descriptor
+	 * @param provider the marshaller provider
+	 * @return the rebound method descriptor, or the given descriptor if the provider kept
+	 * both of its marshallers
+	 */
+	public static <ReqT, RespT> MethodDescriptor<ReqT, RespT> bind(MethodDescriptor<ReqT, RespT> method,
+			MethodMarshallerProvider provider) {
+		Marshaller<ReqT> requestMarshaller = provider.getMarshaller(method, method.getRequestMarshaller());
+		Marshaller<RespT> responseMarshaller = provider.getMarshaller(method, method.getResponseMarshaller());
+		if (requestMarshaller == method.getRequestMarshaller()
+				&& responseMarshaller == method.getResponseMarshaller()) {
+			return method;
+		}
+		return method.toBuilder(requestMarshaller, responseMarshaller).build();
+	}
+
+	/**
+	 * Returns a copy of the given service definition whose methods use the marshallers
+	 * chosen by the given provider. The schema descriptors and call handlers of the
+	 * service are kept.
+	 * @param service the service definition
+	 * @param provider the marshaller provider
+	 * @return the rebound service definition
+	 */
+	public static ServerServiceDefinition bind(ServerServiceDefinition service, MethodMarshallerProvider provider) {
+		ServiceDescriptor descriptor = service.getServiceDescriptor();
+		List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+		service.getMethods().forEach((method) -> methods.add(bind(method, provider)));
+		ServiceDescriptor.Builder descriptorBuilder = ServiceDescriptor.newBuilder(descriptor.getName())
+			.setSchemaDescriptor(descriptor.getSchemaDescriptor());
+		methods.forEach((method) -> descriptorBuilder.addMethod(method.getMethodDescriptor()));
+		ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(descriptorBuilder.build());
+		methods.forEach(builder::addMethod);
+		return builder.build();
+	}
+
+	private static <ReqT, RespT> ServerMethodDefinition<ReqT, RespT> bind(ServerMethodDefinition<ReqT, RespT> method,
+			MethodMarshallerProvider provider) {
+		return ServerMethodDefinition.create(bind(method.getMethodDescriptor(), provider),
+				method.getServerCallHandler());
+	}
+
+}
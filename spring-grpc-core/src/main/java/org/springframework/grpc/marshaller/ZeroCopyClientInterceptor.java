@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.marshaller;
+
+import io.grpc.ClientInterceptor;
+
+/**
+ * {@link ClientInterceptor} that makes calls with {@link ZeroCopyProtoMarshaller
+ * zero-copy protobuf marshallers} instead of the marshallers of the generated method
+ * descriptors. The rebound descriptors are created once per method.
+ *
+ * @author Oleksandr Shevchenko
+ * @see ZeroCopyMarshalling
+ */
+public class ZeroCopyClientInterceptor extends MethodMarshallerClientInterceptor {
+
+	public ZeroCopyClientInterceptor() {
+		super(ZeroCopyMarshalling.PROVIDER);
+	}
+
+}
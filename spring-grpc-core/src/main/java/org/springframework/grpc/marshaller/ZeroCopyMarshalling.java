@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.marshaller;
+
+import com.google.protobuf.Message;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.Marshaller;
+import io.grpc.MethodDescriptor.PrototypeMarshaller;
+import io.grpc.ServerServiceDefinition;
+
+/**
+ * Rebinds the methods of gRPC services and clients to {@link ZeroCopyProtoMarshaller
+ * zero-copy protobuf marshallers}. Methods whose marshallers are not protobuf marshallers
+ * are left unchanged.
+ * <p>
+ * NOTE: Even though this class visibility is `public` it is intended for internal use
+ * only and not recommended for direct use.
+ *
+ * @author Oleksandr Shevchenko
+ */
+public final class ZeroCopyMarshalling {
+
+	/**
+	 * Provider that replaces protobuf marshallers with zero-copy marshallers.
+	 */
+	public static final MethodMarshallerProvider PROVIDER = new MethodMarshallerProvider() {
+
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public <T> Marshaller<T> getMarshaller(MethodDescriptor<?, ?> method, Marshaller<T> marshaller) {
+			if (!(marshaller instanceof ZeroCopyProtoMarshaller)
+					&& marshaller instanceof PrototypeMarshaller<T> prototypeMarshaller
+					&& prototypeMarshaller.getMessagePrototype() instanceof Message prototype) {
+				return (Marshaller<T>) ZeroCopyProtoMarshaller.of((Message) prototype);
+			}
+			return marshaller;
+		}
+
+	};
+
+	private ZeroCopyMarshalling() {
+	}
+
+	/**
+	 * Returns a copy of the given method descriptor that uses zero-copy marshallers.
+	 * @param <ReqT> the type of request
+	 * @param <RespT> the type of response
+	 * @param method the method descriptor
+	 * @return the rebound method descriptor, or the given descriptor if none of its
+	 * marshallers are protobuf marshallers
+	 */
+	public static <ReqT, RespT> MethodDescriptor<ReqT, RespT> apply(MethodDescriptor<ReqT, RespT> method) {
+		return MethodMarshallers.bind(method, PROVIDER);
+	}
+
+	/**
+	 * Returns a copy of the given service definition whose methods use zero-copy
+	 * marshallers.
+	 * @param service the service definition
+	 * @return the rebound service definition
+	 */
+	public static ServerServiceDefinition apply(ServerServiceDefinition service) {
+		return MethodMarshallers.bind(service, PROVIDER);
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.marshaller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import io.grpc.HasByteBuffer;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor.PrototypeMarshaller;
+import io.grpc.Status;
+import io.grpc.protobuf.ProtoUtils;
+
+/**
+ * A protobuf {@link PrototypeMarshaller} that parses messages directly from the buffers
+ * of the transport instead of first copying the whole message into an intermediate
+ * {@code byte[]}.
+ * <p>
+ * When the inbound stream exposes its content as {@link HasByteBuffer byte buffers} (as
+ * the Netty transports do) the message is decoded from those buffers, so that large
+ * {@code bytes} fields are copied once, straight into their final {@code ByteString}. The
+ * buffers are not aliased by the parsed message, which can therefore safely outlive the
+ * call. Any other stream, as well as serialization, is handled by the standard
+ * {@link ProtoUtils#marshaller(Message) protobuf marshaller}.
+ *
+ * @param <T> the type of message
+ * @author Oleksandr Shevchenko
+ */
+public final class ZeroCopyProtoMarshaller<T extends Message> implements PrototypeMarshaller<T> {
+
+	private final T defaultInstance;
+
+	private final Parser<T> parser;
+
+	private final PrototypeMarshaller<T> delegate;
+
+	@SuppressWarnings("unchecked")
+	private ZeroCopyProtoMarshaller(T defaultInstance) {
+		this.defaultInstance = defaultInstance;
+		this.parser = (Parser<T>) defaultInstance.getParserForType();
+		this.delegate = (PrototypeMarshaller<T>) ProtoUtils.marshaller(defaultInstance);
+	}
+
+	/**
+	 * Creates a marshaller for messages of the type of the given default instance.
+	 * @param <T> the type of message
+	 * @param defaultInstance the default instance of the message type
+	 * @return the marshaller
+	 */
+	public static <T extends Message> ZeroCopyProtoMarshaller<T> of(T defaultInstance) {
+		Assert.notNull(defaultInstance, "defaultInstance must not be null");
+		return new ZeroCopyProtoMarshaller<>(defaultInstance);
+	}
+
+	@Override
+	public Class<T> getMessageClass() {
+		return this.delegate.getMessageClass();
+	}
+
+	@Override
+	public T getMessagePrototype() {
+		return this.defaultInstance;
+	}
+
+	@Override
+	public InputStream stream(T value) {
+		return this.delegate.stream(value);
+	}
+
+	@Override
+	public T parse(InputStream stream) {
+		if (!isBufferBacked(stream)) {
+			return this.delegate.parse(stream);
+		}
+		try {
+			int size = stream.available();
+			if (size == 0) {
+				return this.defaultInstance;
+			}
+			// Marking keeps the buffers read below alive until the stream is closed
+			stream.mark(size);
+			List<ByteBuffer> buffers = new ArrayList<>();
+			while (stream.available() > 0) {
+				ByteBuffer buffer = ((HasByteBuffer) stream).getByteBuffer();
+				buffers.add(buffer);
+				stream.skip(buffer.remaining());
+			}
+			return parseFrom(CodedInputStream.newInstance(buffers));
+		}
+		catch (IOException ex) {
+			throw Status.INTERNAL.withDescription("Failed to read protobuf message").withCause(ex).asRuntimeException();
+		}
+	}
+
+	private T parseFrom(CodedInputStream input) {
+		input.setSizeLimit(Integer.MAX_VALUE);
+		try {
+			T message = this.parser.parseFrom(input, ExtensionRegistryLite.getEmptyRegistry());
+			input.checkLastTagWas(0);
+			return message;
+		}
+		catch (InvalidProtocolBufferException ex) {
+			throw Status.INTERNAL.withDescription("Invalid protobuf byte sequence").withCause(ex).asRuntimeException();
+		}
+	}
+
+	private static boolean isBufferBacked(InputStream stream) {
+		return stream instanceof KnownLength && stream instanceof HasByteBuffer hasByteBuffer
+				&& hasByteBuffer.byteBufferSupported() && stream.markSupported();
+	}
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.netty;
+
+/**
+ * Identifies the Netty transport (i.e. the kind of event loop and socket channel) used by
+ * Netty-based gRPC clients and servers.
+ *
+ * @author Oleksandr Shevchenko
+ */
+public enum NettyTransport {
+
+	/**
+	 * Uses the native epoll transport when it is available and falls back to NIO
+	 * otherwise.
+	 */
+	AUTO,
+
+	/**
+	 * Uses the native epoll transport (Linux only).
+	 */
+	EPOLL,
+
+	/**
+	 * Uses the native io_uring transport (Linux only). Requires
+	 * {@code netty-transport-native-io_uring} on the classpath and is not supported by
+	 * shaded Netty.
+	 */
+	IO_URING,
+
+	/**
+	 * Uses the JDK NIO transport.
+	 */
+	NIO;
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.netty;
+
+import java.lang.reflect.Method;
+
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.IoHandlerFactory;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollIoHandler;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+
+/**
+ * Creates the event loop groups and selects the channel types for a
+ * {@link NettyTransport} when using Netty.
+ * <p>
+ * The io_uring transport is looked up reflectively so that
+ * {@code netty-transport-native-io_uring} is only needed when it is selected.
+ * <p>
+ * NOTE: Even though this class visibility is `public` it is intended for internal use
+ * only and not recommended for direct use.
+ *
+ * @author Oleksandr Shevchenko
+ */
+public final class NettyTransports {
+
+	private static final ClassLoader CLASS_LOADER = NettyTransports.class.getClassLoader();
+
+	private static final String EPOLL_CLASS = "io.netty.channel.epoll.Epoll";
+
+	private static final String IO_URING_PACKAGE = "io.netty.channel.uring.";
+
+	private NettyTransports() {
+	}
+
+	/**
+	 * Resolves the given transport to a concrete transport that is available.
+	 * @param transport the requested transport
+	 * @return the transport to use - never {@link NettyTransport#AUTO}
+	 * @throws IllegalStateException if the requested transport is not available
+	 */
+	public static NettyTransport resolve(NettyTransport transport) {
+		return switch (transport) {
+			case AUTO -> (ClassUtils.isPresent(EPOLL_CLASS, CLASS_LOADER) && Epoll.isAvailable()) ? NettyTransport.EPOLL
+					: NettyTransport.NIO;
+			case EPOLL -> {
+				if (!ClassUtils.isPresent(EPOLL_CLASS, CLASS_LOADER)) {
+					throw new IllegalStateException(
+							"The epoll transport requires netty-transport-native-epoll on the classpath");
+				}
+				if (!Epoll.isAvailable()) {
+					throw new IllegalStateException("The epoll transport is not available",
+							Epoll.unavailabilityCause());
+				}
+				yield transport;
+			}
+			case IO_URING -> {
+				Class<?> ioUring = ioUringClass("IoUring");
+				if (!(Boolean) invokeStatic(ioUring, "isAvailable")) {
+					throw new IllegalStateException("The io_uring transport is not available",
+							(Throwable) invokeStatic(ioUring, "unavailabilityCause"));
+				}
+				yield transport;
+			}
+			case NIO -> transport;
+		};
+	}
+
+	/**
+	 * Creates a new event loop group for the given transport.
+	 * @param transport the transport to create the group for
+	 * @param threads the number of threads or {@code 0} to use the Netty default
+	 * @return a new event loop group that the caller is responsible for shutting down
+	 */
+	public static EventLoopGroup eventLoopGroup(NettyTransport transport, int threads) {
+		IoHandlerFactory ioHandlerFactory = switch (resolve(transport)) {
+			case EPOLL -> EpollIoHandler.newFactory();
+			case IO_URING -> (IoHandlerFactory) invokeStatic(ioUringClass("IoUringIoHandler"), "newFactory");
+			default -> NioIoHandler.newFactory();
+		};
+		return new MultiThreadIoEventLoopGroup(threads, ioHandlerFactory);
+	}
+
+	/**
+	 * Gets the client socket channel type for the given transport.
+	 * @param transport the transport
+	 * @return the socket channel type
+	 */
+	@SuppressWarnings("unchecked")
+	public static Class<? extends Channel> socketChannelType(NettyTransport transport) {
+		return switch (resolve(transport)) {
+			case EPOLL -> EpollSocketChannel.class;
+			case IO_URING -> (Class<? extends Channel>) ioUringClass("IoUringSocketChannel");
+			default -> NioSocketChannel.class;
+		};
+	}
+
+	/**
+	 * Gets the server socket channel type for the given transport.
+	 * @param transport the transport
+	 * @return the server socket channel type
+	 */
+	@SuppressWarnings("unchecked")
+	public static Class<? extends ServerChannel> serverSocketChannelType(NettyTransport transport) {
+		return switch (resolve(transport)) {
+			case EPOLL -> EpollServerSocketChannel.class;
+			case IO_URING -> (Class<? extends ServerChannel>) ioUringClass("IoUringServerSocketChannel");
+			default -> NioServerSocketChannel.class;
+		};
+	}
+
+	private static Class<?> ioUringClass(String simpleName) {
+		String className = IO_URING_PACKAGE + simpleName;
+		if (!ClassUtils.isPresent(className, CLASS_LOADER)) {
+			throw new IllegalStateException(
+					"The io_uring transport requires netty-transport-native-io_uring on the classpath");
+		}
+		return ClassUtils.resolveClassName(className, CLASS_LOADER);
+	}
+
+	private static Object invokeStatic(Class<?> type, String methodName) {
+		Method method = ReflectionUtils.findMethod(type, methodName);
+		if (method == null) {
+			throw new IllegalStateException("Unable to find method '" + methodName + "' on " + type.getName());
+		}
+		return ReflectionUtils.invokeMethod(method, null);
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.netty;
+
+import io.grpc.netty.shaded.io.netty.channel.Channel;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.ServerChannel;
+import io.grpc.netty.shaded.io.netty.channel.epoll.Epoll;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollServerSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioSocketChannel;
+
+/**
+ * Creates the event loop groups and selects the channel types for a
+ * {@link NettyTransport} when using shaded Netty.
+ * <p>
+ * Shaded Netty does not include the io_uring transport.
+ * <p>
+ * NOTE: Even though this class visibility is `public` it is intended for internal use
+ * only and not recommended for direct use.
+ *
+ * @author Oleksandr Shevchenko
+ */
+public final class ShadedNettyTransports {
+
+	private ShadedNettyTransports() {
+	}
+
+	/**
+	 * Resolves the given transport to a concrete transport that is available.
+	 * @param transport the requested transport
+	 * @return the transport to use - never {@link NettyTransport#AUTO}
+	 * @throws IllegalStateException if the requested transport is not available
+	 */
+	public static NettyTransport resolve(NettyTransport transport) {
+		return switch (transport) {
+			case AUTO -> Epoll.isAvailable() ? NettyTransport.EPOLL : NettyTransport.NIO;
+			case EPOLL -> {
+				if (!Epoll.isAvailable()) {
+					throw new IllegalStateException("The epoll transport is not available",
+							Epoll.unavailabilityCause());
+				}
+				yield transport;
+			}
+			case IO_URING -> throw new IllegalStateException("The io_uring transport is not supported by shaded Netty");
+			case NIO -> transport;
+		};
+	}
+
+	/**
+	 * Creates a new event loop group for the given transport.
+	 * @param transport the transport to create the group for
+	 * @param threads the number of threads or {@code 0} to use the Netty default
+	 * @return a new event loop group that the caller is responsible for shutting down
+	 */
+	public static EventLoopGroup eventLoopGroup(NettyTransport transport, int threads) {
+		return (resolve(transport) == NettyTransport.EPOLL) ? new EpollEventLoopGroup(threads)
+				: new NioEventLoopGroup(threads);
+	}
+
+	/**
+	 * Gets the client socket channel type for the given transport.
+	 * @param transport the transport
+	 * @return the socket channel type
+	 */
+	public static Class<? extends Channel> socketChannelType(NettyTransport transport) {
+		return (resolve(transport) == NettyTransport.EPOLL) ? EpollSocketChannel.class : NioSocketChannel.class;
+	}
+
+	/**
+	 * Gets the server socket channel type for the given transport.
+	 * @param transport the transport
+	 * @return the server socket channel type
+	 */
+	public static Class<? extends ServerChannel> serverSocketChannelType(NettyTransport transport) {
+		return (resolve(transport) == NettyTransport.EPOLL) ? EpollServerSocketChannel.class
+				: NioServerSocketChannel.class;
+	}
+
+}
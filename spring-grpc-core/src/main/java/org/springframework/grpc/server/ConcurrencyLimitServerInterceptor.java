@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.grpc.limit.AdaptiveConcurrencyLimiter;
+import org.springframework.grpc.limit.AdaptiveConcurrencyLimiter.Permit;
+import org.springframework.util.Assert;
+
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.ForwardingServerCall.SimpleForwardingServerCall;
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+/**
+ * A server interceptor that sheds load once a service (or method) has more calls in
+ * flight than its {@link AdaptiveConcurrencyLimiter adaptive limit}. Calls over the limit
+ * are closed with {@link Status#UNAVAILABLE} and a {@code grpc-retry-pushback-ms} trailer
+ * telling the client when to retry.
+ * <p>
+ * Calls whose deadline leaves less time than the limiter's
+ * {@link AdaptiveConcurrencyLimiter#getLatencyEstimate() latency estimate} are closed
+ * with {@link Status#DEADLINE_EXCEEDED} straight away, as their response would arrive too
+ * late. Calls that still exceed their deadline shrink the limit.
+ * <p>
+ * Only unary calls are limited: a stream stays open for as long as the client likes, so
+ * it would hold on to its permit and says nothing about how loaded the server is. Health
+ * and reflection calls are never limited by default, see
+ * {@link #setExcludedServices(Collection)}.
+ *
+ * @author Oleksandr Shevchenko
+ */
+public class ConcurrencyLimitServerInterceptor implements ServerInterceptor {
+
+	/**
+	 * Trailer that tells gRPC clients how long to wait before retrying a call.
+	 */
+	static final Metadata.Key<String> RETRY_PUSHBACK_KEY = Metadata.Key.of("grpc-retry-pushback-ms",
+			Metadata.ASCII_STRING_MARSHALLER);
+
+	/**
+	 * The services that are not limited by default: health checks and reflection.
+	 */
+	public static final Set<String> DEFAULT_EXCLUDED_SERVICES = Set.of("grpc.health.v1.Health",
+			"grpc.reflection.v1.ServerReflection", "grpc.reflection.v1alpha.ServerReflection");
+
+	private final Supplier<AdaptiveConcurrencyLimiter> limiterFactory;
+
+	private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+	private final LongAdder acceptedCalls = new LongAdder();
+
+	private final LongAdder rejectedCalls = new LongAdder();
+
+	private boolean perMethod;
+
+	private Duration retryPushback = Duration.ofSeconds(1);
+
+	private Set<String> excludedServices = DEFAULT_EXCLUDED_SERVICES;
+
+	/**
+	 * Construct an interceptor.
+	 * @param limiterFactory creates the limiter for each service (or method)
+	 */
+	public ConcurrencyLimitServerInterceptor(Supplier<AdaptiveConcurrencyLimiter> limiterFactory) {
+		Assert.notNull(limiterFactory, "limiterFactory must not be null");
+		this.limiterFactory = limiterFactory;
+	}
+
+	/**
+	 * Set whether each method gets its own limit rather than sharing one with the other
+	 * methods of its service. Defaults to {@code false}.
+	 * @param perMethod whether to limit each method separately
+	 */
+	public void setPerMethod(boolean perMethod) {
+		this.perMethod = perMethod;
+	}
+
+	/**
+	 * Set how long clients are told to wait before retrying a rejected call. Defaults to
+	 * 1 second.
+	 * @param retryPushback the delay sent to clients
+	 */
+	public void setRetryPushback(Duration retryPushback) {
+		Assert.notNull(retryPushback, "retryPushback must not be null");
+		this.retryPushback = retryPushback;
+	}
+
+	/**
+	 * Set the services whose calls are never limited. Defaults to
+	 * {@link #DEFAULT_EXCLUDED_SERVICES}.
+	 * @param excludedServices the names of the services to exclude
+	 */
+	public void setExcludedServices(Collection<String> excludedServices) {
+		Assert.notNull(excludedServices, "excludedServices must not be null");
+		this.excludedServices = Set.copyOf(excludedServices);
+	}
+
+	/**
+	 * Gets the number of calls that have been let through.
+	 * @return the number of accepted calls
+	 */
+	public long getAcceptedCalls() {
+		return this.acceptedCalls.sum();
+	}
+
+	/**
+	 * Gets the number of calls that have been rejected, either because of the limit or
+	 * because their deadline was too short.
+	 * @return the number of rejected calls
+	 */
+	public long getRejectedCalls() {
+		return this.rejectedCalls.sum();
+	}
+
+	/**
+	 * Gets the number of accepted calls that have not completed yet.
+	 * @return the number of calls in flight across all limits
+	 */
+	public int getInFlightCalls() {
+		return this.limiters.values().stream().mapToInt(AdaptiveConcurrencyLimiter::getInFlight).sum();
+	}
+
+	/**
+	 * Gets the limiters that have been created so far.
+	 * @return the limiters keyed by service name (or full method name when limiting each
+	 * method separately)
+	 */
+	public Map<String, AdaptiveConcurrencyLimiter> getLimiters() {
+		return Map.copyOf(this.limiters);
+	}
+
+	@Override
+	public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+			ServerCallHandler<ReqT, RespT> next) {
+		MethodDescriptor<ReqT, RespT> method = call.getMethodDescriptor();
+		if (method.getType() != MethodDescriptor.MethodType.UNARY
+				|| this.excludedServices.contains(method.getServiceName())) {
+			return next.startCall(call, headers);
+		}
+		AdaptiveConcurrencyLimiter limiter = this.limiters.computeIfAbsent(limitKey(method),
+				(key) -> this.limiterFactory.get());
+		Deadline deadline = Context.current().getDeadline();
+		if (deadline != null && deadline.timeRemaining(TimeUnit.NANOSECONDS) < limiter.getLatencyEstimate().toNanos()) {
+			this.rejectedCalls.increment();
+			call.close(Status.DEADLINE_EXCEEDED.withDescription("Deadline too short to complete the call"),
+					new Metadata());
+			return new ServerCall.Listener<>() {
+			};
+		}
+		Permit permit = limiter.tryAcquire();
+		if (permit == null) {
+			this.rejectedCalls.increment();
+			Metadata trailers = new Metadata();
+			trailers.put(RETRY_PUSHBACK_KEY, Long.toString(this.retryPushback.toMillis()));
+			call.close(Status.UNAVAILABLE.withDescription("Server concurrency limit reached"), trailers);
+			return new ServerCall.Listener<>() {
+			};
+		}
+		this.acceptedCalls.increment();
+		ServerCall.Listener<ReqT> listener;
+		try {
+			listener = next.startCall(new LimitedServerCall<>(call, permit), headers);
+		}
+		catch (RuntimeException ex) {
+			permit.onIgnore();
+			throw ex;
+		}
+		return new SimpleForwardingServerCallListener<>(listener) {
+
+			@Override
+			public void onCancel() {
+				if (deadline != null && deadline.isExpired()) {
+					permit.onDropped();
+				}
+				else {
+					permit.onIgnore();
+				}
+				super.onCancel();
+			}
+
+		};
+	}
+
+	private String limitKey(MethodDescriptor<?, ?> method) {
+		String serviceName = method.getServiceName();
+		return (this.perMethod || serviceName == null) ? method.getFullMethodName() : serviceName;
+	}
+
+	private static final class LimitedServerCall<ReqT, RespT> extends SimpleForwardingServerCall<ReqT, RespT> {
+
+		private final Permit permit;
+
+		LimitedServerCall(ServerCall<ReqT, RespT> delegate, Permit permit) {
+			super(delegate);
+			this.permit = permit;
+		}
+
+		@Override
+		public void close(Status status, Metadata trailers) {
+			switch (status.getCode()) {
+				case DEADLINE_EXCEEDED, RESOURCE_EXHAUSTED -> this.permit.onDropped();
+				case CANCELLED -> this.permit.onIgnore();
+				default -> this.permit.onSuccess();
+			}
+			super.close(status, trailers);
+		}
+
+	}
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+/**
+ * A server interceptor that rejects calls whose deadline leaves too little time to do
+ * anything useful. Calls whose deadline has expired, or whose remaining time is below the
+ * minimum budget of their method, are closed with {@link Status#DEADLINE_EXCEEDED} before
+ * any later interceptor or the service sees them.
+ * <p>
+ * Accepted calls stop passing messages and the half-close to the rest of the chain as
+ * soon as they have been cancelled, so work queued before the deadline expired is
+ * skipped.
+ *
+ * @author Oleksandr Shevchenko
+ */
+public class DeadlineServerInterceptor implements ServerInterceptor {
+
+	private Duration minimumBudget = Duration.ZERO;
+
+	private Map<String, Duration> methodMinimumBudgets = Map.of();
+
+	/**
+	 * Set the time a call must have left before its deadline to be accepted, unless its
+	 * method has its own minimum budget. Defaults to zero, which only rejects calls whose
+	 * deadline has already expired.
+	 * @param minimumBudget the minimum remaining time
+	 */
+	public void setMinimumBudget(Duration minimumBudget) {
+		Assert.notNull(minimumBudget, "minimumBudget must not be null");
+		this.minimumBudget = minimumBudget;
+	}
+
+	/**
+	 * Set the minimum budgets of individual methods or services. The budget of a full
+	 * method name ({@code service/method}) takes precedence over that of its service.
+	 * @param methodMinimumBudgets the minimum remaining times keyed by full method or
+	 * service name
+	 */
+	public void setMethodMinimumBudgets(Map<String, Duration> methodMinimumBudgets) {
+		Assert.notNull(methodMinimumBudgets, "methodMinimumBudgets must not be null");
+		this.methodMinimumBudgets = Map.copyOf(methodMinimumBudgets);
+	}
+
+	@Override
+	public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+			ServerCallHandler<ReqT, RespT> next) {
+		Deadline deadline = Context.current().getDeadline();
+		if (deadline == null) {
+			return next.startCall(call, headers);
+		}
+		long remaining = deadline.timeRemaining(TimeUnit.NANOSECONDS);
+		if (remaining <= 0 || remaining < minimumBudget(call.getMethodDescriptor()).toNanos()) {
+			call.close(
+					Status.DEADLINE_EXCEEDED.withDescription(
+							"Deadline leaves " + Math.max(remaining, 0) + "ns, too little to complete the call"),
+					new Metadata());
+			return new ServerCall.Listener<>() {
+			};
+		}
+		return new CancellationAwareListener<>(next.startCall(call, headers));
+	}
+
+	private Duration minimumBudget(MethodDescriptor<?, ?> method) {
+		Duration budget = this.methodMinimumBudgets.get(method.getFullMethodName());
+		if (budget == null && method.getServiceName() != null) {
+			budget = this.methodMinimumBudgets.get(method.getServiceName());
+		}
+		return (budget != null) ? budget : this.minimumBudget;
+	}
+
+	/**
+	 * Listener that drops inbound events once the call has been cancelled.
+	 *
+	 * @param <ReqT> the type of the request
+	 */
+	private static final class CancellationAwareListener<ReqT> extends SimpleForwardingServerCallListener<ReqT> {
+
+		private volatile boolean cancelled;
+
+		CancellationAwareListener(ServerCall.Listener<ReqT> delegate) {
+			super(delegate);
+		}
+
+		@Override
+		public void onMessage(ReqT message) {
+			if (!isCancelled()) {
+				super.onMessage(message);
+			}
+		}
+
+		@Override
+		public void onHalfClose() {
+			if (!isCancelled()) {
+				super.onHalfClose();
+			}
+		}
+
+		@Override
+		public void onCancel() {
+			this.cancelled = true;
+			super.onCancel();
+		}
+
+		private boolean isCancelled() {
+			return this.cancelled || Context.current().isCancelled();
+		}
+
+	}
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * A bounded share of the server's threads that runs the calls of the services (or
+ * methods) routed to it by a {@link RoutingServerCallExecutorSupplier}, so that they do
+ * not queue behind the calls of other services.
+ * <p>
+ * A lane either runs its calls on an executor it is given (typically the executor of the
+ * server), allowing at most {@code threads} of them to run at once, or on a dedicated
+ * pool of {@code threads} threads when it is not given one.
+ * <p>
+ * The queue of a lane is bounded by admission rather than by rejection: once
+ * {@code queueCapacity} tasks are waiting, new calls are no longer admitted to the lane
+ * and run on the default executor of the server instead, while the calls that were
+ * already admitted keep running on the lane.
+ *
+ * @author Oleksandr Shevchenko
+ */
+public class ExecutorLane {
+
+	private final String name;
+
+	private final int queueCapacity;
+
+	private final Executor executor;
+
+	/**
+	 * Construct a lane that runs its calls on a dedicated pool of threads.
+	 * @param name the name of the lane, also used to name its threads
+	 * @param threads the number of threads of the lane
+	 * @param queueCapacity the number of waiting tasks above which new calls are no
+	 * longer admitted to the lane
+	 */
+	public ExecutorLane(String name, int threads, int queueCapacity) {
+		this(name, threads, queueCapacity, null);
+	}
+
+	/**
+	 * Construct a lane.
+	 * @param name the name of the lane, also used to name its threads
+	 * @param threads the maximum number of calls of the lane that run at once
+	 * @param queueCapacity the number of waiting tasks above which new calls are no
+	 * longer admitted to the lane
+	 * @param executor the executor that runs the calls of the lane or {@code null} to run
+	 * them on a dedicated pool of threads
+	 */
+	public ExecutorLane(String name, int threads, int queueCapacity, @Nullable Executor executor) {
+		Assert.hasText(name, "name must not be empty");
+		Assert.isTrue(threads > 0, "threads must be greater than 0");
+		Assert.isTrue(queueCapacity >= 0, "queueCapacity must not be negative");
+		this.name = name;
+		this.queueCapacity = queueCapacity;
+		if (executor != null) {
+			this.executor = new LimitedExecutor(executor, threads);
+		}
+		else {
+			ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), new CustomizableThreadFactory("grpc-" + name + "-"));
+			pool.allowCoreThreadTimeOut(true);
+			this.executor = pool;
+		}
+	}
+
+	/**
+	 * Gets the name of the lane.
+	 * @return the name
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Gets the executor that runs the calls of the lane.
+	 * @return the executor
+	 */
+	public Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * Gets the number of tasks waiting to run on the lane.
+	 * @return the number of queued tasks
+	 */
+	public int getQueuedTasks() {
+		if (this.executor instanceof ThreadPoolExecutor pool) {
+			return pool.getQueue().size();
+		}
+		return ((LimitedExecutor) this.executor).queued.get();
+	}
+
+	/**
+	 * Whether new calls may still be admitted to the lane.
+	 * @return {@code true} if fewer than {@code queueCapacity} tasks are waiting
+	 */
+	public boolean hasCapacity() {
+		return !isShutdown() && getQueuedTasks() < this.queueCapacity;
+	}
+
+	/**
+	 * Whether the lane has been shut down.
+	 * @return {@code true} if the lane no longer admits calls
+	 */
+	public boolean isShutdown() {
+		if (this.executor instanceof ThreadPoolExecutor pool) {
+			return pool.isShutdown();
+		}
+		return ((LimitedExecutor) this.executor).shutdown;
+	}
+
+	/**
+	 * Stops admitting calls to the lane. A dedicated pool of threads is shut down once
+	 * the tasks already submitted have run, an executor the lane was given is left alone.
+	 */
+	public void shutdown() {
+		if (this.executor instanceof ThreadPoolExecutor pool) {
+			pool.shutdown();
+		}
+		else {
+			((LimitedExecutor) this.executor).shutdown = true;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ExecutorLane[" + this.name + "]";
+	}
+
+	/**
+	 * Runs tasks on a delegate executor, at most {@code maxConcurrency} at a time.
+	 */
+	private static final class LimitedExecutor implements Executor {
+
+		private final Executor delegate;
+
+		private final int maxConcurrency;
+
+		private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+
+		private final AtomicInteger queued = new AtomicInteger();
+
+		private final AtomicInteger running = new AtomicInteger();
+
+		private volatile boolean shutdown;
+
+		LimitedExecutor(Executor delegate, int maxConcurrency) {
+			this.delegate = delegate;
+			this.maxConcurrency = maxConcurrency;
+		}
+
+		@Override
+		public void execute(Runnable task) {
+			this.queue.add(task);
+			this.queued.incrementAndGet();
+			schedule();
+		}
+
+		private void schedule() {
+			while (!this.queue.isEmpty()) {
+				int current = this.running.get();
+				if (current >= this.maxConcurrency) {
+					return;
+				}
+				if (this.running.compareAndSet(current, current + 1)) {
+					try {
+						this.delegate.execute(this::drain);
+					}
+					catch (RuntimeException ex) {
+						this.running.decrementAndGet();
+						throw ex;
+					}
+					return;
+				}
+			}
+		}
+
+		private void drain() {
+			try {
+				Runnable task;
+				while ((task = this.queue.poll()) != null) {
+					this.queued.decrementAndGet();
+					task.run();
+				}
+			}
+			finally {
+				this.running.decrementAndGet();
+				// A task may have been queued while this worker was finishing
+				schedule();
+			}
+		}
+
+	}
+
+}
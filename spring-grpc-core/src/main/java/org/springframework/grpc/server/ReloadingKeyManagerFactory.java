@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server;
+
+import java.net.Socket;
+import java.security.KeyStore;
+import java.security.Principal;
+import java.security.PrivateKey;
+import java.security.cert.X509Certificate;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.KeyManagerFactorySpi;
+import javax.net.ssl.ManagerFactoryParameters;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.X509ExtendedKeyManager;
+import javax.net.ssl.X509KeyManager;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link KeyManagerFactory} whose key manager delegates to the key managers of another
+ * factory that can be {@link #reload(KeyManagerFactory) replaced} at runtime. Servers
+ * built with this factory keep their listening socket and existing connections when the
+ * key material changes, while new TLS handshakes use the reloaded material.
+ *
+ * @author Oleksandr Shevchenko
+ */
+public final class ReloadingKeyManagerFactory extends KeyManagerFactory {
+
+	private final ReloadingKeyManager keyManager;
+
+	private ReloadingKeyManagerFactory(KeyManagerFactory initial, ReloadingKeyManager keyManager) {
+		super(new Spi(keyManager), initial.getProvider(), initial.getAlgorithm());
+		this.keyManager = keyManager;
+	}
+
+	/**
+	 * Creates a reloading factory that initially uses the key managers of the given
+	 * factory.
+	 * @param initial the factory providing the initial key material
+	 * @return the reloading factory
+	 */
+	public static ReloadingKeyManagerFactory of(KeyManagerFactory initial) {
+		return new ReloadingKeyManagerFactory(initial, new ReloadingKeyManager(x509KeyManager(initial)));
+	}
+
+	/**
+	 * Replaces the key material used for subsequent handshakes.
+	 * @param keyManagerFactory the factory providing the new key material
+	 */
+	public void reload(KeyManagerFactory keyManagerFactory) {
+		this.keyManager.delegate = x509KeyManager(keyManagerFactory);
+	}
+
+	private static X509KeyManager x509KeyManager(KeyManagerFactory keyManagerFactory) {
+		for (KeyManager candidate : keyManagerFactory.getKeyManagers()) {
+			if (candidate instanceof X509KeyManager x509KeyManager) {
+				return x509KeyManager;
+			}
+		}
+		throw new IllegalStateException("No X509KeyManager available from " + keyManagerFactory);
+	}
+
+	private static final class Spi extends KeyManagerFactorySpi {
+
+		private final KeyManager[] keyManagers;
+
+		Spi(KeyManager keyManager) {
+			this.keyManagers = new KeyManager[] { keyManager };
+		}
+
+		@Override
+		protected void engineInit(KeyStore keyStore, char[] password) {
+		}
+
+		@Override
+		protected void engineInit(ManagerFactoryParameters parameters) {
+		}
+
+		@Override
+		protected KeyManager[] engineGetKeyManagers() {
+			return this.keyManagers.clone();
+		}
+
+	}
+
+	private static final class ReloadingKeyManager extends X509ExtendedKeyManager {
+
+		private volatile X509KeyManager delegate;
+
+		ReloadingKeyManager(X509KeyManager delegate) {
+			Assert.notNull(delegate, "delegate must not be null");
+			this.delegate = delegate;
+		}
+
+		@Override
+		public String @Nullable [] getClientAliases(String keyType, Principal @Nullable [] issuers) {
+			return this.delegate.getClientAliases(keyType, issuers);
+		}
+
+		@Override
+		public @Nullable String chooseClientAlias(String[] keyType, Principal @Nullable [] issuers,
+				@Nullable Socket socket) {
+			return this.delegate.chooseClientAlias(keyType, issuers, socket);
+		}
+
+		@Override
+		public String @Nullable [] getServerAliases(String keyType, Principal @Nullable [] issuers) {
+			return this.delegate.getServerAliases(keyType, issuers);
+		}
+
+		@Override
+		public @Nullable String chooseServerAlias(String keyType, Principal @Nullable [] issuers,
+				@Nullable Socket socket) {
+			return this.delegate.chooseServerAlias(keyType, issuers, socket);
+		}
+
+		@Override
+		public X509Certificate @Nullable [] getCertificateChain(String alias) {
+			return this.delegate.getCertificateChain(alias);
+		}
+
+		@Override
+		public @Nullable PrivateKey getPrivateKey(String alias) {
+			return this.delegate.getPrivateKey(alias);
+		}
+
+		@Override
+		public @Nullable String chooseEngineClientAlias(String[] keyType, Principal @Nullable [] issuers,
+				@Nullable SSLEngine engine) {
+			X509KeyManager delegate = this.delegate;
+			if (delegate instanceof X509ExtendedKeyManager extended) {
+				return extended.chooseEngineClientAlias(keyType, issuers, engine);
+			}
+			return super.chooseEngineClientAlias(keyType, issuers, engine);
+		}
+
+		@Override
+		public @Nullable String chooseEngineServerAlias(String keyType, Principal @Nullable [] issuers,
+				@Nullable SSLEngine engine) {
+			X509KeyManager delegate = this.delegate;
+			if (delegate instanceof X509ExtendedKeyManager extended) {
+				return extended.chooseEngineServerAlias(keyType, issuers, engine);
+			}
+			return super.chooseEngineServerAlias(keyType, issuers, engine);
+		}
+
+	}
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server;
+
+import java.net.Socket;
+import java.security.KeyStore;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+
+import javax.net.ssl.ManagerFactoryParameters;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.TrustManagerFactorySpi;
+import javax.net.ssl.X509ExtendedTrustManager;
+import javax.net.ssl.X509TrustManager;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link TrustManagerFactory} whose trust manager delegates to the trust managers of
+ * another factory that can be {@link #reload(TrustManagerFactory) replaced} at runtime.
+ * Peer certificates presented during subsequent TLS handshakes are verified against the
+ * reloaded trust material.
+ *
+ * @author Oleksandr Shevchenko
+ * @see ReloadingKeyManagerFactory
+ */
+public final class ReloadingTrustManagerFactory extends TrustManagerFactory {
+
+	private final ReloadingTrustManager trustManager;
+
+	private ReloadingTrustManagerFactory(TrustManagerFactory initial, ReloadingTrustManager trustManager) {
+		super(new Spi(trustManager), initial.getProvider(), initial.getAlgorithm());
+		this.trustManager = trustManager;
+	}
+
+	/**
+	 * Creates a reloading factory that initially uses the trust managers of the given
+	 * factory.
+	 * @param initial the factory providing the initial trust material
+	 * @return the reloading factory
+	 */
+	public static ReloadingTrustManagerFactory of(TrustManagerFactory initial) {
+		return new ReloadingTrustManagerFactory(initial, new ReloadingTrustManager(x509TrustManager(initial)));
+	}
+
+	/**
+	 * Replaces the trust material used for subsequent handshakes.
+	 * @param trustManagerFactory the factory providing the new trust material
+	 */
+	public void reload(TrustManagerFactory trustManagerFactory) {
+		this.trustManager.delegate = x509TrustManager(trustManagerFactory);
+	}
+
+	private static X509TrustManager x509TrustManager(TrustManagerFactory trustManagerFactory) {
+		for (TrustManager candidate : trustManagerFactory.getTrustManagers()) {
+			if (candidate instanceof X509TrustManager x509TrustManager) {
+				return x509TrustManager;
+			}
+		}
+		throw new IllegalStateException("No X509TrustManager available from " + trustManagerFactory);
+	}
+
+	private static final class Spi extends TrustManagerFactorySpi {
+
+		private final TrustManager[] trustManagers;
+
+		Spi(TrustManager trustManager) {
+			this.trustManagers = new TrustManager[] { trustManager };
+		}
+
+		@Override
+		protected void engineInit(KeyStore keyStore) {
+		}
+
+		@Override
+		protected void engineInit(ManagerFactoryParameters parameters) {
+		}
+
+		@Override
+		protected TrustManager[] engineGetTrustManagers() {
+			return this.trustManagers.clone();
+		}
+
+	}
+
+	private static final class ReloadingTrustManager extends X509ExtendedTrustManager {
+
+		private volatile X509TrustManager delegate;
+
+		ReloadingTrustManager(X509TrustManager delegate) {
+			Assert.notNull(delegate, "delegate must not be null");
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+			this.delegate.checkClientTrusted(chain, authType);
+		}
+
+		@Override
+		public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+			this.delegate.checkServerTrusted(chain, authType);
+		}
+
+		@Override
+		public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket)
+				throws CertificateException {
+			X509TrustManager delegate = this.delegate;
+			if (delegate instanceof X509ExtendedTrustManager extended) {
+				extended.checkClientTrusted(chain, authType, socket);
+			}
+			else {
+				delegate.checkClientTrusted(chain, authType);
+			}
+		}
+
+		@Override
+		public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket)
+				throws CertificateException {
+			X509TrustManager delegate = this.delegate;
+			if (delegate instanceof X509ExtendedTrustManager extended) {
+				extended.checkServerTrusted(chain, authType, socket);
+			}
+			else {
+				delegate.checkServerTrusted(chain, authType);
+			}
+		}
+
+		@Override
+		public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+				throws CertificateException {
+			X509TrustManager delegate = this.delegate;
+			if (delegate instanceof X509ExtendedTrustManager extended) {
+				extended.checkClientTrusted(chain, authType, engine);
+			}
+			else {
+				delegate.checkClientTrusted(chain, authType);
+			}
+		}
+
+		@Override
+		public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+				throws CertificateException {
+			X509TrustManager delegate = this.delegate;
+			if (delegate instanceof X509ExtendedTrustManager extended) {
+				extended.checkServerTrusted(chain, authType, engine);
+			}
+			else {
+				delegate.checkServerTrusted(chain, authType);
+			}
+		}
+
+		@Override
+		public X509Certificate[] getAcceptedIssuers() {
+			return this.delegate.getAcceptedIssuers();
+		}
+
+	}
+
+}
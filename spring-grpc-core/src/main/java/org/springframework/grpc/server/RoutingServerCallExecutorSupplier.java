@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
+
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallExecutorSupplier;
+
+/**
+ * A {@link ServerCallExecutorSupplier} that runs the calls of selected services or
+ * methods on their own {@link ExecutorLane lanes}. Calls that are not routed to a lane,
+ * or whose lane is full, run on the default executor of the server.
+ * <p>
+ * Routes are keyed by service name or by full method name ({@code service/method}), the
+ * latter taking precedence.
+ *
+ * @author Oleksandr Shevchenko
+ */
+public class RoutingServerCallExecutorSupplier implements ServerCallExecutorSupplier, DisposableBean {
+
+	private final Map<String, ExecutorLane> lanes = new ConcurrentHashMap<>();
+
+	private final Map<String, ExecutorLane> routes = new ConcurrentHashMap<>();
+
+	/**
+	 * Add a lane that services and methods can be {@link #route routed} to.
+	 * @param lane the lane to add
+	 */
+	public void addLane(ExecutorLane lane) {
+		Assert.notNull(lane, "lane must not be null");
+		ExecutorLane existing = this.lanes.putIfAbsent(lane.getName(), lane);
+		Assert.state(existing == null, () -> "Executor lane '" + lane.getName() + "' already exists");
+	}
+
+	/**
+	 * Gets the lanes that have been added.
+	 * @return the lanes keyed by name
+	 */
+	public Map<String, ExecutorLane> getLanes() {
+		return Map.copyOf(this.lanes);
+	}
+
+	/**
+	 * Route the calls of a service or method to a lane.
+	 * @param serviceOrMethodName the service name or full method name
+	 * @param laneName the name of a lane that has been added
+	 */
+	public void route(String serviceOrMethodName, String laneName) {
+		ExecutorLane lane = this.lanes.get(laneName);
+		Assert.state(lane != null,
+				() -> "'" + serviceOrMethodName + "' is routed to unknown executor lane '" + laneName + "'");
+		this.routes.put(serviceOrMethodName, lane);
+	}
+
+	/**
+	 * Whether any service or method has been routed to a lane.
+	 * @return {@code true} if there is at least one route
+	 */
+	public boolean hasRoutes() {
+		return !this.routes.isEmpty();
+	}
+
+	@Override
+	public <ReqT, RespT> @Nullable Executor getExecutor(ServerCall<ReqT, RespT> call, Metadata metadata) {
+		ExecutorLane lane = findLane(call.getMethodDescriptor());
+		return (lane != null && lane.hasCapacity()) ? lane.getExecutor() : null;
+	}
+
+	private @Nullable ExecutorLane findLane(MethodDescriptor<?, ?> method) {
+		ExecutorLane lane = this.routes.get(method.getFullMethodName());
+		if (lane == null && method.getServiceName() != null) {
+			lane = this.routes.get(method.getServiceName());
+		}
+		return lane;
+	}
+
+	@Override
+	public void destroy() {
+		this.lanes.values().forEach(ExecutorLane::shutdown);
+	}
+
+}
@@ -19,28 +19,53 @@ package org.springframework.grpc.server;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.TrustManagerFactory;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.grpc.internal.GrpcUtils;
+import org.springframework.grpc.netty.NettyTransport;
+import org.springframework.grpc.netty.ShadedNettyTransports;
 
+import io.grpc.ServerServiceDefinition;
 import io.grpc.TlsServerCredentials.ClientAuth;
 import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
-import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
 import io.grpc.netty.shaded.io.netty.channel.epoll.EpollServerDomainSocketChannel;
 import io.grpc.netty.shaded.io.netty.channel.unix.DomainSocketAddress;
 
 /**
  * {@link GrpcServerFactory} that can be used to create a shaded Netty-based gRPC server.
+ * <p>
+ * By default the server uses the event loop groups that gRPC shares between servers. When
+ * a {@link #setTransport transport} or a number of boss or worker threads is set, the
+ * server uses boss and worker event loop groups of that transport instead, that are
+ * created on first use, reused by every server this factory creates and shut down when
+ * the factory is destroyed. Servers bound to {@code unix:} addresses always use event
+ * loop groups of the epoll transport.
  *
  * @author David Syer
  * @author Chris Bono
  * @author Andrey Litvitski
  */
-public class ShadedNettyGrpcServerFactory extends DefaultGrpcServerFactory<NettyServerBuilder> {
+public class ShadedNettyGrpcServerFactory extends DefaultGrpcServerFactory<NettyServerBuilder>
+		implements DisposableBean {
+
+	private final Object monitor = new Object();
+
+	private int bossThreads = 1;
+
+	private int workerThreads;
+
+	private NettyTransport transport = NettyTransport.AUTO;
+
+	private @Nullable EventLoopGroup bossEventLoopGroup;
+
+	private @Nullable EventLoopGroup workerEventLoopGroup;
 
 	public ShadedNettyGrpcServerFactory(String address,
 			List<ServerBuilderCustomizer<NettyServerBuilder>> serverBuilderCustomizers,
@@ -49,6 +74,32 @@ public class ShadedNettyGrpcServerFactory extends DefaultGrpcServerFactory<Netty
 		super(address, serverBuilderCustomizers, keyManager, trustManager, clientAuth);
 	}
 
+	/**
+	 * Sets the number of threads of the boss event loop group.
+	 * @param bossThreads the number of threads (default 1) or {@code 0} to use the Netty
+	 * default
+	 */
+	public void setBossThreads(int bossThreads) {
+		this.bossThreads = bossThreads;
+	}
+
+	/**
+	 * Sets the number of threads of the worker event loop group.
+	 * @param workerThreads the number of threads or {@code 0} to use the Netty default
+	 */
+	public void setWorkerThreads(int workerThreads) {
+		this.workerThreads = workerThreads;
+	}
+
+	/**
+	 * Sets the transport to use for servers that are not bound to a {@code unix:}
+	 * address.
+	 * @param transport the transport (default {@link NettyTransport#AUTO AUTO})
+	 */
+	public void setTransport(NettyTransport transport) {
+		this.transport = transport;
+	}
+
 	@Override
 	protected NettyServerBuilder newServerBuilder() {
 		String address = address();
@@ -56,8 +107,8 @@ public class ShadedNettyGrpcServerFactory extends DefaultGrpcServerFactory<Netty
 			String path = address.substring(5);
 			return NettyServerBuilder.forAddress(new DomainSocketAddress(path))
 				.channelType(EpollServerDomainSocketChannel.class)
-				.bossEventLoopGroup(new EpollEventLoopGroup(1))
-				.workerEventLoopGroup(new EpollEventLoopGroup());
+				.bossEventLoopGroup(bossEventLoopGroup(NettyTransport.EPOLL))
+				.workerEventLoopGroup(workerEventLoopGroup(NettyTransport.EPOLL));
 		}
 		String host = super.hostname();
 		int port = super.port();
@@ -70,4 +121,55 @@ public class ShadedNettyGrpcServerFactory extends DefaultGrpcServerFactory<Netty
 		return NettyServerBuilder.forAddress(socketAddress, credentials());
 	}
 
+	@Override
+	protected void configure(NettyServerBuilder builder, List<ServerServiceDefinition> serviceDefinitions) {
+		if (!address().startsWith("unix:") && !usesDefaultEventLoopGroups()) {
+			NettyTransport transport = ShadedNettyTransports.resolve(this.transport);
+			builder.channelType(ShadedNettyTransports.serverSocketChannelType(transport));
+			builder.bossEventLoopGroup(bossEventLoopGroup(transport));
+			builder.workerEventLoopGroup(workerEventLoopGroup(transport));
+		}
+		super.configure(builder, serviceDefinitions);
+	}
+
+	private boolean usesDefaultEventLoopGroups() {
+		return this.transport == NettyTransport.AUTO && this.bossThreads == 1 && this.workerThreads == 0;
+	}
+
+	private EventLoopGroup bossEventLoopGroup(NettyTransport transport) {
+		synchronized (this.monitor) {
+			EventLoopGroup group = this.bossEventLoopGroup;
+			if (group == null) {
+				group = ShadedNettyTransports.eventLoopGroup(transport, this.bossThreads);
+				this.bossEventLoopGroup = group;
+			}
+			return group;
+		}
+	}
+
+	private EventLoopGroup workerEventLoopGroup(NettyTransport transport) {
+		synchronized (this.monitor) {
+			EventLoopGroup group = this.workerEventLoopGroup;
+			if (group == null) {
+				group = ShadedNettyTransports.eventLoopGroup(transport, this.workerThreads);
+				this.workerEventLoopGroup = group;
+			}
+			return group;
+		}
+	}
+
+	@Override
+	public void destroy() {
+		synchronized (this.monitor) {
+			if (this.bossEventLoopGroup != null) {
+				this.bossEventLoopGroup.shutdownGracefully(0, 15, TimeUnit.SECONDS).syncUninterruptibly();
+				this.bossEventLoopGroup = null;
+			}
+			if (this.workerEventLoopGroup != null) {
+				this.workerEventLoopGroup.shutdownGracefully(0, 15, TimeUnit.SECONDS).syncUninterruptibly();
+				this.workerEventLoopGroup = null;
+			}
+		}
+	}
+
 }
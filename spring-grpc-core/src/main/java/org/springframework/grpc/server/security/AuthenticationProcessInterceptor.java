@@ -16,6 +16,14 @@
 
 package org.springframework.grpc.server.security;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.core.Ordered;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
@@ -24,6 +32,7 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.authorization.AuthorizationResult;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -33,8 +42,13 @@ import io.grpc.Contexts;
 import io.grpc.Metadata;
 import io.grpc.ServerCall;
 import io.grpc.ServerCall.Listener;
+import io.grpc.ServerCallExecutorSupplier;
 import io.grpc.ServerCallHandler;
 import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.grpc.StatusException;
+import io.grpc.internal.GrpcUtil;
+import io.grpc.internal.SharedResourceHolder;
 
 /**
  * An interceptor that extracts the authentication credentials from the gRPC request
@@ -47,12 +61,20 @@ import io.grpc.ServerInterceptor;
  */
 public class AuthenticationProcessInterceptor implements ServerInterceptor, Ordered {
 
+	private static final SecurityGrpcExceptionHandler EXCEPTION_HANDLER = new SecurityGrpcExceptionHandler();
+
 	private final AuthenticationManager authenticationManager;
 
 	private final GrpcAuthenticationExtractor extractor;
 
 	private AuthorizationManager<CallContext> authorizationManager;
 
+	private @Nullable Executor authenticationExecutor;
+
+	private @Nullable Executor callExecutor;
+
+	private @Nullable ServerCallExecutorSupplier callExecutorSupplier;
+
 	@Override
 	public int getOrder() {
 		return GrpcSecurity.CONTEXT_FILTER_ORDER - 10;
@@ -65,10 +87,150 @@ public class AuthenticationProcessInterceptor implements ServerInterceptor, Orde
 		this.authorizationManager = authorizationManager;
 	}
 
+	/**
+	 * Set the executor that authenticates calls. When set, {@link #interceptCall} returns
+	 * straight away and the call is only started once the executor has authenticated and
+	 * authorized it, so slow identity providers (a JWK set fetch or a token introspection
+	 * request) do not block the thread that accepted the call. Messages that arrive in
+	 * the meantime are buffered and delivered in order once the call has started. The
+	 * call itself is started on the {@link #setCallExecutor(Executor) call executor}, not
+	 * on the authentication executor. Defaults to {@code null}, which authenticates calls
+	 * on the calling thread.
+	 * @param authenticationExecutor the executor that authenticates calls
+	 */
+	public void setAuthenticationExecutor(@Nullable Executor authenticationExecutor) {
+		this.authenticationExecutor = authenticationExecutor;
+	}
+
+	/**
+	 * Set the executor that starts calls once they have been authenticated on the
+	 * {@link #setAuthenticationExecutor(Executor) authentication executor} and delivers
+	 * their buffered messages, so that services run where the server would have run them.
+	 * It should be the executor of the server. Defaults to the shared executor that gRPC
+	 * servers use when none is configured.
+	 * @param callExecutor the executor that starts authenticated calls
+	 */
+	public void setCallExecutor(@Nullable Executor callExecutor) {
+		this.callExecutor = callExecutor;
+	}
+
+	/**
+	 * Set the supplier of the executor that starts a given call once it has been
+	 * authenticated, for servers that run some calls on an executor of their own (such as
+	 * executor lanes). Calls it supplies no executor for are started on the
+	 * {@link #setCallExecutor(Executor) call executor}.
+	 * @param callExecutorSupplier the supplier of the executor for each call
+	 */
+	public void setCallExecutorSupplier(@Nullable ServerCallExecutorSupplier callExecutorSupplier) {
+		this.callExecutorSupplier = callExecutorSupplier;
+	}
+
 	@Override
 	public <ReqT, RespT> Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
 			ServerCallHandler<ReqT, RespT> next) {
-		SecurityContext securityContext = SecurityContextHolder.getContext();
+		if (this.authenticationExecutor != null) {
+			return interceptCallAsync(call, headers, next, this.authenticationExecutor);
+		}
+		SecurityContext currentContext = SecurityContextHolder.getContext();
+		try {
+			authenticate(currentContext, call, headers);
+			Context context = Context.current().withValue(GrpcSecurity.SECURITY_CONTEXT_KEY, currentContext);
+			return new SecurityContextHandlerListener<ReqT, RespT>(Contexts.interceptCall(context, call, headers, next),
+					currentContext);
+		}
+		finally {
+			SecurityContextHolder.clearContext();
+		}
+	}
+
+	private <ReqT, RespT> Listener<ReqT> interceptCallAsync(ServerCall<ReqT, RespT> call, Metadata headers,
+			ServerCallHandler<ReqT, RespT> next, Executor executor) {
+		Context context = Context.current();
+		DeferredListener<ReqT> listener = new DeferredListener<>();
+		try {
+			executor.execute(() -> authenticateAsync(context, call, headers, next, listener));
+		}
+		catch (RejectedExecutionException ex) {
+			call.close(Status.UNAVAILABLE.withDescription("Authentication executor is saturated"), new Metadata());
+			return new Listener<>() {
+			};
+		}
+		return listener;
+	}
+
+	private <ReqT, RespT> void authenticateAsync(Context context, ServerCall<ReqT, RespT> call, Metadata headers,
+			ServerCallHandler<ReqT, RespT> next, DeferredListener<ReqT> listener) {
+		if (listener.isCancelled()) {
+			listener.start(new Listener<>() {
+			});
+			return;
+		}
+		SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+		SecurityContextHolder.setContext(securityContext);
+		try {
+			authenticate(securityContext, call, headers);
+		}
+		catch (RuntimeException ex) {
+			close(call, ex);
+			listener.start(new Listener<>() {
+			});
+			return;
+		}
+		finally {
+			SecurityContextHolder.clearContext();
+		}
+		try {
+			callExecutor(call, headers)
+				.execute(() -> listener.start(startCall(context, securityContext, call, headers, next)));
+		}
+		catch (RejectedExecutionException ex) {
+			call.close(Status.UNAVAILABLE.withDescription("Call executor is saturated"), new Metadata());
+			listener.start(new Listener<>() {
+			});
+		}
+	}
+
+	private Executor callExecutor(ServerCall<?, ?> call, Metadata headers) {
+		Executor executor = (this.callExecutorSupplier != null) ? this.callExecutorSupplier.getExecutor(call, headers)
+				: null;
+		if (executor == null) {
+			executor = (this.callExecutor != null) ? this.callExecutor : SharedCallExecutor.INSTANCE;
+		}
+		return executor;
+	}
+
+	private <ReqT, RespT> Listener<ReqT> startCall(Context context, SecurityContext securityContext,
+			ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+		SecurityContextHolder.setContext(securityContext);
+		try {
+			Context authenticated = context.withValue(GrpcSecurity.SECURITY_CONTEXT_KEY, securityContext);
+			return new SecurityContextHandlerListener<ReqT, RespT>(
+					Contexts.interceptCall(authenticated, call, headers, next), securityContext);
+		}
+		catch (RuntimeException ex) {
+			close(call, ex);
+			return new Listener<>() {
+			};
+		}
+		finally {
+			SecurityContextHolder.clearContext();
+		}
+	}
+
+	private void close(ServerCall<?, ?> call, RuntimeException ex) {
+		StatusException status = EXCEPTION_HANDLER.handleException(ex);
+		call.close((status != null) ? status.getStatus() : Status.fromThrowable(ex), new Metadata());
+	}
+
+	/**
+	 * Authenticate and authorize a call.
+	 * @param securityContext the context that receives the authentication
+	 * @param call the call
+	 * @param headers the headers of the call
+	 * @throws AuthenticationException if the call could not be authenticated
+	 * @throws AccessDeniedException if the call is not authorized
+	 */
+	private void authenticate(SecurityContext securityContext, ServerCall<?, ?> call, Metadata headers) {
 		Authentication user = this.extractor.extract(headers, call.getAttributes(), call.getMethodDescriptor());
 		if (user != null) {
 			user = this.authenticationManager.authenticate(user);
@@ -95,16 +257,97 @@ public class AuthenticationProcessInterceptor implements ServerInterceptor, Orde
 		else if (user == null || !user.isAuthenticated()) {
 			throw new BadCredentialsException("not authenticated");
 		}
+	}
 
-		SecurityContext currentContext = SecurityContextHolder.getContext();
-		try {
-			Context context = Context.current().withValue(GrpcSecurity.SECURITY_CONTEXT_KEY, currentContext);
-			return new SecurityContextHandlerListener<ReqT, RespT>(Contexts.interceptCall(context, call, headers, next),
-					currentContext);
+	/**
+	 * Holder for the shared executor of gRPC servers, only created when needed.
+	 */
+	private static final class SharedCallExecutor {
+
+		static final Executor INSTANCE = SharedResourceHolder.get(GrpcUtil.SHARED_CHANNEL_EXECUTOR);
+
+	}
+
+	/**
+	 * Listener that buffers the events of a call until the call has been authenticated
+	 * and started. Buffered events are delivered on the thread that starts the call.
+	 *
+	 * @param <ReqT> the type of the request
+	 */
+	private static final class DeferredListener<ReqT> extends Listener<ReqT> {
+
+		private final Object monitor = new Object();
+
+		private List<Consumer<Listener<ReqT>>> pending = new ArrayList<>();
+
+		private volatile @Nullable Listener<ReqT> delegate;
+
+		private volatile boolean cancelled;
+
+		boolean isCancelled() {
+			return this.cancelled;
 		}
-		finally {
-			SecurityContextHolder.clearContext();
+
+		/**
+		 * Deliver the buffered events to the started call and pass later events straight
+		 * through.
+		 * @param listener the listener of the started call
+		 */
+		void start(Listener<ReqT> listener) {
+			while (true) {
+				List<Consumer<Listener<ReqT>>> events;
+				synchronized (this.monitor) {
+					if (this.pending.isEmpty()) {
+						this.delegate = listener;
+						return;
+					}
+					events = this.pending;
+					this.pending = new ArrayList<>();
+				}
+				events.forEach((event) -> event.accept(listener));
+			}
+		}
+
+		private void dispatch(Consumer<Listener<ReqT>> event) {
+			Listener<ReqT> listener = this.delegate;
+			if (listener == null) {
+				synchronized (this.monitor) {
+					listener = this.delegate;
+					if (listener == null) {
+						this.pending.add(event);
+						return;
+					}
+				}
+			}
+			event.accept(listener);
 		}
+
+		@Override
+		public void onMessage(ReqT message) {
+			dispatch((listener) -> listener.onMessage(message));
+		}
+
+		@Override
+		public void onHalfClose() {
+			dispatch(Listener::onHalfClose);
+		}
+
+		@Override
+		public void onCancel() {
+			this.cancelled = true;
+			dispatch(Listener::onCancel);
+		}
+
+		@Override
+		public void onComplete() {
+			dispatch(Listener::onComplete);
+		}
+
+		@Override
+		public void onReady() {
+			dispatch(Listener::onReady);
+		}
+
 	}
 
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.security;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.security.authorization.AuthorizationEventPublisher;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link AuthorizationEventPublisher} that hands events to a delegate on a separate
+ * executor so that publishing never runs on the thread that authorizes the call. Events
+ * are queued and drained in batches by a single task at a time, and events are dropped
+ * (and counted) once the queue is full rather than slowing down calls.
+ *
+ * @author Oleksandr Shevchenko
+ */
+final class BatchingAuthorizationEventPublisher implements AuthorizationEventPublisher {
+
+	private static final Log logger = LogFactory.getLog(BatchingAuthorizationEventPublisher.class);
+
+	private final AuthorizationEventPublisher delegate;
+
+	private final Executor executor;
+
+	private final int capacity;
+
+	private final int batchSize;
+
+	private final Queue<PendingEvent> queue = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger queued = new AtomicInteger();
+
+	private final AtomicBoolean draining = new AtomicBoolean();
+
+	private final AtomicLong dropped = new AtomicLong();
+
+	/**
+	 * Construct a publisher.
+	 * @param delegate the publisher that events are eventually handed to
+	 * @param executor the executor that drains queued events
+	 * @param capacity the maximum number of queued events
+	 * @param batchSize the maximum number of events published by a single drain task
+	 */
+	BatchingAuthorizationEventPublisher(AuthorizationEventPublisher delegate, Executor executor, int capacity,
+			int batchSize) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		Assert.notNull(executor, "executor cannot be null");
+		Assert.isTrue(capacity > 0, "capacity must be positive");
+		Assert.isTrue(batchSize > 0, "batchSize must be positive");
+		this.delegate = delegate;
+		this.executor = executor;
+		this.capacity = capacity;
+		this.batchSize = batchSize;
+	}
+
+	@Override
+	public <T> void publishAuthorizationEvent(Supplier<Authentication> authentication, T object,
+			AuthorizationResult result) {
+		if (this.queued.incrementAndGet() > this.capacity) {
+			this.queued.decrementAndGet();
+			this.dropped.incrementAndGet();
+			return;
+		}
+		// Resolve the authentication now, it may depend on the calling thread
+		Authentication resolved = authentication.get();
+		this.queue.add(new PendingEvent(() -> resolved, object, result));
+		scheduleDrain();
+	}
+
+	/**
+	 * The number of events dropped because the queue was full.
+	 * @return the number of dropped events
+	 */
+	long getDroppedEvents() {
+		return this.dropped.get();
+	}
+
+	private void scheduleDrain() {
+		if (this.queue.isEmpty() || !this.draining.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			this.executor.execute(this::drain);
+		}
+		catch (RejectedExecutionException ex) {
+			// Leave the events queued, the next published event tries again
+			this.draining.set(false);
+		}
+	}
+
+	private void drain() {
+		try {
+			for (int i = 0; i < this.batchSize; i++) {
+				PendingEvent event = this.queue.poll();
+				if (event == null) {
+					break;
+				}
+				this.queued.decrementAndGet();
+				try {
+					this.delegate.publishAuthorizationEvent(event.authentication(), event.object(), event.result());
+				}
+				catch (RuntimeException ex) {
+					logger.warn("Failed to publish authorization event for " + event.object(), ex);
+				}
+			}
+		}
+		finally {
+			this.draining.set(false);
+		}
+		scheduleDrain();
+	}
+
+	private record PendingEvent(Supplier<Authentication> authentication, Object object, AuthorizationResult result) {
+	}
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link JwtDecoder} that remembers successfully decoded and validated tokens for a
+ * limited time, so that a token sent with every call only has its signature verified
+ * once.
+ * <p>
+ * Entries are keyed on a SHA-256 hash of the token. An entry expires after the configured
+ * time to live or when the token expires, whichever comes first. Once the cache is full,
+ * expired entries and then the least recently used ones are evicted in a batch by the
+ * call that filled it, so lookups never wait for a lock and the cache may briefly hold a
+ * few more entries than its maximum size. Tokens that fail to decode are never cached.
+ *
+ * @author Oleksandr Shevchenko
+ */
+final class CachingJwtDecoder implements JwtDecoder {
+
+	private final JwtDecoder delegate;
+
+	private final Duration timeToLive;
+
+	private final int maximumSize;
+
+	private final Map<String, CachedJwt> cache = new ConcurrentHashMap<>();
+
+	private final AtomicLong accessCounter = new AtomicLong();
+
+	private final Lock evictionLock = new ReentrantLock();
+
+	private Clock clock = Clock.systemUTC();
+
+	/**
+	 * Construct a caching decoder.
+	 * @param delegate the decoder that decodes tokens that are not cached
+	 * @param timeToLive how long a decoded token is remembered
+	 * @param maximumSize the maximum number of cached tokens
+	 */
+	CachingJwtDecoder(JwtDecoder delegate, Duration timeToLive, int maximumSize) {
+		Assert.notNull(delegate, "delegate must not be null");
+		Assert.isTrue(timeToLive != null && !timeToLive.isNegative() && !timeToLive.isZero(),
+				"timeToLive must be positive");
+		Assert.isTrue(maximumSize > 0, "maximumSize must be greater than 0");
+		this.delegate = delegate;
+		this.timeToLive = timeToLive;
+		this.maximumSize = maximumSize;
+	}
+
+	void setClock(Clock clock) {
+		Assert.notNull(clock, "clock must not be null");
+		this.clock = clock;
+	}
+
+	@Override
+	public Jwt decode(String token) throws JwtException {
+		String key = hash(token);
+		Instant now = this.clock.instant();
+		CachedJwt cached = this.cache.get(key);
+		if (cached != null) {
+			if (now.isBefore(cached.expiresAt)) {
+				cached.lastAccess = this.accessCounter.incrementAndGet();
+				return cached.jwt;
+			}
+			this.cache.remove(key, cached);
+		}
+		Jwt jwt = this.delegate.decode(token);
+		Instant expiresAt = now.plus(this.timeToLive);
+		if (jwt.getExpiresAt() != null && jwt.getExpiresAt().isBefore(expiresAt)) {
+			expiresAt = jwt.getExpiresAt();
+		}
+		if (now.isBefore(expiresAt)) {
+			this.cache.put(key, new CachedJwt(jwt, expiresAt, this.accessCounter.incrementAndGet()));
+			if (this.cache.size() > this.maximumSize) {
+				evict(now);
+			}
+		}
+		return jwt;
+	}
+
+	/**
+	 * Bring the cache back to its maximum size, first removing expired entries and then
+	 * the least recently used ones. Skipped if another call is already evicting.
+	 * @param now the current time
+	 */
+	private void evict(Instant now) {
+		if (!this.evictionLock.tryLock()) {
+			return;
+		}
+		try {
+			this.cache.values().removeIf((cached) -> !now.isBefore(cached.expiresAt));
+			int excess = this.cache.size() - this.maximumSize;
+			if (excess > 0) {
+				// Sort on a snapshot of the access stamps as hits keep updating them
+				this.cache.entrySet()
+					.stream()
+					.map((entry) -> new EvictionCandidate(entry.getKey(), entry.getValue(),
+							entry.getValue().lastAccess))
+					.sorted(Comparator.comparingLong(EvictionCandidate::lastAccess))
+					.limit(excess)
+					.forEach((candidate) -> this.cache.remove(candidate.key(), candidate.cached()));
+			}
+		}
+		finally {
+			this.evictionLock.unlock();
+		}
+	}
+
+	int size() {
+		return this.cache.size();
+	}
+
+	private static String hash(String token) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 is not available", ex);
+		}
+	}
+
+	private record EvictionCandidate(String key, CachedJwt cached, long lastAccess) {
+
+	}
+
+	private static final class CachedJwt {
+
+		private final Jwt jwt;
+
+		private final Instant expiresAt;
+
+		private volatile long lastAccess;
+
+		CachedJwt(Jwt jwt, Instant expiresAt, long lastAccess) {
+			this.jwt = jwt;
+			this.expiresAt = expiresAt;
+			this.lastAccess = lastAccess;
+		}
+
+	}
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.security;
+
+import java.util.function.Supplier;
+
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.util.Assert;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * A {@link SecurityContextHolderStrategy} that uses the security context of the current
+ * gRPC call ({@link GrpcSecurity#SECURITY_CONTEXT_KEY}) when there is one, and a thread
+ * local otherwise. With this strategy in place the server does not have to copy the
+ * security context into a thread local around every message of a call, which matters for
+ * streaming calls with many small messages. Install it with
+ * {@code SecurityContextHolder.setContextHolderStrategy(...)} or the
+ * {@code spring.security.strategy} system property.
+ * <p>
+ * When neither holds a context an empty one is returned without being stored, so that a
+ * thread does not keep an empty context once the call it served has completed.
+ *
+ * @author Oleksandr Shevchenko
+ */
+public final class GrpcContextSecurityContextHolderStrategy implements SecurityContextHolderStrategy {
+
+	private static final ThreadLocal<Supplier<SecurityContext>> contextHolder = new ThreadLocal<>();
+
+	@Override
+	public void clearContext() {
+		contextHolder.remove();
+	}
+
+	@Override
+	public SecurityContext getContext() {
+		return getDeferredContext().get();
+	}
+
+	@Override
+	public Supplier<SecurityContext> getDeferredContext() {
+		SecurityContext callContext = GrpcSecurity.SECURITY_CONTEXT_KEY.get();
+		if (callContext != null) {
+			return () -> callContext;
+		}
+		Supplier<SecurityContext> result = contextHolder.get();
+		if (result != null) {
+			return result;
+		}
+		return SingletonSupplier.of(this::createEmptyContext);
+	}
+
+	@Override
+	public void setContext(SecurityContext context) {
+		Assert.notNull(context, "Only non-null SecurityContext instances are permitted");
+		contextHolder.set(() -> context);
+	}
+
+	@Override
+	public void setDeferredContext(Supplier<SecurityContext> deferredContext) {
+		Assert.notNull(deferredContext, "Only non-null Supplier instances are permitted");
+		contextHolder.set(SingletonSupplier.of(() -> {
+			SecurityContext result = deferredContext.get();
+			Assert.notNull(result, "A Supplier<SecurityContext> returned null and is not allowed.");
+			return result;
+		}));
+	}
+
+	@Override
+	public SecurityContext createEmptyContext() {
+		return new SecurityContextImpl();
+	}
+
+}
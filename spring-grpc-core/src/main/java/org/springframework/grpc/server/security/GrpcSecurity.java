@@ -19,11 +19,13 @@ package org.springframework.grpc.server.security;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.grpc.server.RoutingServerCallExecutorSupplier;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.ObservationAuthenticationManager;
@@ -91,6 +93,10 @@ public final class GrpcSecurity
 
 	private @Nullable AuthorizationManager<CallContext> authorizationManager;
 
+	private @Nullable Executor authenticationExecutor;
+
+	private @Nullable Executor callExecutor;
+
 	public GrpcSecurity(ObjectPostProcessor<Object> objectPostProcessor,
 			AuthenticationManagerBuilder authenticationBuilder, ApplicationContext context) {
 		super(objectPostProcessor);
@@ -128,8 +134,14 @@ public final class GrpcSecurity
 			}
 		}
 		this.authenticationExtractors.sort(AnnotationAwareOrderComparator.INSTANCE);
-		return new AuthenticationProcessInterceptor(getSharedObject(AuthenticationManager.class),
+		AuthenticationProcessInterceptor interceptor = new AuthenticationProcessInterceptor(
+				getSharedObject(AuthenticationManager.class),
 				new CompositeAuthenticationExtractor(this.authenticationExtractors), this.authorizationManager);
+		interceptor.setAuthenticationExecutor(this.authenticationExecutor);
+		interceptor.setCallExecutor(this.callExecutor);
+		interceptor.setCallExecutorSupplier(
+				getContext().getBeanProvider(RoutingServerCallExecutorSupplier.class).getIfUnique());
+		return interceptor;
 	}
 
 	private AuthenticationManager getAuthenticationManager() {
@@ -185,6 +197,35 @@ public final class GrpcSecurity
 		return this;
 	}
 
+	/**
+	 * Authenticate calls on the supplied executor instead of the thread that accepted
+	 * them, buffering their messages until they have been authenticated. Useful when
+	 * authentication may block, for instance to fetch a JWK set or introspect a token.
+	 * @param authenticationExecutor the executor that authenticates calls
+	 * @return this instance
+	 * @see AuthenticationProcessInterceptor#setAuthenticationExecutor(Executor)
+	 */
+	public GrpcSecurity authenticationExecutor(Executor authenticationExecutor) {
+		Assert.notNull(authenticationExecutor, "authenticationExecutor cannot be null");
+		this.authenticationExecutor = authenticationExecutor;
+		return this;
+	}
+
+	/**
+	 * Start calls authenticated on the {@link #authenticationExecutor(Executor)
+	 * authentication executor} on the supplied executor, which should be the one the
+	 * server runs calls on. Defaults to the shared executor that gRPC servers use when
+	 * none is configured. Calls routed to an executor lane are started on their lane.
+	 * @param callExecutor the executor that starts authenticated calls
+	 * @return this instance
+	 * @see AuthenticationProcessInterceptor#setCallExecutor(Executor)
+	 */
+	public GrpcSecurity callExecutor(Executor callExecutor) {
+		Assert.notNull(callExecutor, "callExecutor cannot be null");
+		this.callExecutor = callExecutor;
+		return this;
+	}
+
 	public GrpcSecurity authenticationExtractor(GrpcAuthenticationExtractor authenticationExtractor) {
 		Assert.notNull(authenticationExtractor, "authenticationExtractor cannot be null");
 		this.authenticationExtractors.add(authenticationExtractor);
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.security;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.support.DefaultSingletonBeanRegistry;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestOperations;
+import org.springframework.web.client.RestTemplate;
+
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.Resource;
+import com.nimbusds.jose.util.ResourceRetriever;
+
+/**
+ * The JWK sources of an application context, one for each JWK set URI (and
+ * {@link RestOperations} used to fetch it), so that security configurations that validate
+ * tokens against the same JWK set share its cached keys and its background refresh.
+ *
+ * @author Oleksandr Shevchenko
+ */
+final class JwkSources implements DisposableBean {
+
+	/**
+	 * Name of the singleton that holds the sources of an application context.
+	 */
+	static final String BEAN_NAME = JwkSources.class.getName();
+
+	private final Map<SourceKey, JWKSource<SecurityContext>> sources = new ConcurrentHashMap<>();
+
+	private final RestOperations restOperations;
+
+	JwkSources() {
+		SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+		requestFactory.setConnectTimeout(Duration.ofMillis(JWKSourceBuilder.DEFAULT_HTTP_CONNECT_TIMEOUT));
+		requestFactory.setReadTimeout(Duration.ofMillis(JWKSourceBuilder.DEFAULT_HTTP_READ_TIMEOUT));
+		this.restOperations = new RestTemplate(requestFactory);
+	}
+
+	/**
+	 * Gets the sources of the given application context, registering them with its bean
+	 * factory on first use so that they are closed with the context.
+	 * @param context the application context
+	 * @return the sources of the context
+	 */
+	static JwkSources get(ApplicationContext context) {
+		if (!(context.getAutowireCapableBeanFactory() instanceof DefaultSingletonBeanRegistry registry)) {
+			return new JwkSources();
+		}
+		synchronized (JwkSources.class) {
+			if (registry.getSingleton(BEAN_NAME) instanceof JwkSources existing) {
+				return existing;
+			}
+			JwkSources sources = new JwkSources();
+			registry.registerSingleton(BEAN_NAME, sources);
+			registry.registerDisposableBean(BEAN_NAME, sources);
+			return sources;
+		}
+	}
+
+	/**
+	 * Gets the {@link RestOperations} that fetch JWK sets unless others are given.
+	 * @return the default {@link RestOperations}
+	 */
+	RestOperations getDefaultRestOperations() {
+		return this.restOperations;
+	}
+
+	/**
+	 * Gets the source of the keys of a JWK set, creating it the first time. The keys are
+	 * cached and refreshed in the background before they expire.
+	 * @param uri the URI of the JWK set
+	 * @param restOperations the {@link RestOperations} that fetch the JWK set, or
+	 * {@code null} to use one with the default connect and read timeouts of Nimbus
+	 * @return the source of the keys
+	 */
+	JWKSource<SecurityContext> getSource(String uri, @Nullable RestOperations restOperations) {
+		RestOperations operations = (restOperations != null) ? restOperations : this.restOperations;
+		return this.sources.computeIfAbsent(new SourceKey(uri, operations), this::createSource);
+	}
+
+	private JWKSource<SecurityContext> createSource(SourceKey key) {
+		try {
+			return JWKSourceBuilder
+				.<SecurityContext>create(URI.create(key.uri()).toURL(),
+						new RestOperationsResourceRetriever(key.restOperations()))
+				.refreshAheadCache(true)
+				.build();
+		}
+		catch (MalformedURLException ex) {
+			throw new IllegalArgumentException("Invalid JWK set URI: " + key.uri(), ex);
+		}
+	}
+
+	@Override
+	public void destroy() throws IOException {
+		for (JWKSource<SecurityContext> source : this.sources.values()) {
+			if (source instanceof Closeable closeable) {
+				closeable.close();
+			}
+		}
+		this.sources.clear();
+	}
+
+	private record SourceKey(String uri, RestOperations restOperations) {
+	}
+
+	/**
+	 * A {@link ResourceRetriever} that fetches JWK sets with a {@link RestOperations}.
+	 */
+	private static final class RestOperationsResourceRetriever implements ResourceRetriever {
+
+		private static final MediaType APPLICATION_JWK_SET_JSON = new MediaType("application", "jwk-set+json");
+
+		private final RestOperations restOperations;
+
+		RestOperationsResourceRetriever(RestOperations restOperations) {
+			this.restOperations = restOperations;
+		}
+
+		@Override
+		public Resource retrieveResource(URL url) throws IOException {
+			HttpHeaders headers = new HttpHeaders();
+			headers.setAccept(List.of(MediaType.APPLICATION_JSON, APPLICATION_JWK_SET_JSON));
+			ResponseEntity<String> response;
+			try {
+				RequestEntity<Void> request = new RequestEntity<>(headers, HttpMethod.GET, url.toURI());
+				response = this.restOperations.exchange(request, String.class);
+			}
+			catch (URISyntaxException | RestClientException ex) {
+				throw new IOException(ex);
+			}
+			String body = response.getBody();
+			if (response.getStatusCode().value() != 200 || body == null) {
+				throw new IOException(
+						"Unexpected response fetching JWK set from " + url + ": " + response.getStatusCode());
+			}
+			MediaType contentType = response.getHeaders().getContentType();
+			return new Resource(body, (contentType != null) ? contentType.toString() : null);
+		}
+
+	}
+
+}
@@ -16,6 +16,7 @@
 
 package org.springframework.grpc.server.security;
 
+import java.time.Duration;
 import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
@@ -37,6 +38,7 @@ import org.springframework.security.oauth2.server.resource.introspection.OpaqueT
 import org.springframework.security.oauth2.server.resource.introspection.OpaqueTokenIntrospector;
 import org.springframework.security.oauth2.server.resource.introspection.SpringOpaqueTokenIntrospector;
 import org.springframework.util.Assert;
+import org.springframework.web.client.RestOperations;
 
 public class OAuth2ResourceServerConfigurer
 		extends SecurityConfigurerAdapter<AuthenticationProcessInterceptor, GrpcSecurity> {
@@ -94,8 +96,16 @@ public class OAuth2ResourceServerConfigurer
 
 		private @Nullable JwtDecoder decoder;
 
+		private @Nullable String jwkSetUri;
+
+		private @Nullable RestOperations restOperations;
+
 		private @Nullable Converter<Jwt, ? extends AbstractAuthenticationToken> jwtAuthenticationConverter;
 
+		private @Nullable Duration decodeCacheTimeToLive;
+
+		private int decodeCacheMaximumSize;
+
 		JwtConfigurer(ApplicationContext context) {
 			this.context = context;
 		}
@@ -108,11 +118,54 @@ public class OAuth2ResourceServerConfigurer
 
 		public JwtConfigurer decoder(JwtDecoder decoder) {
 			this.decoder = decoder;
+			this.jwkSetUri = null;
 			return this;
 		}
 
+		/**
+		 * Decode tokens with the keys of the given JWK set, which are cached and
+		 * refreshed in the background before they expire. Configurations of the same
+		 * application context that use the same JWK set share its keys.
+		 * @param uri the URI of the JWK set
+		 * @return this configurer
+		 * @see #restOperations(RestOperations)
+		 */
 		public JwtConfigurer jwkSetUri(String uri) {
-			this.decoder = NimbusJwtDecoder.withJwkSetUri(uri).build();
+			Assert.hasText(uri, "uri cannot be empty");
+			this.jwkSetUri = uri;
+			this.decoder = null;
+			return this;
+		}
+
+		/**
+		 * Use the given {@link RestOperations} to fetch the JWK set configured with
+		 * {@link #jwkSetUri(String)}, so that its proxy, timeout and other settings
+		 * apply. By default the JWK set is fetched with the connect and read timeouts of
+		 * Nimbus (500 milliseconds each).
+		 * @param restOperations the {@link RestOperations} used to fetch the JWK set
+		 * @return this configurer
+		 */
+		public JwtConfigurer restOperations(RestOperations restOperations) {
+			Assert.notNull(restOperations, "restOperations cannot be null");
+			this.restOperations = restOperations;
+			return this;
+		}
+
+		/**
+		 * Remember decoded and validated tokens so that a token sent with every call only
+		 * has its signature verified once. A token is remembered for the given time to
+		 * live or until it expires, whichever comes first, and the least recently used
+		 * tokens are evicted once {@code maximumSize} tokens are cached.
+		 * @param timeToLive how long a decoded token is remembered
+		 * @param maximumSize the maximum number of cached tokens
+		 * @return this configurer
+		 */
+		public JwtConfigurer decodeCache(Duration timeToLive, int maximumSize) {
+			Assert.isTrue(timeToLive != null && !timeToLive.isNegative() && !timeToLive.isZero(),
+					"timeToLive must be positive");
+			Assert.isTrue(maximumSize > 0, "maximumSize must be greater than 0");
+			this.decodeCacheTimeToLive = timeToLive;
+			this.decodeCacheMaximumSize = maximumSize;
 			return this;
 		}
 
@@ -135,10 +188,16 @@ public class OAuth2ResourceServerConfigurer
 		}
 
 		JwtDecoder getJwtDecoder() {
-			if (this.decoder == null) {
-				return this.context.getBean(JwtDecoder.class);
+			JwtDecoder decoder = this.decoder;
+			if (decoder == null) {
+				decoder = (this.jwkSetUri != null) ? NimbusJwtDecoder
+					.withJwkSource(JwkSources.get(this.context).getSource(this.jwkSetUri, this.restOperations))
+					.build() : this.context.getBean(JwtDecoder.class);
+			}
+			if (this.decodeCacheTimeToLive != null) {
+				return new CachingJwtDecoder(decoder, this.decodeCacheTimeToLive, this.decodeCacheMaximumSize);
 			}
-			return this.decoder;
+			return decoder;
 		}
 
 		@Nullable
@@ -18,7 +18,12 @@ package org.springframework.grpc.server.security;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
@@ -42,12 +47,22 @@ import org.springframework.util.function.SingletonSupplier;
 
 public class RequestMapperConfigurer extends SecurityConfigurerAdapter<AuthenticationProcessInterceptor, GrpcSecurity> {
 
+	private static final int EVENT_QUEUE_CAPACITY = 10_000;
+
+	private static final int EVENT_BATCH_SIZE = 256;
+
 	private List<AuthorizedCall> authorizedCalls = new ArrayList<>();
 
 	private final Supplier<RoleHierarchy> roleHierarchy;
 
 	private final AuthorizationEventPublisher publisher;
 
+	private EventMode eventMode = EventMode.ALL;
+
+	private double eventSampleRate = 0.01;
+
+	private @Nullable Executor eventExecutor;
+
 	public RequestMapperConfigurer(ApplicationContext context) throws Exception {
 		if (context.getBeanNamesForType(AuthorizationEventPublisher.class).length > 0) {
 			this.publisher = context.getBean(AuthorizationEventPublisher.class);
@@ -61,7 +76,53 @@ public class RequestMapperConfigurer extends SecurityConfigurerAdapter<Authentic
 
 	@Override
 	public void configure(GrpcSecurity builder) {
-		builder.authorizationManager(new RequestMapperAuthorizationManager(this.authorizedCalls, this.publisher));
+		AuthorizationEventPublisher publisher = this.publisher;
+		if (this.eventExecutor != null && this.eventMode != EventMode.OFF) {
+			publisher = new BatchingAuthorizationEventPublisher(publisher, this.eventExecutor, EVENT_QUEUE_CAPACITY,
+					EVENT_BATCH_SIZE);
+		}
+		RequestMapperAuthorizationManager manager = new RequestMapperAuthorizationManager(this.authorizedCalls,
+				publisher);
+		manager.setEventMode(this.eventMode);
+		manager.setEventSampleRate(this.eventSampleRate);
+		builder.authorizationManager(manager);
+	}
+
+	/**
+	 * Sets which authorization results are published as events. Defaults to
+	 * {@link EventMode#ALL}.
+	 * @param mode the event mode
+	 * @return this configurer
+	 */
+	public RequestMapperConfigurer events(EventMode mode) {
+		Assert.notNull(mode, "mode cannot be null");
+		this.eventMode = mode;
+		return this;
+	}
+
+	/**
+	 * Sets the fraction of granted calls that are published as events in
+	 * {@link EventMode#SAMPLED} mode. Defaults to {@code 0.01}.
+	 * @param sampleRate the sample rate between {@code 0} and {@code 1}
+	 * @return this configurer
+	 */
+	public RequestMapperConfigurer eventSampleRate(double sampleRate) {
+		Assert.isTrue(sampleRate >= 0 && sampleRate <= 1, "sampleRate must be between 0 and 1");
+		this.eventSampleRate = sampleRate;
+		return this;
+	}
+
+	/**
+	 * Publishes authorization events on the given executor instead of the thread that
+	 * authorizes the call. Events are queued and handed to the publisher in batches, and
+	 * are dropped if the queue fills up.
+	 * @param executor the executor to publish events on
+	 * @return this configurer
+	 */
+	public RequestMapperConfigurer eventExecutor(Executor executor) {
+		Assert.notNull(executor, "executor cannot be null");
+		this.eventExecutor = executor;
+		return this;
 	}
 
 	public AuthorizedCall allRequests() {
@@ -158,28 +219,97 @@ public class RequestMapperConfigurer extends SecurityConfigurerAdapter<Authentic
 
 		private final AuthorizationEventPublisher publisher;
 
+		private final Map<String, Optional<AuthorizedCall>> callsByMethod = new ConcurrentHashMap<>();
+
+		private EventMode eventMode = EventMode.ALL;
+
+		private double eventSampleRate = 0.01;
+
 		public RequestMapperAuthorizationManager(List<AuthorizedCall> authorizedCalls,
 				AuthorizationEventPublisher publisher) {
 			this.authorizedCalls = authorizedCalls;
 			this.publisher = publisher;
 		}
 
+		public void setEventMode(EventMode eventMode) {
+			Assert.notNull(eventMode, "eventMode cannot be null");
+			this.eventMode = eventMode;
+		}
+
+		public void setEventSampleRate(double eventSampleRate) {
+			Assert.isTrue(eventSampleRate >= 0 && eventSampleRate <= 1, "eventSampleRate must be between 0 and 1");
+			this.eventSampleRate = eventSampleRate;
+		}
+
 		@Override
 		public @Nullable AuthorizationResult authorize(Supplier<? extends @Nullable Authentication> authentication,
 				CallContext context) {
 			AuthorizationResult result = new AuthorizationDecision(false);
-			for (AuthorizedCall authorizedCall : this.authorizedCalls) {
-				if (authorizedCall.matcher.matches(context)) {
-					result = Objects
-						.requireNonNull(authorizedCall.authorizationManager, "authorizationManager must not be null")
-						.authorize(authentication, context);
-					break;
-				}
+			AuthorizedCall authorizedCall = findAuthorizedCall(context);
+			if (authorizedCall != null) {
+				result = Objects
+					.requireNonNull(authorizedCall.authorizationManager, "authorizationManager must not be null")
+					.authorize(authentication, context);
+			}
+			if (shouldPublish(result)) {
+				this.publisher.publishAuthorizationEvent((Supplier<Authentication>) authentication, context, result);
 			}
-			this.publisher.publishAuthorizationEvent((Supplier<Authentication>) authentication, context, result);
 			return result;
 		}
 
+		private boolean shouldPublish(@Nullable AuthorizationResult result) {
+			boolean denied = result == null || !result.isGranted();
+			return switch (this.eventMode) {
+				case OFF -> false;
+				case DENIED -> denied;
+				case SAMPLED -> denied || ThreadLocalRandom.current().nextDouble() < this.eventSampleRate;
+				case ALL -> true;
+			};
+		}
+
+		/**
+		 * Find the first rule that matches the call. Rules only ever match on the method
+		 * name so the outcome of the (ordered) scan is remembered per method and later
+		 * calls to the same method skip the pattern matching altogether.
+		 * @param context the call context
+		 * @return the first matching rule or {@code null} if none match
+		 */
+		private @Nullable AuthorizedCall findAuthorizedCall(CallContext context) {
+			return this.callsByMethod
+				.computeIfAbsent(context.method().getFullMethodName(),
+						(method) -> this.authorizedCalls.stream()
+							.filter((authorizedCall) -> authorizedCall.matcher.matches(context))
+							.findFirst())
+				.orElse(null);
+		}
+
+	}
+
+	/**
+	 * Which authorization results are published as events.
+	 */
+	public enum EventMode {
+
+		/**
+		 * Do not publish any events.
+		 */
+		OFF,
+
+		/**
+		 * Only publish events for denied calls.
+		 */
+		DENIED,
+
+		/**
+		 * Publish events for all denied calls and a sample of the granted ones.
+		 */
+		SAMPLED,
+
+		/**
+		 * Publish events for all calls.
+		 */
+		ALL
+
 	}
 
 }
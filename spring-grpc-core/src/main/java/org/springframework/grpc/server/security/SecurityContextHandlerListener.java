@@ -18,7 +18,9 @@ package org.springframework.grpc.server.security;
 
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
 
+import io.grpc.Context;
 import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
 import io.grpc.ServerCall;
 
@@ -26,54 +28,89 @@ class SecurityContextHandlerListener<ReqT, RespT> extends SimpleForwardingServer
 
 	private SecurityContext securityContext;
 
+	private final SecurityContextHolderStrategy strategy;
+
+	private final boolean propagate;
+
+	private volatile boolean cancelled;
+
 	SecurityContextHandlerListener(ServerCall.Listener<ReqT> delegate, SecurityContext securityContext) {
 		super(delegate);
 		this.securityContext = securityContext;
+		this.strategy = SecurityContextHolder.getContextHolderStrategy();
+		// The gRPC context of the call already carries the security context
+		this.propagate = !(this.strategy instanceof GrpcContextSecurityContextHolderStrategy);
 	}
 
 	@Override
 	public void onMessage(ReqT message) {
-		SecurityContextHolder.setContext(this.securityContext);
+		if (isCancelled()) {
+			return;
+		}
+		setContext();
 		try {
 			super.onMessage(message);
 		}
 		finally {
-			SecurityContextHolder.clearContext();
+			this.strategy.clearContext();
 		}
 	}
 
 	@Override
 	public void onHalfClose() {
-		SecurityContextHolder.setContext(this.securityContext);
+		if (isCancelled()) {
+			return;
+		}
+		setContext();
 		try {
 			super.onHalfClose();
 		}
 		finally {
-			SecurityContextHolder.clearContext();
+			this.strategy.clearContext();
 		}
 	}
 
 	@Override
 	public void onReady() {
-		SecurityContextHolder.setContext(this.securityContext);
+		if (isCancelled()) {
+			return;
+		}
+		setContext();
 		try {
 			super.onReady();
 		}
 		finally {
-			SecurityContextHolder.clearContext();
+			this.strategy.clearContext();
 		}
 	}
 
 	@Override
 	public void onCancel() {
+		this.cancelled = true;
 		super.onCancel();
-		SecurityContextHolder.clearContext();
+		this.strategy.clearContext();
 	}
 
 	@Override
 	public void onComplete() {
 		super.onComplete();
-		SecurityContextHolder.clearContext();
+		this.strategy.clearContext();
+	}
+
+	private void setContext() {
+		if (this.propagate) {
+			this.strategy.setContext(this.securityContext);
+		}
+	}
+
+	/**
+	 * Whether the call has been cancelled (for instance because its deadline expired), in
+	 * which case there is no point setting up the security context and running the
+	 * handler for events that were queued before the cancellation.
+	 * @return whether the call has been cancelled
+	 */
+	private boolean isCancelled() {
+		return this.cancelled || Context.current().isCancelled();
 	}
 
 }
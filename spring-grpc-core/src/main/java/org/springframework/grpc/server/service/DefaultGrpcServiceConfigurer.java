@@ -25,9 +25,14 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.grpc.internal.ApplicationContextBeanLookupUtils;
+import org.springframework.grpc.marshaller.MethodMarshallerProvider;
+import org.springframework.grpc.marshaller.MethodMarshallers;
+import org.springframework.grpc.marshaller.ZeroCopyMarshalling;
 import org.springframework.grpc.server.GlobalServerInterceptor;
 import org.springframework.grpc.server.GrpcServerFactory;
+import org.springframework.grpc.server.RoutingServerCallExecutorSupplier;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 import io.grpc.BindableService;
 import io.grpc.ServerInterceptor;
@@ -46,10 +51,46 @@ public class DefaultGrpcServiceConfigurer implements GrpcServiceConfigurer, Init
 
 	private List<ServerInterceptor> globalInterceptors = new ArrayList<>();
 
+	private boolean zeroCopyMarshalling;
+
+	private @Nullable MethodMarshallerProvider marshallerProvider;
+
+	private @Nullable RoutingServerCallExecutorSupplier callExecutorSupplier;
+
 	public DefaultGrpcServiceConfigurer(ApplicationContext applicationContext) {
 		this.applicationContext = applicationContext;
 	}
 
+	/**
+	 * Sets whether the methods of configured services should parse protobuf requests with
+	 * {@link ZeroCopyMarshalling zero-copy marshallers}.
+	 * @param zeroCopyMarshalling whether to use zero-copy marshallers
+	 */
+	public void setZeroCopyMarshalling(boolean zeroCopyMarshalling) {
+		this.zeroCopyMarshalling = zeroCopyMarshalling;
+	}
+
+	/**
+	 * Sets the provider that chooses the marshallers bound to the methods of configured
+	 * services. When {@link #setZeroCopyMarshalling zero-copy marshalling} is enabled the
+	 * provider is given the zero-copy marshallers.
+	 * @param marshallerProvider the marshaller provider or {@code null} to keep the
+	 * marshallers of the services
+	 */
+	public void setMarshallerProvider(@Nullable MethodMarshallerProvider marshallerProvider) {
+		this.marshallerProvider = marshallerProvider;
+	}
+
+	/**
+	 * Sets the supplier that configured services are routed to when their
+	 * {@link GrpcService#executor() executor lane} is set.
+	 * @param callExecutorSupplier the call executor supplier or {@code null} to ignore
+	 * executor lanes
+	 */
+	public void setCallExecutorSupplier(@Nullable RoutingServerCallExecutorSupplier callExecutorSupplier) {
+		this.callExecutorSupplier = callExecutorSupplier;
+	}
+
 	@Override
 	public void afterPropertiesSet() {
 		this.globalInterceptors.addAll(findGlobalInterceptors());
@@ -58,7 +99,16 @@ public class DefaultGrpcServiceConfigurer implements GrpcServiceConfigurer, Init
 	@Override
 	public ServerServiceDefinition configure(GrpcServiceSpec serviceSpec, @Nullable GrpcServerFactory serverFactory) {
 		Assert.notNull(serviceSpec, () -> "serviceSpec must not be null");
-		return bindInterceptors(serviceSpec.service(), serviceSpec.serviceInfo(), serverFactory);
+		ServerServiceDefinition serviceDef = bindInterceptors(serviceSpec.service(), serviceSpec.serviceInfo(),
+				serverFactory);
+		routeToExecutorLane(serviceDef, serviceSpec.serviceInfo());
+		return serviceDef;
+	}
+
+	private void routeToExecutorLane(ServerServiceDefinition serviceDef, @Nullable GrpcServiceInfo serviceInfo) {
+		if (this.callExecutorSupplier != null && serviceInfo != null && StringUtils.hasText(serviceInfo.executor())) {
+			this.callExecutorSupplier.route(serviceDef.getServiceDescriptor().getName(), serviceInfo.executor());
+		}
 	}
 
 	private List<ServerInterceptor> findGlobalInterceptors() {
@@ -66,9 +116,19 @@ public class DefaultGrpcServiceConfigurer implements GrpcServiceConfigurer, Init
 				ServerInterceptor.class, GlobalServerInterceptor.class);
 	}
 
+	private ServerServiceDefinition bindMarshallers(ServerServiceDefinition serviceDef) {
+		if (this.zeroCopyMarshalling) {
+			serviceDef = ZeroCopyMarshalling.apply(serviceDef);
+		}
+		if (this.marshallerProvider != null) {
+			serviceDef = MethodMarshallers.bind(serviceDef, this.marshallerProvider);
+		}
+		return serviceDef;
+	}
+
 	private ServerServiceDefinition bindInterceptors(BindableService bindableService,
 			@Nullable GrpcServiceInfo serviceInfo, @Nullable GrpcServerFactory serverFactory) {
-		var serviceDef = bindableService.bindService();
+		var serviceDef = bindMarshallers(bindableService.bindService());
 
 		// Add and filter global interceptors first
 		List<ServerInterceptor> allInterceptors = new ArrayList<>(this.globalInterceptors);
@@ -73,4 +73,13 @@ public @interface GrpcService {
 	 */
 	boolean blendWithGlobalInterceptors() default false;
 
+	/**
+	 * The name of the executor lane that runs the calls of the service. The lane must be
+	 * configured with the server, otherwise the server fails to start.
+	 * <p>
+	 * When empty, the calls run on the default executor of the server.
+	 * @return the name of the executor lane of the service
+	 */
+	String executor() default "";
+
 }
@@ -34,14 +34,22 @@ import io.grpc.ServerInterceptor;
  * the service
  * @param blendWithGlobalInterceptors whether the service specific interceptors should be
  * merged and sorted (blended) with the global interceptors
+ * @param executor name of the executor lane that runs the calls of the service or empty
+ * to use the default executor of the server
  * @author Chris Bono
  */
 public record GrpcServiceInfo(Class<? extends ServerInterceptor>[] interceptors, String[] interceptorNames,
-		boolean blendWithGlobalInterceptors) {
+		boolean blendWithGlobalInterceptors, String executor) {
 
 	public GrpcServiceInfo {
 		Assert.notNull(interceptors, "interceptors must not be null");
 		Assert.notNull(interceptorNames, "interceptorNames must not be null");
+		Assert.notNull(executor, "executor must not be null");
+	}
+
+	public GrpcServiceInfo(Class<? extends ServerInterceptor>[] interceptors, String[] interceptorNames,
+			boolean blendWithGlobalInterceptors) {
+		this(interceptors, interceptorNames, blendWithGlobalInterceptors, "");
 	}
 
 	/**
@@ -52,7 +60,7 @@ public record GrpcServiceInfo(Class<? extends ServerInterceptor>[] interceptors,
 	@Nullable
 	public static GrpcServiceInfo from(@Nullable GrpcService grpcService) {
 		return grpcService != null ? new GrpcServiceInfo(grpcService.interceptors(), grpcService.interceptorNames(),
-				grpcService.blendWithGlobalInterceptors()) : null;
+				grpcService.blendWithGlobalInterceptors(), grpcService.executor()) : null;
 	}
 
 	/**
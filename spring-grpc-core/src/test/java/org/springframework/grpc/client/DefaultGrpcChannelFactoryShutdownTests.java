@@ -16,8 +16,12 @@
 
 package org.springframework.grpc.client;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
@@ -55,6 +59,31 @@ class DefaultGrpcChannelFactoryShutdownTests {
 		this.channelsShutdownAsExpected(true);
 	}
 
+	@Test
+	void shutdownTimeoutCapsGracePeriodsAndListenerIsNotified() throws InterruptedException {
+		var channelFactory = new DefaultGrpcChannelFactory<>(List.of(), mock());
+		ChannelShutdownListener listener = mock();
+		channelFactory.setShutdownTimeout(Duration.ofMillis(200));
+		channelFactory.setShutdownListener(listener);
+		ManagedChannel stuck = mock();
+		ManagedChannel terminated = mock();
+		given(terminated.isTerminated()).willReturn(true);
+		List<ManagedChannelWithShutdown> channels = new ArrayList<>();
+		channels.add(new ManagedChannelWithShutdown(stuck, Duration.ofMinutes(5)));
+		channels.add(new ManagedChannelWithShutdown(terminated, Duration.ofSeconds(30)));
+		ReflectionTestUtils.setField(channelFactory, "channels", channels);
+
+		channelFactory.destroy();
+
+		verify(stuck).shutdown();
+		verify(terminated).shutdown();
+		verify(stuck).awaitTermination(longThat((millis) -> millis <= 200), eq(TimeUnit.MILLISECONDS));
+		verify(stuck, atLeastOnce()).shutdownNow();
+		verify(terminated, never()).shutdownNow();
+		verify(listener).channelShutdown(eq(stuck), any(Duration.class), eq(true));
+		verify(listener).channelShutdown(eq(terminated), any(Duration.class), eq(false));
+	}
+
 	private void channelsShutdownAsExpected(boolean exceedAwaitTime) throws InterruptedException {
 		var channelFactory = new DefaultGrpcChannelFactory<>(List.of(), mock());
 		channelFactory.setVirtualTargets(path -> path);
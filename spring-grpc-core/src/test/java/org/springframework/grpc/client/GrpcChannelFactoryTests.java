@@ -23,20 +23,28 @@ import static org.mockito.ArgumentMatchers.assertArg;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.time.Duration;
 import java.util.List;
 
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
 import org.mockito.ArgumentMatchers;
 
+import org.springframework.grpc.netty.NettyTransport;
+
 import io.grpc.ClientInterceptor;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.inprocess.InProcessChannelBuilder;
 import io.grpc.netty.NettyChannelBuilder;
+import io.netty.channel.EventLoopGroup;
 
 /**
  * Tests for the various {@link GrpcChannelFactory} implementations.
@@ -133,6 +141,109 @@ class GrpcChannelFactoryTests {
 
 	}
 
+	@Nested
+	class CreateChannelApiWithSharing {
+
+		@Test
+		void whenSharingDisabledThenEachCallCreatesNewChannel() {
+			var channelFactory = new DefaultGrpcChannelFactory(List.of(), mock());
+			channelFactory.setVirtualTargets(path -> path);
+			channel = channelFactory.createChannel("localhost");
+			var other = channelFactory.createChannel("localhost");
+			assertThat(other).isNotSameAs(channel);
+			assertThat(channelFactory).extracting("channels")
+				.asInstanceOf(InstanceOfAssertFactories.COLLECTION)
+				.hasSize(2);
+			channelFactory.destroy();
+		}
+
+		@Test
+		void whenSharingEnabledThenSameTargetAndOptionsShareUnderlyingChannel() {
+			var customizer = mock(GrpcChannelBuilderCustomizer.class);
+			var channelFactory = new DefaultGrpcChannelFactory(List.of(customizer), mock());
+			channelFactory.setVirtualTargets(path -> path);
+			channelFactory.setShareChannels(true);
+			var c1 = channelFactory.createChannel("localhost");
+			var c2 = channelFactory.createChannel("localhost");
+			var c3 = channelFactory.createChannel("localhost",
+					ChannelBuilderOptions.defaults().withShutdownGracePeriod(Duration.ofSeconds(5)));
+			assertThat(c1).isNotSameAs(c2);
+			assertThat(channelFactory).extracting("channels")
+				.asInstanceOf(InstanceOfAssertFactories.COLLECTION)
+				.hasSize(2);
+			verify(customizer, times(2)).customize(anyString(), any(ManagedChannelBuilder.class));
+			c1.shutdown();
+			assertThat(c1.isShutdown()).isTrue();
+			assertThat(c1.isTerminated()).isTrue();
+			assertThat(c2.isShutdown()).isFalse();
+			c2.shutdown();
+			assertThat(c2.isShutdown()).isTrue();
+			assertThat(channelFactory).extracting("channels")
+				.asInstanceOf(InstanceOfAssertFactories.COLLECTION)
+				.hasSize(1);
+			c3.shutdownNow();
+			channelFactory.destroy();
+		}
+
+		@Test
+		void whenLastSharedChannelReleasedThenNewChannelIsCreated() {
+			var channelFactory = new DefaultGrpcChannelFactory(List.of(), mock());
+			channelFactory.setVirtualTargets(path -> path);
+			channelFactory.setShareChannels(true);
+			var c1 = channelFactory.createChannel("localhost");
+			c1.shutdown();
+			// releasing twice is a no-op
+			c1.shutdown();
+			channel = channelFactory.createChannel("localhost");
+			assertThat(channel.isShutdown()).isFalse();
+			// the released channel is no longer tracked
+			assertThat(channelFactory).extracting("channels")
+				.asInstanceOf(InstanceOfAssertFactories.COLLECTION)
+				.hasSize(1);
+			channelFactory.destroy();
+		}
+
+	}
+
+	@Nested
+	class CreateChannelApiWithPool {
+
+		@Test
+		void whenPoolSizeGreaterThanOneThenChannelsAreStriped() {
+			var customizer = mock(GrpcChannelBuilderCustomizer.class);
+			var channelFactory = new DefaultGrpcChannelFactory(List.of(customizer), mock());
+			channelFactory.setVirtualTargets(path -> path);
+			channelFactory.setPoolOptionsProvider((path) -> path.equals("pooled")
+					? new ChannelPoolOptions(3, ChannelPoolOptions.Selection.ROUND_ROBIN) : ChannelPoolOptions.SINGLE);
+			channel = channelFactory.createChannel("pooled");
+			assertThat(channel).isInstanceOf(StripedManagedChannel.class);
+			verify(customizer, times(3)).customize(eq("pooled"), any(ManagedChannelBuilder.class));
+			var single = channelFactory.createChannel("localhost");
+			assertThat(single).isNotInstanceOf(StripedManagedChannel.class);
+			assertThat(channelFactory).extracting("channels")
+				.asInstanceOf(InstanceOfAssertFactories.COLLECTION)
+				.hasSize(4);
+			channelFactory.destroy();
+		}
+
+		@Test
+		void whenSharingEnabledThenPoolIsSharedAsUnit() {
+			var channelFactory = new DefaultGrpcChannelFactory(List.of(), mock());
+			channelFactory.setVirtualTargets(path -> path);
+			channelFactory.setShareChannels(true);
+			channelFactory.setPoolOptionsProvider(
+					(path) -> new ChannelPoolOptions(2, ChannelPoolOptions.Selection.LEAST_IN_FLIGHT));
+			channel = channelFactory.createChannel("localhost");
+			var other = channelFactory.createChannel("localhost");
+			assertThat(other).isNotSameAs(channel);
+			assertThat(channelFactory).extracting("channels")
+				.asInstanceOf(InstanceOfAssertFactories.COLLECTION)
+				.hasSize(2);
+			channelFactory.destroy();
+		}
+
+	}
+
 	@Nested
 	class SpecificGrpcChannelFactoryTests {
 
@@ -162,6 +273,62 @@ class GrpcChannelFactoryTests {
 				.isInstanceOf(io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder.class)));
 		}
 
+		@Test
+		@EnabledOnOs(OS.LINUX)
+		void nettyChannelFactorySharesDomainSocketEventLoopGroup() {
+			var channelFactory = new NettyGrpcChannelFactory(List.of(), mock());
+			channelFactory.setVirtualTargets(path -> path);
+			channelFactory.setEventLoopThreads(1);
+			channelFactory.createChannel("unix:/some/file/somewhere", ChannelBuilderOptions.defaults());
+			channelFactory.createChannel("unix:/some/other/file", ChannelBuilderOptions.defaults());
+			var group = assertThat(channelFactory)
+				.extracting("eventLoopGroups",
+						InstanceOfAssertFactories.map(NettyTransport.class, EventLoopGroup.class))
+				.containsOnlyKeys(NettyTransport.EPOLL)
+				.actual()
+				.get(NettyTransport.EPOLL);
+			channelFactory.destroy();
+			assertThat(group.isTerminated()).isTrue();
+			assertThat(channelFactory).extracting("eventLoopGroups", InstanceOfAssertFactories.MAP).isEmpty();
+		}
+
+		@Test
+		void nettyChannelFactoryKeepsDefaultEventLoopGroupForAutoTransport() {
+			var channelFactory = new NettyGrpcChannelFactory(List.of(), mock());
+			channelFactory.setVirtualTargets(path -> path);
+			channel = channelFactory.createChannel("localhost", ChannelBuilderOptions.defaults());
+			assertThat(channelFactory).extracting("eventLoopGroups", InstanceOfAssertFactories.MAP).isEmpty();
+		}
+
+		@Test
+		void nettyChannelFactoryUsesTransportForTarget() {
+			var channelFactory = new NettyGrpcChannelFactory(List.of(), mock());
+			channelFactory.setVirtualTargets(path -> path);
+			channelFactory.setTransportProvider((target) -> NettyTransport.NIO);
+			channelFactory.createChannel("localhost", ChannelBuilderOptions.defaults());
+			channelFactory.createChannel("otherhost", ChannelBuilderOptions.defaults());
+			var group = assertThat(channelFactory)
+				.extracting("eventLoopGroups",
+						InstanceOfAssertFactories.map(NettyTransport.class, EventLoopGroup.class))
+				.containsOnlyKeys(NettyTransport.NIO)
+				.actual()
+				.get(NettyTransport.NIO);
+			channelFactory.destroy();
+			assertThat(group.isTerminated()).isTrue();
+		}
+
+		@Test
+		void shadedNettyChannelFactoryUsesTransportForTarget() {
+			var channelFactory = new ShadedNettyGrpcChannelFactory(List.of(), mock());
+			channelFactory.setVirtualTargets(path -> path);
+			channelFactory.setTransportProvider((target) -> NettyTransport.NIO);
+			channelFactory.createChannel("localhost", ChannelBuilderOptions.defaults());
+			assertThat(channelFactory).extracting("eventLoopGroups", InstanceOfAssertFactories.MAP)
+				.containsOnlyKeys(NettyTransport.NIO);
+			channelFactory.destroy();
+			assertThat(channelFactory).extracting("eventLoopGroups", InstanceOfAssertFactories.MAP).isEmpty();
+		}
+
 		@Test
 		void inProcessChannelFactoryUsesInProcessChannelBuilder() {
 			var channelName = "in-process:foo";
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+
+/**
+ * Tests for {@link GrpcChannelWarmup}.
+ */
+class GrpcChannelWarmupTests {
+
+	private final GrpcChannelFactory channelFactory = mock();
+
+	@Test
+	void noTargetsDoesNotUseChannelFactory() {
+		GrpcChannelWarmup warmup = new GrpcChannelWarmup(() -> {
+			throw new IllegalStateException("should not be called");
+		}, List.of(), Duration.ofSeconds(1));
+		warmup.afterSingletonsInstantiated();
+		warmup.destroy();
+	}
+
+	@Test
+	void channelsAreConnectedAndKeptUntilDestroyed() {
+		ManagedChannel channel = mock();
+		given(channel.getState(true)).willReturn(ConnectivityState.IDLE);
+		given(channel.getState(false)).willReturn(ConnectivityState.READY);
+		doAnswer((invocation) -> {
+			invocation.getArgument(1, Runnable.class).run();
+			return null;
+		}).when(channel).notifyWhenStateChanged(eq(ConnectivityState.IDLE), any());
+		given(this.channelFactory.createChannel(eq("one"), any())).willReturn(channel);
+		GrpcChannelWarmup warmup = new GrpcChannelWarmup(() -> this.channelFactory, List.of("one"),
+				Duration.ofSeconds(5));
+		long start = System.nanoTime();
+		warmup.afterSingletonsInstantiated();
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+		then(channel).should(never()).shutdown();
+		warmup.destroy();
+		then(channel).should().shutdown();
+	}
+
+	@Test
+	void channelsNotReadyDoNotBlockBeyondTimeout() {
+		ManagedChannel channel = mock();
+		given(channel.getState(true)).willReturn(ConnectivityState.CONNECTING);
+		given(channel.getState(false)).willReturn(ConnectivityState.TRANSIENT_FAILURE);
+		given(this.channelFactory.createChannel(eq("slow"), any())).willReturn(channel);
+		GrpcChannelWarmup warmup = new GrpcChannelWarmup(() -> this.channelFactory, List.of("slow"),
+				Duration.ofMillis(100));
+		long start = System.nanoTime();
+		warmup.afterSingletonsInstantiated();
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+		then(channel).should().notifyWhenStateChanged(eq(ConnectivityState.CONNECTING), any());
+		warmup.destroy();
+		then(channel).should().shutdown();
+	}
+
+	@Test
+	void stateChangesAreNotWatchedAfterTimeout() {
+		ManagedChannel channel = mock();
+		given(channel.getState(true)).willReturn(ConnectivityState.CONNECTING);
+		given(channel.getState(false)).willReturn(ConnectivityState.TRANSIENT_FAILURE);
+		ArgumentCaptor<Runnable> callback = ArgumentCaptor.captor();
+		given(this.channelFactory.createChannel(eq("slow"), any())).willReturn(channel);
+		GrpcChannelWarmup warmup = new GrpcChannelWarmup(() -> this.channelFactory, List.of("slow"),
+				Duration.ofMillis(10));
+		warmup.afterSingletonsInstantiated();
+		then(channel).should().notifyWhenStateChanged(eq(ConnectivityState.CONNECTING), callback.capture());
+		callback.getValue().run();
+		then(channel).should(never()).notifyWhenStateChanged(eq(ConnectivityState.TRANSIENT_FAILURE), any());
+		then(channel).should().getState(true);
+		warmup.destroy();
+	}
+
+}
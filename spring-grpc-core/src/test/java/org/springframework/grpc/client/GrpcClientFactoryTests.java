@@ -19,6 +19,13 @@ package org.springframework.grpc.client;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchIllegalStateException;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
@@ -59,6 +66,73 @@ public class GrpcClientFactoryTests {
 		assertThat(factory.getClient("local", MyStub.class, null)).isNotNull();
 	}
 
+	@Test
+	void testCreateRepeatedly() {
+		GrpcClientFactory.register(context, new GrpcClientRegistrationSpec("local", new Class[] { MyStub.class }));
+		MyStub first = factory.getClient("local", MyStub.class, null);
+		MyStub second = factory.getClient("local", MyStub.class, null);
+		assertThat(first).isNotNull().isNotSameAs(second);
+		assertThat(second).isInstanceOf(MyStub.class);
+	}
+
+	@Test
+	void testCacheClients() {
+		factory.setCacheClients(true);
+		GrpcClientFactory.register(context, new GrpcClientRegistrationSpec("local", new Class[] { MyStub.class }));
+		MyStub first = factory.getClient("local", MyStub.class, null);
+		assertThat(factory.getClient("local", MyStub.class, null)).isSameAs(first);
+		assertThat(factory.getClient("other", MyStub.class, null)).isNotSameAs(first);
+		Mockito.verify(channelFactory).createChannel(Mockito.eq("local"), Mockito.any());
+		Mockito.verify(channelFactory).createChannel(Mockito.eq("other"), Mockito.any());
+	}
+
+	@Test
+	void testConcurrentCreate() throws Exception {
+		GrpcClientFactory.register(context, new GrpcClientRegistrationSpec("local", new Class[] { MyStub.class }));
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<MyStub>> stubs = new ArrayList<>();
+			for (int i = 0; i < 32; i++) {
+				stubs.add(executor.submit(() -> factory.getClient("local", MyStub.class, null)));
+			}
+			for (Future<MyStub> stub : stubs) {
+				assertThat(stub.get(10, TimeUnit.SECONDS)).isInstanceOf(MyStub.class);
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void testConcurrentCacheClients() throws Exception {
+		List<ManagedChannel> channels = new CopyOnWriteArrayList<>();
+		Mockito.when(channelFactory.createChannel(Mockito.anyString(), Mockito.any())).thenAnswer((invocation) -> {
+			ManagedChannel channel = Mockito.mock(ManagedChannel.class);
+			channels.add(channel);
+			return channel;
+		});
+		factory.setCacheClients(true);
+		GrpcClientFactory.register(context, new GrpcClientRegistrationSpec("local", new Class[] { MyStub.class }));
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<MyStub>> stubs = new ArrayList<>();
+			for (int i = 0; i < 32; i++) {
+				stubs.add(executor.submit(() -> factory.getClient("local", MyStub.class, null)));
+			}
+			MyStub first = stubs.get(0).get(10, TimeUnit.SECONDS);
+			for (Future<MyStub> stub : stubs) {
+				assertThat(stub.get(10, TimeUnit.SECONDS)).isSameAs(first);
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertThat(channels).isNotEmpty();
+		Mockito.verify(channels.get(0), Mockito.never()).shutdown();
+		channels.stream().skip(1).forEach((channel) -> Mockito.verify(channel).shutdown());
+	}
+
 	@Test
 	void testNoStubFactory() {
 		GrpcClientFactory.register(context, new GrpcClientRegistrationSpec("local", new Class[] { OtherStub.class }));
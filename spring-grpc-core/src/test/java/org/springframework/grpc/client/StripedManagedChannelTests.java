@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.grpc.client.ChannelPoolOptions.Selection;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * Tests for {@link StripedManagedChannel}.
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+class StripedManagedChannelTests {
+
+	private final MethodDescriptor method = MethodDescriptor.newBuilder()
+		.setType(MethodDescriptor.MethodType.UNARY)
+		.setFullMethodName("test/method")
+		.setRequestMarshaller(mock(MethodDescriptor.Marshaller.class))
+		.setResponseMarshaller(mock(MethodDescriptor.Marshaller.class))
+		.build();
+
+	@Test
+	void roundRobinCyclesThroughChannels() {
+		var c1 = channel();
+		var c2 = channel();
+		var striped = new StripedManagedChannel(List.of(c1, c2), Selection.ROUND_ROBIN);
+		for (int i = 0; i < 4; i++) {
+			striped.newCall(this.method, CallOptions.DEFAULT);
+		}
+		verify(c1, times(2)).newCall(any(), any());
+		verify(c2, times(2)).newCall(any(), any());
+	}
+
+	@Test
+	void leastInFlightAvoidsBusyChannel() {
+		var c1 = channel();
+		var c2 = channel();
+		var striped = new StripedManagedChannel(List.of(c1, c2), Selection.LEAST_IN_FLIGHT);
+		// first call stays open on one of the channels
+		ClientCall first = striped.newCall(this.method, CallOptions.DEFAULT);
+		first.start(mock(ClientCall.Listener.class), new Metadata());
+		for (int i = 0; i < 3; i++) {
+			ClientCall call = striped.newCall(this.method, CallOptions.DEFAULT);
+			call.start(mock(ClientCall.Listener.class), new Metadata());
+			closeCall(call);
+		}
+		// the busy channel only received the first call
+		var busy = newCallCount(c1) == 1 ? c1 : c2;
+		var idle = (busy == c1) ? c2 : c1;
+		assertThat(newCallCount(busy)).isEqualTo(1);
+		assertThat(newCallCount(idle)).isEqualTo(3);
+	}
+
+	@Test
+	void stateIsMostAvailableOfChannels() {
+		var c1 = channel();
+		var c2 = channel();
+		when(c1.getState(false)).thenReturn(ConnectivityState.TRANSIENT_FAILURE);
+		when(c2.getState(false)).thenReturn(ConnectivityState.READY);
+		var striped = new StripedManagedChannel(List.of(c1, c2), Selection.ROUND_ROBIN);
+		assertThat(striped.getState(false)).isEqualTo(ConnectivityState.READY);
+	}
+
+	@Test
+	void shutdownAppliesToAllChannels() {
+		var c1 = channel();
+		var c2 = channel();
+		var striped = new StripedManagedChannel(List.of(c1, c2), Selection.ROUND_ROBIN);
+		striped.shutdown();
+		verify(c1).shutdown();
+		verify(c2).shutdown();
+	}
+
+	private void closeCall(ClientCall call) {
+		// the listener handed to the underlying call is the tracking listener
+		var delegate = (ClientCall) ReflectionTestUtils.getField(call, "delegate");
+		ArgumentCaptor<ClientCall.Listener> listener = ArgumentCaptor.forClass(ClientCall.Listener.class);
+		verify(delegate).start(listener.capture(), any());
+		listener.getValue().onClose(Status.OK, new Metadata());
+	}
+
+	private int newCallCount(ManagedChannel channel) {
+		return (int) mockingDetails(channel).getInvocations()
+			.stream()
+			.filter((invocation) -> invocation.getMethod().getName().equals("newCall"))
+			.count();
+	}
+
+	private ManagedChannel channel() {
+		ManagedChannel channel = mock();
+		when(channel.newCall(any(), any())).thenAnswer((invocation) -> mock(ClientCall.class));
+		return channel;
+	}
+
+}
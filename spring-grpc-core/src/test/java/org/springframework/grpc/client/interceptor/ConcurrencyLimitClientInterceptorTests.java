@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.grpc.limit.AdaptiveConcurrencyLimiter;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * Tests for {@link ConcurrencyLimitClientInterceptor}.
+ */
+class ConcurrencyLimitClientInterceptorTests {
+
+	private final MethodDescriptor<Void, Void> method = MethodDescriptor.<Void, Void>newBuilder()
+		.setType(MethodDescriptor.MethodType.UNARY)
+		.setFullMethodName("test/method")
+		.setRequestMarshaller(mock())
+		.setResponseMarshaller(mock())
+		.build();
+
+	private final Channel channel = mock();
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void callsOverLimitFailWithoutReachingChannel() {
+		ClientCall<Void, Void> call = mock();
+		given(this.channel.newCall(any(MethodDescriptor.class), any(CallOptions.class))).willReturn(call);
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1);
+		ConcurrencyLimitClientInterceptor interceptor = new ConcurrencyLimitClientInterceptor(limiter);
+		ClientCall<Void, Void> first = interceptor.interceptCall(this.method, CallOptions.DEFAULT, this.channel);
+		first.start(mock(), new Metadata());
+		ClientCall.Listener<Void> rejectedListener = mock();
+		interceptor.interceptCall(this.method, CallOptions.DEFAULT, this.channel)
+			.start(rejectedListener, new Metadata());
+		ArgumentCaptor<Status> status = ArgumentCaptor.captor();
+		then(rejectedListener).should().onClose(status.capture(), any());
+		assertThat(status.getValue().getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED);
+		then(this.channel).should().newCall(any(MethodDescriptor.class), any(CallOptions.class));
+		assertThat(limiter.getInFlight()).isEqualTo(1);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void permitReleasedWhenCallCloses() {
+		ClientCall<Void, Void> call = mock();
+		given(this.channel.newCall(any(MethodDescriptor.class), any(CallOptions.class))).willReturn(call);
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 10);
+		ConcurrencyLimitClientInterceptor interceptor = new ConcurrencyLimitClientInterceptor(limiter);
+		interceptor.interceptCall(this.method, CallOptions.DEFAULT, this.channel).start(mock(), new Metadata());
+		ArgumentCaptor<ClientCall.Listener<Void>> listener = ArgumentCaptor.captor();
+		then(call).should().start(listener.capture(), any());
+		assertThat(limiter.getInFlight()).isEqualTo(1);
+		listener.getValue().onClose(Status.UNAVAILABLE, new Metadata());
+		assertThat(limiter.getInFlight()).isZero();
+		assertThat(limiter.getLimit()).isEqualTo(9);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void callsThatAreNotStartedHoldNoPermit() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1);
+		ConcurrencyLimitClientInterceptor interceptor = new ConcurrencyLimitClientInterceptor(limiter);
+		ClientCall<Void, Void> call = interceptor.interceptCall(this.method, CallOptions.DEFAULT, this.channel);
+		assertThat(limiter.getInFlight()).isZero();
+		call.cancel("no longer needed", null);
+		assertThat(limiter.getInFlight()).isZero();
+		then(this.channel).should(never()).newCall(any(MethodDescriptor.class), any(CallOptions.class));
+	}
+
+	@Test
+	void streamingCallsAreNotLimited() {
+		MethodDescriptor<Void, Void> streaming = this.method.toBuilder()
+			.setType(MethodDescriptor.MethodType.BIDI_STREAMING)
+			.build();
+		ClientCall<Void, Void> call = mock();
+		given(this.channel.newCall(streaming, CallOptions.DEFAULT)).willReturn(call);
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1);
+		ConcurrencyLimitClientInterceptor interceptor = new ConcurrencyLimitClientInterceptor(limiter);
+		assertThat(interceptor.interceptCall(streaming, CallOptions.DEFAULT, this.channel)).isSameAs(call);
+		assertThat(limiter.getInFlight()).isZero();
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.grpc.limit.AdaptiveConcurrencyLimiter.Permit;
+
+/**
+ * Tests for {@link AdaptiveConcurrencyLimiter}.
+ */
+class AdaptiveConcurrencyLimiterTests {
+
+	@Test
+	void rejectsWhenLimitReached() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10);
+		Permit first = limiter.tryAcquire();
+		assertThat(first).isNotNull();
+		assertThat(limiter.tryAcquire()).isNotNull();
+		assertThat(limiter.tryAcquire()).isNull();
+		assertThat(limiter.getInFlight()).isEqualTo(2);
+		first.onIgnore();
+		assertThat(limiter.getInFlight()).isEqualTo(1);
+		assertThat(limiter.tryAcquire()).isNotNull();
+	}
+
+	@Test
+	void permitIsOnlyReleasedOnce() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10);
+		Permit permit = limiter.tryAcquire();
+		permit.onSuccess();
+		permit.onDropped();
+		permit.onIgnore();
+		assertThat(limiter.getInFlight()).isZero();
+		assertThat(limiter.getLimit()).isEqualTo(2);
+	}
+
+	@Test
+	void droppedCallsShrinkLimitDownToMinimum() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 5, 20);
+		limiter.tryAcquire().onDropped();
+		assertThat(limiter.getLimit()).isEqualTo(9);
+		for (int i = 0; i < 20; i++) {
+			limiter.tryAcquire().onDropped();
+		}
+		assertThat(limiter.getLimit()).isEqualTo(5);
+	}
+
+	@Test
+	void steadyResponseTimesUnderLoadGrowLimitUpToMaximum() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 8);
+		for (int round = 0; round < 50; round++) {
+			List<Permit> permits = new ArrayList<>();
+			Permit permit;
+			while ((permit = limiter.tryAcquire()) != null) {
+				permits.add(permit);
+			}
+			permits.forEach(Permit::onSuccess);
+		}
+		assertThat(limiter.getLimit()).isEqualTo(8);
+	}
+
+	@Test
+	void samplesWithoutLoadDoNotGrowLimit() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100);
+		for (int i = 0; i < 50; i++) {
+			limiter.tryAcquire().onSuccess();
+		}
+		assertThat(limiter.getLimit()).isEqualTo(10);
+	}
+
+	@Test
+	void latencyEstimateFollowsSuccessfulCalls() throws Exception {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100);
+		assertThat(limiter.getLatencyEstimate()).isEqualTo(Duration.ZERO);
+		limiter.tryAcquire().onDropped();
+		assertThat(limiter.getLatencyEstimate()).isEqualTo(Duration.ZERO);
+		Permit permit = limiter.tryAcquire();
+		Thread.sleep(20);
+		permit.onSuccess();
+		assertThat(limiter.getLatencyEstimate()).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+	}
+
+	@Test
+	void invalidLimitsAreRejected() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new AdaptiveConcurrencyLimiter(1, 0, 10));
+		assertThatIllegalArgumentException().isThrownBy(() -> new AdaptiveConcurrencyLimiter(5, 5, 4));
+		assertThatIllegalArgumentException().isThrownBy(() -> new AdaptiveConcurrencyLimiter(20, 1, 10));
+	}
+
+}
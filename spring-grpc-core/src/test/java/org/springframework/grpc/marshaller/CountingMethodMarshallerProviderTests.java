@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.marshaller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.InputStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+import com.google.protobuf.StringValue;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.protobuf.ProtoUtils;
+
+/**
+ * Tests for {@link CountingMethodMarshallerProvider}.
+ */
+class CountingMethodMarshallerProviderTests {
+
+	private final MethodDescriptor<StringValue, BytesValue> method = MethodDescriptor
+		.newBuilder(ProtoUtils.marshaller(StringValue.getDefaultInstance()),
+				ProtoUtils.marshaller(BytesValue.getDefaultInstance()))
+		.setType(MethodType.UNARY)
+		.setFullMethodName("test.Service/Method")
+		.build();
+
+	@Test
+	void countsMessagesAndBytesPerMethod() throws Exception {
+		var provider = new CountingMethodMarshallerProvider();
+		var boundMethod = MethodMarshallers.bind(this.method, provider);
+		StringValue request = StringValue.of("hello");
+		try (InputStream stream = ProtoUtils.marshaller(StringValue.getDefaultInstance()).stream(request)) {
+			assertThat(boundMethod.parseRequest(stream)).isEqualTo(request);
+		}
+		boundMethod.streamResponse(BytesValue.of(ByteString.copyFromUtf8("world"))).close();
+		assertThat(provider.getCounters("test.Service/Method")).satisfies((counters) -> {
+			assertThat(counters.getParsedMessages()).isEqualTo(1);
+			assertThat(counters.getParsedBytes()).isEqualTo(request.getSerializedSize());
+			assertThat(counters.getStreamedMessages()).isEqualTo(1);
+		});
+		assertThat(provider.getCounters()).containsOnlyKeys("test.Service/Method");
+		assertThat(provider.getCounters("test.Service/Other")).isNull();
+	}
+
+	@Test
+	void wrapsMarshallersChosenByDelegate() {
+		var provider = new CountingMethodMarshallerProvider(ZeroCopyMarshalling.PROVIDER);
+		ServerCallHandler<StringValue, BytesValue> handler = mock();
+		var service = ServerServiceDefinition
+			.builder(ServiceDescriptor.newBuilder("test.Service").addMethod(this.method).build())
+			.addMethod(this.method, handler)
+			.build();
+		var boundService = MethodMarshallers.bind(service, provider);
+		var boundMethod = boundService.getMethod("test.Service/Method");
+		assertThat(boundMethod.getServerCallHandler()).isSameAs(handler);
+		assertThat(boundMethod.getMethodDescriptor().getRequestMarshaller())
+			.isNotSameAs(this.method.getRequestMarshaller())
+			.extracting("delegate")
+			.isInstanceOf(ZeroCopyProtoMarshaller.class);
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.marshaller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.BytesValue;
+import com.google.protobuf.StringValue;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.protobuf.ProtoUtils;
+
+/**
+ * Tests for {@link ZeroCopyMarshalling} and {@link ZeroCopyClientInterceptor}.
+ */
+class ZeroCopyMarshallingTests {
+
+	private final MethodDescriptor<StringValue, BytesValue> method = MethodDescriptor
+		.newBuilder(ProtoUtils.marshaller(StringValue.getDefaultInstance()),
+				ProtoUtils.marshaller(BytesValue.getDefaultInstance()))
+		.setType(MethodType.UNARY)
+		.setFullMethodName("test.Service/Method")
+		.setSchemaDescriptor("method-schema")
+		.build();
+
+	@Test
+	void protobufMethodIsReboundToZeroCopyMarshallers() {
+		var zeroCopyMethod = ZeroCopyMarshalling.apply(this.method);
+		assertThat(zeroCopyMethod.getRequestMarshaller()).isInstanceOf(ZeroCopyProtoMarshaller.class);
+		assertThat(zeroCopyMethod.getResponseMarshaller()).isInstanceOf(ZeroCopyProtoMarshaller.class);
+		assertThat(zeroCopyMethod.getFullMethodName()).isEqualTo(this.method.getFullMethodName());
+		assertThat(zeroCopyMethod.getSchemaDescriptor()).isEqualTo("method-schema");
+		assertThat(ZeroCopyMarshalling.apply(zeroCopyMethod)).isSameAs(zeroCopyMethod);
+	}
+
+	@Test
+	void nonProtobufMethodIsUnchanged() {
+		MethodDescriptor.Marshaller<String> marshaller = mock();
+		var other = this.method.toBuilder(marshaller, marshaller).build();
+		assertThat(ZeroCopyMarshalling.apply(other)).isSameAs(other);
+	}
+
+	@Test
+	void serviceIsReboundWithSameHandlersAndSchema() {
+		ServerCallHandler<StringValue, BytesValue> handler = mock();
+		var service = ServerServiceDefinition
+			.builder(ServiceDescriptor.newBuilder("test.Service")
+				.setSchemaDescriptor("service-schema")
+				.addMethod(this.method)
+				.build())
+			.addMethod(this.method, handler)
+			.build();
+		var zeroCopyService = ZeroCopyMarshalling.apply(service);
+		assertThat(zeroCopyService.getServiceDescriptor().getSchemaDescriptor()).isEqualTo("service-schema");
+		assertThat(zeroCopyService.getMethod("test.Service/Method")).satisfies((definition) -> {
+			assertThat(definition.getServerCallHandler()).isSameAs(handler);
+			assertThat(definition.getMethodDescriptor().getRequestMarshaller())
+				.isInstanceOf(ZeroCopyProtoMarshaller.class);
+		});
+	}
+
+	@Test
+	void clientInterceptorReusesReboundMethod() {
+		var interceptor = new ZeroCopyClientInterceptor();
+		Channel channel = mock();
+		interceptor.interceptCall(this.method, CallOptions.DEFAULT, channel);
+		interceptor.interceptCall(this.method, CallOptions.DEFAULT, channel);
+		assertThat(interceptor).extracting("methods")
+			.asInstanceOf(InstanceOfAssertFactories.MAP)
+			.hasSize(1)
+			.hasEntrySatisfying(this.method,
+					(rebound) -> assertThat(((MethodDescriptor<?, ?>) rebound).getRequestMarshaller())
+						.isInstanceOf(ZeroCopyProtoMarshaller.class));
+	}
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.marshaller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+import io.grpc.HasByteBuffer;
+import io.grpc.KnownLength;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+
+/**
+ * Tests for {@link ZeroCopyProtoMarshaller}.
+ */
+class ZeroCopyProtoMarshallerTests {
+
+	private final ZeroCopyProtoMarshaller<BytesValue> marshaller = ZeroCopyProtoMarshaller
+		.of(BytesValue.getDefaultInstance());
+
+	private final BytesValue message = BytesValue.of(ByteString.copyFromUtf8("hello zero-copy world"));
+
+	@Test
+	void parsesMessageSpreadAcrossTransportBuffers() {
+		byte[] bytes = this.message.toByteArray();
+		var stream = new BufferBackedInputStream(ByteBuffer.wrap(bytes, 0, 5),
+				ByteBuffer.wrap(Arrays.copyOfRange(bytes, 5, bytes.length)).asReadOnlyBuffer());
+		assertThat(this.marshaller.parse(stream)).isEqualTo(this.message);
+		assertThat(stream.marked).isTrue();
+	}
+
+	@Test
+	void parsesEmptyTransportBuffersAsDefaultInstance() {
+		assertThat(this.marshaller.parse(new BufferBackedInputStream())).isSameAs(BytesValue.getDefaultInstance());
+	}
+
+	@Test
+	void parsesOtherStreamsWithProtobufMarshaller() {
+		assertThat(this.marshaller.parse(new ByteArrayInputStream(this.message.toByteArray()))).isEqualTo(this.message);
+	}
+
+	@Test
+	void invalidMessageIsRejected() {
+		var stream = new BufferBackedInputStream(ByteBuffer.wrap(new byte[] { 10, 20, 1 }));
+		assertThatExceptionOfType(StatusRuntimeException.class).isThrownBy(() -> this.marshaller.parse(stream))
+			.extracting(StatusRuntimeException::getStatus)
+			.extracting(Status::getCode)
+			.isEqualTo(Status.Code.INTERNAL);
+	}
+
+	@Test
+	void streamsWithProtobufMarshaller() throws Exception {
+		try (InputStream stream = this.marshaller.stream(this.message)) {
+			assertThat(stream.readAllBytes()).isEqualTo(this.message.toByteArray());
+		}
+		assertThat(this.marshaller.getMessagePrototype()).isSameAs(BytesValue.getDefaultInstance());
+		assertThat(this.marshaller.getMessageClass()).isEqualTo(BytesValue.class);
+	}
+
+	/**
+	 * Stream that exposes its content as byte buffers like the gRPC transports do.
+	 */
+	static class BufferBackedInputStream extends InputStream implements KnownLength, HasByteBuffer {
+
+		private final Deque<ByteBuffer> buffers = new ArrayDeque<>();
+
+		boolean marked;
+
+		BufferBackedInputStream(ByteBuffer... buffers) {
+			this.buffers.addAll(Arrays.asList(buffers));
+		}
+
+		@Override
+		public int read() {
+			ByteBuffer buffer = this.buffers.peek();
+			if (buffer == null) {
+				return -1;
+			}
+			int value = buffer.get() & 0xFF;
+			removeIfConsumed(buffer);
+			return value;
+		}
+
+		@Override
+		public long skip(long n) {
+			ByteBuffer buffer = this.buffers.peek();
+			if (buffer == null) {
+				return 0;
+			}
+			int skipped = (int) Math.min(n, buffer.remaining());
+			buffer.position(buffer.position() + skipped);
+			removeIfConsumed(buffer);
+			return skipped;
+		}
+
+		private void removeIfConsumed(ByteBuffer buffer) {
+			if (!buffer.hasRemaining()) {
+				this.buffers.poll();
+			}
+		}
+
+		@Override
+		public int available() {
+			return this.buffers.stream().mapToInt(ByteBuffer::remaining).sum();
+		}
+
+		@Override
+		public boolean markSupported() {
+			return true;
+		}
+
+		@Override
+		public synchronized void mark(int readLimit) {
+			this.marked = true;
+		}
+
+		@Override
+		public boolean byteBufferSupported() {
+			return true;
+		}
+
+		@Override
+		public @Nullable ByteBuffer getByteBuffer() {
+			ByteBuffer buffer = this.buffers.peek();
+			return (buffer != null) ? buffer.slice() : null;
+		}
+
+	}
+
+}
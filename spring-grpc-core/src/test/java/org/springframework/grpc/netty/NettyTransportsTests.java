@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+
+/**
+ * Tests for {@link NettyTransports}.
+ */
+class NettyTransportsTests {
+
+	@Test
+	@EnabledOnOs(OS.LINUX)
+	void autoResolvesToEpollWhenAvailable() {
+		assertThat(NettyTransports.resolve(NettyTransport.AUTO)).isEqualTo(NettyTransport.EPOLL);
+		assertThat(NettyTransports.socketChannelType(NettyTransport.AUTO)).isEqualTo(EpollSocketChannel.class);
+		assertThat(NettyTransports.serverSocketChannelType(NettyTransport.AUTO))
+			.isEqualTo(EpollServerSocketChannel.class);
+	}
+
+	@Test
+	void nioUsesNioChannelTypes() {
+		assertThat(NettyTransports.resolve(NettyTransport.NIO)).isEqualTo(NettyTransport.NIO);
+		assertThat(NettyTransports.socketChannelType(NettyTransport.NIO)).isEqualTo(NioSocketChannel.class);
+		assertThat(NettyTransports.serverSocketChannelType(NettyTransport.NIO)).isEqualTo(NioServerSocketChannel.class);
+	}
+
+	@Test
+	void eventLoopGroupUsesRequestedThreads() {
+		EventLoopGroup group = NettyTransports.eventLoopGroup(NettyTransport.NIO, 2);
+		try {
+			assertThat(group).isInstanceOf(MultiThreadIoEventLoopGroup.class);
+			assertThat(((MultiThreadIoEventLoopGroup) group).executorCount()).isEqualTo(2);
+		}
+		finally {
+			group.shutdownGracefully().syncUninterruptibly();
+		}
+	}
+
+	@Test
+	void ioUringRequiresNativeTransportOnClasspath() {
+		assertThatIllegalStateException().isThrownBy(() -> NettyTransports.resolve(NettyTransport.IO_URING))
+			.withMessageContaining("netty-transport-native-io_uring");
+	}
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import org.junit.jupiter.api.Test;
+
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioSocketChannel;
+
+/**
+ * Tests for {@link ShadedNettyTransports}.
+ */
+class ShadedNettyTransportsTests {
+
+	@Test
+	void nioUsesNioChannelTypes() {
+		assertThat(ShadedNettyTransports.socketChannelType(NettyTransport.NIO)).isEqualTo(NioSocketChannel.class);
+		assertThat(ShadedNettyTransports.serverSocketChannelType(NettyTransport.NIO))
+			.isEqualTo(NioServerSocketChannel.class);
+	}
+
+	@Test
+	void eventLoopGroupUsesRequestedThreads() {
+		EventLoopGroup group = ShadedNettyTransports.eventLoopGroup(NettyTransport.NIO, 2);
+		try {
+			assertThat(group).isInstanceOf(NioEventLoopGroup.class);
+			assertThat(((NioEventLoopGroup) group).executorCount()).isEqualTo(2);
+		}
+		finally {
+			group.shutdownGracefully().syncUninterruptibly();
+		}
+	}
+
+	@Test
+	void ioUringIsNotSupported() {
+		assertThatIllegalStateException().isThrownBy(() -> ShadedNettyTransports.resolve(NettyTransport.IO_URING))
+			.withMessageContaining("not supported");
+	}
+
+}
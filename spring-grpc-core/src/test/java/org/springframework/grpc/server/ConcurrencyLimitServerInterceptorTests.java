@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.grpc.limit.AdaptiveConcurrencyLimiter;
+
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+
+/**
+ * Tests for {@link ConcurrencyLimitServerInterceptor}.
+ */
+class ConcurrencyLimitServerInterceptorTests {
+
+	private final ServerCallHandler<Void, Void> next = mock();
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void callsOverLimitAreRejectedWithRetryPushback() {
+		ConcurrencyLimitServerInterceptor interceptor = new ConcurrencyLimitServerInterceptor(
+				() -> new AdaptiveConcurrencyLimiter(1, 1, 1));
+		interceptor.setRetryPushback(Duration.ofMillis(250));
+		interceptor.interceptCall(call("test/first"), new Metadata(), this.next);
+		ServerCall<Void, Void> rejected = call("test/second");
+		interceptor.interceptCall(rejected, new Metadata(), this.next);
+		ArgumentCaptor<Status> status = ArgumentCaptor.captor();
+		ArgumentCaptor<Metadata> trailers = ArgumentCaptor.captor();
+		then(rejected).should().close(status.capture(), trailers.capture());
+		assertThat(status.getValue().getCode()).isEqualTo(Status.Code.UNAVAILABLE);
+		assertThat(trailers.getValue().get(ConcurrencyLimitServerInterceptor.RETRY_PUSHBACK_KEY)).isEqualTo("250");
+		then(this.next).should().startCall(any(ServerCall.class), any(Metadata.class));
+		assertThat(interceptor.getAcceptedCalls()).isEqualTo(1);
+		assertThat(interceptor.getRejectedCalls()).isEqualTo(1);
+		assertThat(interceptor.getLimiters()).containsOnlyKeys("test");
+	}
+
+	@Test
+	void methodsHaveSeparateLimitsWhenPerMethod() {
+		ConcurrencyLimitServerInterceptor interceptor = new ConcurrencyLimitServerInterceptor(
+				() -> new AdaptiveConcurrencyLimiter(1, 1, 1));
+		interceptor.setPerMethod(true);
+		ServerCall<Void, Void> first = call("test/first");
+		ServerCall<Void, Void> second = call("test/second");
+		interceptor.interceptCall(first, new Metadata(), this.next);
+		interceptor.interceptCall(second, new Metadata(), this.next);
+		then(second).should(never()).close(any(), any());
+		assertThat(interceptor.getLimiters()).containsOnlyKeys("test/first", "test/second");
+		assertThat(interceptor.getInFlightCalls()).isEqualTo(2);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void permitReleasedWhenCallCloses() {
+		ConcurrencyLimitServerInterceptor interceptor = new ConcurrencyLimitServerInterceptor(
+				() -> new AdaptiveConcurrencyLimiter(10, 1, 10));
+		interceptor.interceptCall(call("test/method"), new Metadata(), this.next);
+		ArgumentCaptor<ServerCall<Void, Void>> limited = ArgumentCaptor.captor();
+		then(this.next).should().startCall(limited.capture(), any(Metadata.class));
+		assertThat(interceptor.getInFlightCalls()).isEqualTo(1);
+		limited.getValue().close(Status.OK, new Metadata());
+		assertThat(interceptor.getInFlightCalls()).isZero();
+	}
+
+	@Test
+	void callsWithDeadlineShorterThanLatencyEstimateAreRejected() throws Exception {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 10);
+		AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+		Thread.sleep(50);
+		permit.onSuccess();
+		ConcurrencyLimitServerInterceptor interceptor = new ConcurrencyLimitServerInterceptor(() -> limiter);
+		ServerCall<Void, Void> call = call("test/method");
+		callWithDeadline(interceptor, call, Deadline.after(1, TimeUnit.MILLISECONDS));
+		ArgumentCaptor<Status> status = ArgumentCaptor.captor();
+		then(call).should().close(status.capture(), any(Metadata.class));
+		assertThat(status.getValue().getCode()).isEqualTo(Status.Code.DEADLINE_EXCEEDED);
+		then(this.next).shouldHaveNoInteractions();
+		assertThat(interceptor.getRejectedCalls()).isEqualTo(1);
+		assertThat(interceptor.getInFlightCalls()).isZero();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void callsWithDeadlineLongerThanLatencyEstimateAreStarted() throws Exception {
+		ConcurrencyLimitServerInterceptor interceptor = new ConcurrencyLimitServerInterceptor(
+				() -> new AdaptiveConcurrencyLimiter(10, 1, 10));
+		ServerCall<Void, Void> call = call("test/method");
+		callWithDeadline(interceptor, call, Deadline.after(10, TimeUnit.SECONDS));
+		then(call).should(never()).close(any(), any());
+		then(this.next).should().startCall(any(ServerCall.class), any(Metadata.class));
+		assertThat(interceptor.getAcceptedCalls()).isEqualTo(1);
+	}
+
+	@Test
+	void healthAndReflectionCallsAreNotLimited() {
+		ConcurrencyLimitServerInterceptor interceptor = new ConcurrencyLimitServerInterceptor(
+				() -> new AdaptiveConcurrencyLimiter(1, 1, 1));
+		interceptor.interceptCall(call("test/method"), new Metadata(), this.next);
+		ServerCall<Void, Void> health = call("grpc.health.v1.Health/Check");
+		Metadata headers = new Metadata();
+		interceptor.interceptCall(health, headers, this.next);
+		then(health).should(never()).close(any(), any());
+		then(this.next).should().startCall(health, headers);
+		assertThat(interceptor.getLimiters()).containsOnlyKeys("test");
+	}
+
+	@Test
+	void streamingCallsAreNotLimited() {
+		ConcurrencyLimitServerInterceptor interceptor = new ConcurrencyLimitServerInterceptor(
+				() -> new AdaptiveConcurrencyLimiter(1, 1, 1));
+		interceptor.interceptCall(call("test/method"), new Metadata(), this.next);
+		ServerCall<Void, Void> stream = call("test/watch", MethodDescriptor.MethodType.SERVER_STREAMING);
+		Metadata headers = new Metadata();
+		interceptor.interceptCall(stream, headers, this.next);
+		then(stream).should(never()).close(any(), any());
+		then(this.next).should().startCall(stream, headers);
+		assertThat(interceptor.getInFlightCalls()).isEqualTo(1);
+	}
+
+	private void callWithDeadline(ConcurrencyLimitServerInterceptor interceptor, ServerCall<Void, Void> call,
+			Deadline deadline) throws Exception {
+		ScheduledExecutorService scheduler = mock();
+		Context.CancellableContext context = Context.current().withDeadline(deadline, scheduler);
+		try {
+			context.call(() -> interceptor.interceptCall(call, new Metadata(), this.next));
+		}
+		finally {
+			context.cancel(null);
+		}
+	}
+
+	private ServerCall<Void, Void> call(String fullMethodName) {
+		return call(fullMethodName, MethodDescriptor.MethodType.UNARY);
+	}
+
+	private ServerCall<Void, Void> call(String fullMethodName, MethodDescriptor.MethodType type) {
+		MethodDescriptor<Void, Void> method = MethodDescriptor.<Void, Void>newBuilder()
+			.setType(type)
+			.setFullMethodName(fullMethodName)
+			.setRequestMarshaller(mock())
+			.setResponseMarshaller(mock())
+			.build();
+		ServerCall<Void, Void> call = mock();
+		given(call.getMethodDescriptor()).willReturn(method);
+		return call;
+	}
+
+}
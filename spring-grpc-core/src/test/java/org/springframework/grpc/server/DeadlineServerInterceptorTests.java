@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+
+/**
+ * Tests for {@link DeadlineServerInterceptor}.
+ */
+class DeadlineServerInterceptorTests {
+
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+	private final ServerCallHandler<Void, Void> next = mock();
+
+	private final DeadlineServerInterceptor interceptor = new DeadlineServerInterceptor();
+
+	@AfterEach
+	void shutdownScheduler() {
+		this.scheduler.shutdownNow();
+	}
+
+	@Test
+	void callsWithoutDeadlineAreStarted() {
+		ServerCall<Void, Void> call = call("test/method");
+		Metadata headers = new Metadata();
+		this.interceptor.setMinimumBudget(Duration.ofSeconds(10));
+		this.interceptor.interceptCall(call, headers, this.next);
+		then(this.next).should().startCall(call, headers);
+	}
+
+	@Test
+	void callsWithExpiredDeadlineAreRejected() throws Exception {
+		ServerCall<Void, Void> call = call("test/method");
+		withDeadline(Deadline.after(-1, TimeUnit.SECONDS),
+				() -> this.interceptor.interceptCall(call, new Metadata(), this.next));
+		assertClosedWithDeadlineExceeded(call);
+	}
+
+	@Test
+	void callsBelowMethodMinimumBudgetAreRejected() throws Exception {
+		this.interceptor.setMethodMinimumBudgets(Map.of("test/slow", Duration.ofSeconds(5)));
+		ServerCall<Void, Void> slow = call("test/slow");
+		ServerCall<Void, Void> fast = call("test/fast");
+		withDeadline(Deadline.after(1, TimeUnit.SECONDS), () -> {
+			this.interceptor.interceptCall(slow, new Metadata(), this.next);
+			return this.interceptor.interceptCall(fast, new Metadata(), this.next);
+		});
+		assertClosedWithDeadlineExceeded(slow);
+		then(fast).should(never()).close(any(), any());
+		then(this.next).should().startCall(any(), any());
+	}
+
+	@Test
+	void methodMinimumBudgetTakesPrecedenceOverServiceBudget() throws Exception {
+		this.interceptor.setMinimumBudget(Duration.ofSeconds(5));
+		this.interceptor.setMethodMinimumBudgets(Map.of("test", Duration.ofSeconds(5), "test/fast", Duration.ZERO));
+		ServerCall<Void, Void> other = call("test/other");
+		ServerCall<Void, Void> fast = call("test/fast");
+		withDeadline(Deadline.after(1, TimeUnit.SECONDS), () -> {
+			this.interceptor.interceptCall(other, new Metadata(), this.next);
+			return this.interceptor.interceptCall(fast, new Metadata(), this.next);
+		});
+		assertClosedWithDeadlineExceeded(other);
+		then(fast).should(never()).close(any(), any());
+	}
+
+	@Test
+	void cancelledCallsDropQueuedEvents() throws Exception {
+		ServerCall.Listener<Void> delegate = mock();
+		given(this.next.startCall(any(), any())).willReturn(delegate);
+		ServerCall.Listener<Void> listener = withDeadline(Deadline.after(1, TimeUnit.MINUTES),
+				() -> this.interceptor.interceptCall(call("test/method"), new Metadata(), this.next));
+		listener.onMessage(null);
+		listener.onCancel();
+		listener.onMessage(null);
+		listener.onHalfClose();
+		then(delegate).should().onMessage(null);
+		then(delegate).should().onCancel();
+		then(delegate).should(never()).onHalfClose();
+	}
+
+	private <T> T withDeadline(Deadline deadline, Callable<T> callable) throws Exception {
+		Context.CancellableContext context = Context.current().withDeadline(deadline, this.scheduler);
+		try {
+			return context.call(callable);
+		}
+		finally {
+			context.cancel(null);
+		}
+	}
+
+	private void assertClosedWithDeadlineExceeded(ServerCall<Void, Void> call) {
+		ArgumentCaptor<Status> status = ArgumentCaptor.captor();
+		then(call).should().close(status.capture(), any());
+		assertThat(status.getValue().getCode()).isEqualTo(Status.Code.DEADLINE_EXCEEDED);
+	}
+
+	private ServerCall<Void, Void> call(String fullMethodName) {
+		MethodDescriptor<Void, Void> method = MethodDescriptor.<Void, Void>newBuilder()
+			.setType(MethodDescriptor.MethodType.UNARY)
+			.setFullMethodName(fullMethodName)
+			.setRequestMarshaller(mock())
+			.setResponseMarshaller(mock())
+			.build();
+		ServerCall<Void, Void> call = mock();
+		given(call.getMethodDescriptor()).willReturn(method);
+		return call;
+	}
+
+}
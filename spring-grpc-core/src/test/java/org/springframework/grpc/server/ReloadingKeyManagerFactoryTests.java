@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import java.security.PrivateKey;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.X509ExtendedKeyManager;
+import javax.net.ssl.X509KeyManager;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ReloadingKeyManagerFactory}.
+ */
+class ReloadingKeyManagerFactoryTests {
+
+	@Test
+	void keyManagerDelegatesToInitialKeyManager() {
+		X509ExtendedKeyManager initial = mock();
+		PrivateKey privateKey = mock();
+		given(initial.getPrivateKey("server")).willReturn(privateKey);
+		KeyManagerFactory factory = ReloadingKeyManagerFactory.of(factoryFor(initial));
+		assertThat(factory.getKeyManagers()).singleElement()
+			.isInstanceOf(X509ExtendedKeyManager.class)
+			.satisfies((keyManager) -> assertThat(((X509KeyManager) keyManager).getPrivateKey("server"))
+				.isSameAs(privateKey));
+	}
+
+	@Test
+	void keyManagerDelegatesToReloadedKeyManager() {
+		X509ExtendedKeyManager initial = mock();
+		X509ExtendedKeyManager reloaded = mock();
+		SSLEngine engine = mock();
+		given(reloaded.chooseEngineServerAlias("RSA", null, engine)).willReturn("rotated");
+		ReloadingKeyManagerFactory factory = ReloadingKeyManagerFactory.of(factoryFor(initial));
+		X509ExtendedKeyManager keyManager = (X509ExtendedKeyManager) factory.getKeyManagers()[0];
+		factory.reload(factoryFor(reloaded));
+		assertThat(keyManager.chooseEngineServerAlias("RSA", null, engine)).isEqualTo("rotated");
+		then(initial).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void factoryWithoutX509KeyManagerIsRejected() {
+		KeyManagerFactory factory = factoryFor(mock(KeyManager.class));
+		assertThatIllegalStateException().isThrownBy(() -> ReloadingKeyManagerFactory.of(factory))
+			.withMessageStartingWith("No X509KeyManager available");
+	}
+
+	private static KeyManagerFactory factoryFor(KeyManager keyManager) {
+		KeyManagerFactory factory = mock();
+		given(factory.getKeyManagers()).willReturn(new KeyManager[] { keyManager });
+		return factory;
+	}
+
+}
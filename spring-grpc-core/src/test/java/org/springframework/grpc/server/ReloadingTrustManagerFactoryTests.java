@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509ExtendedTrustManager;
+import javax.net.ssl.X509TrustManager;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ReloadingTrustManagerFactory}.
+ */
+class ReloadingTrustManagerFactoryTests {
+
+	@Test
+	void trustManagerDelegatesToReloadedTrustManager() throws Exception {
+		X509ExtendedTrustManager initial = mock();
+		X509ExtendedTrustManager reloaded = mock();
+		X509Certificate[] chain = new X509Certificate[0];
+		SSLEngine engine = mock();
+		willThrow(new CertificateException("untrusted")).given(reloaded).checkClientTrusted(chain, "RSA", engine);
+		ReloadingTrustManagerFactory factory = ReloadingTrustManagerFactory.of(factoryFor(initial));
+		X509ExtendedTrustManager trustManager = (X509ExtendedTrustManager) factory.getTrustManagers()[0];
+		trustManager.checkClientTrusted(chain, "RSA", engine);
+		then(initial).should().checkClientTrusted(chain, "RSA", engine);
+		factory.reload(factoryFor(reloaded));
+		assertThatExceptionOfType(CertificateException.class)
+			.isThrownBy(() -> trustManager.checkClientTrusted(chain, "RSA", engine));
+	}
+
+	@Test
+	void trustManagerFallsBackToBasicChecksForNonExtendedTrustManager() throws Exception {
+		X509TrustManager initial = mock();
+		X509Certificate[] chain = new X509Certificate[0];
+		ReloadingTrustManagerFactory factory = ReloadingTrustManagerFactory.of(factoryFor(initial));
+		X509ExtendedTrustManager trustManager = (X509ExtendedTrustManager) factory.getTrustManagers()[0];
+		trustManager.checkClientTrusted(chain, "RSA", mock(SSLEngine.class));
+		then(initial).should().checkClientTrusted(chain, "RSA");
+		assertThat(factory.getTrustManagers()).singleElement().isSameAs(trustManager);
+	}
+
+	private static TrustManagerFactory factoryFor(TrustManager trustManager) {
+		TrustManagerFactory factory = mock();
+		given(factory.getTrustManagers()).willReturn(new TrustManager[] { trustManager });
+		return factory;
+	}
+
+}
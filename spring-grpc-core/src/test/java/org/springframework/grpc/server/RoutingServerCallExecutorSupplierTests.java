@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+
+/**
+ * Tests for {@link RoutingServerCallExecutorSupplier}.
+ */
+class RoutingServerCallExecutorSupplierTests {
+
+	private final RoutingServerCallExecutorSupplier supplier = new RoutingServerCallExecutorSupplier();
+
+	@AfterEach
+	void shutdownLanes() {
+		this.supplier.destroy();
+	}
+
+	@Test
+	void unroutedCallsUseDefaultExecutor() {
+		this.supplier.addLane(new ExecutorLane("batch", 1, 10));
+		this.supplier.route("test.Batch", "batch");
+		assertThat(this.supplier.getExecutor(call("test.Other/method"), new Metadata())).isNull();
+	}
+
+	@Test
+	void callsRoutedByServiceAndMethod() {
+		ExecutorLane batch = new ExecutorLane("batch", 1, 10);
+		ExecutorLane fast = new ExecutorLane("fast", 1, 10);
+		this.supplier.addLane(batch);
+		this.supplier.addLane(fast);
+		this.supplier.route("test.Batch", "batch");
+		this.supplier.route("test.Batch/Ping", "fast");
+		assertThat(this.supplier.hasRoutes()).isTrue();
+		assertThat(this.supplier.getExecutor(call("test.Batch/Export"), new Metadata())).isSameAs(batch.getExecutor());
+		assertThat(this.supplier.getExecutor(call("test.Batch/Ping"), new Metadata())).isSameAs(fast.getExecutor());
+	}
+
+	@Test
+	void callsUseDefaultExecutorWhenLaneIsFull() throws Exception {
+		ExecutorLane lane = new ExecutorLane("batch", 1, 1);
+		this.supplier.addLane(lane);
+		this.supplier.route("test.Batch", "batch");
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		lane.getExecutor().execute(() -> {
+			running.countDown();
+			awaitQuietly(release);
+		});
+		assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(this.supplier.getExecutor(call("test.Batch/Export"), new Metadata())).isNotNull();
+		lane.getExecutor().execute(() -> {
+		});
+		assertThat(lane.getQueuedTasks()).isEqualTo(1);
+		assertThat(this.supplier.getExecutor(call("test.Batch/Export"), new Metadata())).isNull();
+		release.countDown();
+	}
+
+	@Test
+	void laneOnGivenExecutorBoundsConcurrentTasks() {
+		List<Runnable> workers = new ArrayList<>();
+		ExecutorLane lane = new ExecutorLane("batch", 2, 10, workers::add);
+		AtomicInteger ran = new AtomicInteger();
+		for (int i = 0; i < 3; i++) {
+			lane.getExecutor().execute(ran::incrementAndGet);
+		}
+		assertThat(workers).hasSize(2);
+		assertThat(lane.getQueuedTasks()).isEqualTo(3);
+		workers.remove(0).run();
+		assertThat(ran).hasValue(3);
+		assertThat(lane.getQueuedTasks()).isZero();
+		workers.remove(0).run();
+		assertThat(ran).hasValue(3);
+		lane.shutdown();
+		assertThat(lane.hasCapacity()).isFalse();
+	}
+
+	@Test
+	void routeToUnknownLaneFails() {
+		assertThatIllegalStateException().isThrownBy(() -> this.supplier.route("test.Batch", "missing"))
+			.withMessage("'test.Batch' is routed to unknown executor lane 'missing'");
+	}
+
+	@Test
+	void destroyShutsDownLanes() {
+		ExecutorLane lane = new ExecutorLane("batch", 1, 10);
+		this.supplier.addLane(lane);
+		this.supplier.destroy();
+		assertThat(lane.isShutdown()).isTrue();
+		assertThat(lane.hasCapacity()).isFalse();
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private ServerCall<Void, Void> call(String fullMethodName) {
+		MethodDescriptor<Void, Void> method = MethodDescriptor.<Void, Void>newBuilder()
+			.setType(MethodDescriptor.MethodType.UNARY)
+			.setFullMethodName(fullMethodName)
+			.setRequestMarshaller(mock())
+			.setResponseMarshaller(mock())
+			.build();
+		ServerCall<Void, Void> call = mock();
+		given(call.getMethodDescriptor()).willReturn(method);
+		return call;
+	}
+
+}
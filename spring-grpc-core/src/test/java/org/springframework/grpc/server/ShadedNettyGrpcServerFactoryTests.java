@@ -16,6 +16,7 @@
 
 package org.springframework.grpc.server;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 
@@ -29,8 +30,13 @@ import org.junit.jupiter.api.condition.OS;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
+import org.springframework.grpc.netty.NettyTransport;
+import org.springframework.test.util.ReflectionTestUtils;
+
 import io.grpc.ServerCredentials;
 import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.grpc.netty.shaded.io.netty.channel.unix.DomainSocketAddress;
 
 /**
@@ -54,6 +60,62 @@ class ShadedNettyGrpcServerFactoryTests {
 		}
 	}
 
+	@Test
+	@EnabledOnOs(OS.LINUX)
+	void domainSocketEventLoopGroupsAreReusedAndShutDownOnDestroy() {
+		var serverFactory = new ShadedNettyGrpcServerFactory("unix:/some/file/somewhere", Collections.emptyList(), null,
+				null, null);
+		serverFactory.setWorkerThreads(1);
+		serverFactory.newServerBuilder();
+		var boss = (EventLoopGroup) ReflectionTestUtils.getField(serverFactory, "bossEventLoopGroup");
+		var worker = (EventLoopGroup) ReflectionTestUtils.getField(serverFactory, "workerEventLoopGroup");
+		assertThat(boss).isNotNull();
+		assertThat(worker).isNotNull();
+		serverFactory.newServerBuilder();
+		assertThat(serverFactory).extracting("bossEventLoopGroup").isSameAs(boss);
+		assertThat(serverFactory).extracting("workerEventLoopGroup").isSameAs(worker);
+		serverFactory.destroy();
+		assertThat(boss.isTerminated()).isTrue();
+		assertThat(worker.isTerminated()).isTrue();
+	}
+
+	@Test
+	void configureUsesEventLoopGroupsOfTransport() {
+		var serverFactory = new ShadedNettyGrpcServerFactory("foo:9191", Collections.emptyList(), null, null, null);
+		serverFactory.setTransport(NettyTransport.NIO);
+		NettyServerBuilder builder = Mockito.mock();
+		serverFactory.configure(builder, Collections.emptyList());
+		serverFactory.configure(builder, Collections.emptyList());
+		var worker = (EventLoopGroup) ReflectionTestUtils.getField(serverFactory, "workerEventLoopGroup");
+		Mockito.verify(builder, Mockito.times(2)).channelType(NioServerSocketChannel.class);
+		Mockito.verify(builder, Mockito.times(2)).workerEventLoopGroup(worker);
+		serverFactory.destroy();
+		assertThat(worker.isTerminated()).isTrue();
+	}
+
+	@Test
+	void configureKeepsSharedEventLoopGroupsByDefault() {
+		var serverFactory = new ShadedNettyGrpcServerFactory("foo:9191", Collections.emptyList(), null, null, null);
+		NettyServerBuilder builder = Mockito.mock();
+		serverFactory.configure(builder, Collections.emptyList());
+		Mockito.verify(builder, Mockito.never()).channelType(any());
+		Mockito.verify(builder, Mockito.never()).bossEventLoopGroup(any());
+		Mockito.verify(builder, Mockito.never()).workerEventLoopGroup(any());
+		assertThat(serverFactory).extracting("workerEventLoopGroup").isNull();
+	}
+
+	@Test
+	void configureUsesEventLoopGroupsWhenThreadsAreSet() {
+		var serverFactory = new ShadedNettyGrpcServerFactory("foo:9191", Collections.emptyList(), null, null, null);
+		serverFactory.setWorkerThreads(2);
+		NettyServerBuilder builder = Mockito.mock();
+		serverFactory.configure(builder, Collections.emptyList());
+		var worker = (EventLoopGroup) ReflectionTestUtils.getField(serverFactory, "workerEventLoopGroup");
+		Mockito.verify(builder).workerEventLoopGroup(worker);
+		serverFactory.destroy();
+		assertThat(worker.isTerminated()).isTrue();
+	}
+
 	@Test
 	void newServerBuilderUsesPortOnlyWhenHostIsNull() {
 		var serverFactory = new ShadedNettyGrpcServerFactory("/path/to/resource", Collections.emptyList(), null, null,
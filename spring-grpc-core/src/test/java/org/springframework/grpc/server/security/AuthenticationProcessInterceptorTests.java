@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import io.grpc.Attributes;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+
+/**
+ * Tests for {@link AuthenticationProcessInterceptor}.
+ */
+class AuthenticationProcessInterceptorTests {
+
+	private final AuthenticationManager authenticationManager = mock();
+
+	private final ServerCall<String, String> call = mock();
+
+	private final ServerCallHandler<String, String> next = mock();
+
+	private final ServerCall.Listener<String> delegate = mock();
+
+	private final List<Runnable> tasks = new ArrayList<>();
+
+	private final AuthenticationProcessInterceptor interceptor = new AuthenticationProcessInterceptor(
+			this.authenticationManager,
+			(headers, attributes, method) -> UsernamePasswordAuthenticationToken.unauthenticated("user", "secret"),
+			null);
+
+	@BeforeEach
+	void setup() {
+		MethodDescriptor<String, String> method = MethodDescriptor.<String, String>newBuilder()
+			.setType(MethodDescriptor.MethodType.UNARY)
+			.setFullMethodName("test/method")
+			.setRequestMarshaller(mock())
+			.setResponseMarshaller(mock())
+			.build();
+		given(this.call.getMethodDescriptor()).willReturn(method);
+		given(this.call.getAttributes()).willReturn(Attributes.EMPTY);
+		given(this.next.startCall(any(), any())).willReturn(this.delegate);
+		this.interceptor.setCallExecutor(this.tasks::add);
+	}
+
+	@Test
+	void callsAreAuthenticatedOnCallingThreadByDefault() {
+		givenAuthenticationSucceeds();
+		this.interceptor.interceptCall(this.call, new Metadata(), this.next);
+		then(this.next).should().startCall(any(), any());
+	}
+
+	@Test
+	void callsAreStartedOnceAuthenticatedWithBufferedEventsInOrder() {
+		givenAuthenticationSucceeds();
+		this.interceptor.setAuthenticationExecutor(this.tasks::add);
+		ServerCall.Listener<String> listener = this.interceptor.interceptCall(this.call, new Metadata(), this.next);
+		listener.onReady();
+		listener.onMessage("hello");
+		listener.onHalfClose();
+		then(this.next).shouldHaveNoInteractions();
+		then(this.authenticationManager).shouldHaveNoInteractions();
+		runTasks();
+		then(this.next).should().startCall(any(), any());
+		listener.onComplete();
+		InOrder ordered = inOrder(this.delegate);
+		ordered.verify(this.delegate).onReady();
+		ordered.verify(this.delegate).onMessage("hello");
+		ordered.verify(this.delegate).onHalfClose();
+		ordered.verify(this.delegate).onComplete();
+	}
+
+	@Test
+	void callsAreStartedOnCallExecutorOnceAuthenticated() throws Exception {
+		givenAuthenticationSucceeds();
+		ExecutorService authenticationExecutor = Executors.newSingleThreadExecutor((task) -> new Thread(task, "auth"));
+		ExecutorService callExecutor = Executors.newSingleThreadExecutor((task) -> new Thread(task, "call"));
+		Map<String, String> threads = new ConcurrentHashMap<>();
+		CountDownLatch halfClosed = new CountDownLatch(1);
+		willAnswer((invocation) -> {
+			threads.put("startCall", Thread.currentThread().getName());
+			return this.delegate;
+		}).given(this.next).startCall(any(), any());
+		willAnswer((invocation) -> {
+			threads.put("onHalfClose", Thread.currentThread().getName());
+			halfClosed.countDown();
+			return null;
+		}).given(this.delegate).onHalfClose();
+		this.interceptor.setAuthenticationExecutor(authenticationExecutor);
+		this.interceptor.setCallExecutor(callExecutor);
+		try {
+			CountDownLatch authenticating = new CountDownLatch(1);
+			authenticationExecutor.execute(() -> awaitQuietly(authenticating));
+			ServerCall.Listener<String> listener = this.interceptor.interceptCall(this.call, new Metadata(), this.next);
+			listener.onMessage("hello");
+			listener.onHalfClose();
+			authenticating.countDown();
+			assertThat(halfClosed.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(threads).containsEntry("startCall", "call").containsEntry("onHalfClose", "call");
+		}
+		finally {
+			authenticationExecutor.shutdownNow();
+			callExecutor.shutdownNow();
+		}
+	}
+
+	@Test
+	void callsFailingAuthenticationAreClosed() {
+		given(this.authenticationManager.authenticate(any())).willThrow(new BadCredentialsException("bad"));
+		this.interceptor.setAuthenticationExecutor(this.tasks::add);
+		ServerCall.Listener<String> listener = this.interceptor.interceptCall(this.call, new Metadata(), this.next);
+		listener.onMessage("hello");
+		runTasks();
+		ArgumentCaptor<Status> status = ArgumentCaptor.captor();
+		then(this.call).should().close(status.capture(), any());
+		assertThat(status.getValue().getCode()).isEqualTo(Status.Code.UNAUTHENTICATED);
+		then(this.next).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void callsCancelledBeforeAuthenticationAreNotAuthenticated() {
+		this.interceptor.setAuthenticationExecutor(this.tasks::add);
+		ServerCall.Listener<String> listener = this.interceptor.interceptCall(this.call, new Metadata(), this.next);
+		listener.onCancel();
+		runTasks();
+		then(this.authenticationManager).shouldHaveNoInteractions();
+		then(this.next).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void callsAreClosedWhenAuthenticationExecutorRejectsThem() {
+		this.interceptor.setAuthenticationExecutor((task) -> {
+			throw new RejectedExecutionException();
+		});
+		this.interceptor.interceptCall(this.call, new Metadata(), this.next);
+		ArgumentCaptor<Status> status = ArgumentCaptor.captor();
+		then(this.call).should().close(status.capture(), any());
+		assertThat(status.getValue().getCode()).isEqualTo(Status.Code.UNAVAILABLE);
+	}
+
+	private void givenAuthenticationSucceeds() {
+		given(this.authenticationManager.authenticate(any())).willReturn(UsernamePasswordAuthenticationToken
+			.authenticated("user", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void runTasks() {
+		while (!this.tasks.isEmpty()) {
+			this.tasks.remove(0).run();
+		}
+	}
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationEventPublisher;
+import org.springframework.security.core.Authentication;
+
+/**
+ * Tests for {@link BatchingAuthorizationEventPublisher}.
+ */
+class BatchingAuthorizationEventPublisherTests {
+
+	private final AuthorizationEventPublisher delegate = mock();
+
+	private final List<Runnable> tasks = new ArrayList<>();
+
+	private final Authentication authentication = new TestingAuthenticationToken("user", "secret");
+
+	@Test
+	void publishesOnExecutor() {
+		BatchingAuthorizationEventPublisher publisher = new BatchingAuthorizationEventPublisher(this.delegate,
+				this.tasks::add, 10, 10);
+		publisher.publishAuthorizationEvent(() -> this.authentication, "call", new AuthorizationDecision(false));
+		then(this.delegate).shouldHaveNoInteractions();
+		assertThat(this.tasks).hasSize(1);
+		this.tasks.remove(0).run();
+		then(this.delegate).should().publishAuthorizationEvent(any(), any(), any());
+	}
+
+	@Test
+	void drainsQueuedEventsInBatches() {
+		BatchingAuthorizationEventPublisher publisher = new BatchingAuthorizationEventPublisher(this.delegate,
+				this.tasks::add, 10, 2);
+		for (int i = 0; i < 5; i++) {
+			publisher.publishAuthorizationEvent(() -> this.authentication, "call", new AuthorizationDecision(false));
+		}
+		assertThat(this.tasks).hasSize(1);
+		this.tasks.remove(0).run();
+		then(this.delegate).should(times(2)).publishAuthorizationEvent(any(), any(), any());
+		assertThat(this.tasks).hasSize(1);
+		this.tasks.remove(0).run();
+		this.tasks.remove(0).run();
+		then(this.delegate).should(times(5)).publishAuthorizationEvent(any(), any(), any());
+		assertThat(this.tasks).isEmpty();
+	}
+
+	@Test
+	void dropsEventsWhenQueueIsFull() {
+		BatchingAuthorizationEventPublisher publisher = new BatchingAuthorizationEventPublisher(this.delegate,
+				this.tasks::add, 2, 10);
+		for (int i = 0; i < 5; i++) {
+			publisher.publishAuthorizationEvent(() -> this.authentication, "call", new AuthorizationDecision(false));
+		}
+		assertThat(publisher.getDroppedEvents()).isEqualTo(3);
+		this.tasks.remove(0).run();
+		then(this.delegate).should(times(2)).publishAuthorizationEvent(any(), any(), any());
+	}
+
+}
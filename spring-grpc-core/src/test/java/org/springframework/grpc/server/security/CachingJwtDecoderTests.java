@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+/**
+ * Tests for {@link CachingJwtDecoder}.
+ */
+class CachingJwtDecoderTests {
+
+	private final Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+	private final JwtDecoder delegate = mock();
+
+	private final CachingJwtDecoder decoder = new CachingJwtDecoder(this.delegate, Duration.ofMinutes(5), 2);
+
+	@BeforeEach
+	void setup() {
+		this.decoder.setClock(Clock.fixed(this.now, ZoneOffset.UTC));
+	}
+
+	@Test
+	void decodesTokenOnce() {
+		Jwt jwt = jwt("token", this.now.plus(Duration.ofHours(1)));
+		given(this.delegate.decode("token")).willReturn(jwt);
+		assertThat(this.decoder.decode("token")).isSameAs(jwt);
+		assertThat(this.decoder.decode("token")).isSameAs(jwt);
+		then(this.delegate).should(times(1)).decode("token");
+	}
+
+	@Test
+	void expiresAfterTimeToLive() {
+		given(this.delegate.decode("token")).willReturn(jwt("token", this.now.plus(Duration.ofHours(1))));
+		this.decoder.decode("token");
+		this.decoder.setClock(Clock.fixed(this.now.plus(Duration.ofMinutes(5)), ZoneOffset.UTC));
+		this.decoder.decode("token");
+		then(this.delegate).should(times(2)).decode("token");
+	}
+
+	@Test
+	void expiresWithToken() {
+		given(this.delegate.decode("token")).willReturn(jwt("token", this.now.plus(Duration.ofMinutes(1))));
+		this.decoder.decode("token");
+		this.decoder.setClock(Clock.fixed(this.now.plus(Duration.ofMinutes(1)), ZoneOffset.UTC));
+		this.decoder.decode("token");
+		then(this.delegate).should(times(2)).decode("token");
+	}
+
+	@Test
+	void doesNotCacheFailures() {
+		given(this.delegate.decode("token")).willThrow(new BadJwtException("bad"));
+		assertThatExceptionOfType(BadJwtException.class).isThrownBy(() -> this.decoder.decode("token"));
+		assertThatExceptionOfType(BadJwtException.class).isThrownBy(() -> this.decoder.decode("token"));
+		assertThat(this.decoder.size()).isZero();
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedTokens() {
+		for (String token : new String[] { "one", "two", "three" }) {
+			given(this.delegate.decode(token)).willReturn(jwt(token, this.now.plus(Duration.ofHours(1))));
+			this.decoder.decode(token);
+		}
+		assertThat(this.decoder.size()).isEqualTo(2);
+		this.decoder.decode("one");
+		then(this.delegate).should(times(2)).decode("one");
+	}
+
+	@Test
+	void evictsExpiredTokensBeforeRecentlyUsedOnes() {
+		given(this.delegate.decode("short")).willReturn(jwt("short", this.now.plus(Duration.ofMinutes(1))));
+		this.decoder.decode("short");
+		this.decoder.setClock(Clock.fixed(this.now.plus(Duration.ofMinutes(2)), ZoneOffset.UTC));
+		for (String token : new String[] { "one", "two" }) {
+			given(this.delegate.decode(token)).willReturn(jwt(token, this.now.plus(Duration.ofHours(1))));
+			this.decoder.decode(token);
+		}
+		assertThat(this.decoder.size()).isEqualTo(2);
+		this.decoder.decode("one");
+		this.decoder.decode("two");
+		then(this.delegate).should(times(1)).decode("one");
+		then(this.delegate).should(times(1)).decode("two");
+	}
+
+	@Test
+	void decodesConcurrently() throws Exception {
+		CachingJwtDecoder decoder = new CachingJwtDecoder(this.delegate, Duration.ofMinutes(5), 50);
+		given(this.delegate.decode(anyString()))
+			.willAnswer((invocation) -> jwt(invocation.getArgument(0), Instant.now().plus(Duration.ofHours(1))));
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int thread = 0; thread < 8; thread++) {
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 1000; i++) {
+						String token = "token-" + (i % 100);
+						assertThat(decoder.decode(token).getTokenValue()).isEqualTo(token);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		decoder.decode("last");
+		assertThat(decoder.size()).isLessThanOrEqualTo(50);
+	}
+
+	private Jwt jwt(String token, Instant expiresAt) {
+		return Jwt.withTokenValue(token)
+			.header("alg", "RS256")
+			.subject("user")
+			.issuedAt(this.now)
+			.expiresAt(expiresAt)
+			.build();
+	}
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import io.grpc.Context;
+
+/**
+ * Tests for {@link GrpcContextSecurityContextHolderStrategy}.
+ */
+class GrpcContextSecurityContextHolderStrategyTests {
+
+	private final GrpcContextSecurityContextHolderStrategy strategy = new GrpcContextSecurityContextHolderStrategy();
+
+	private final SecurityContext callContext = new SecurityContextImpl(
+			new TestingAuthenticationToken("user", "secret"));
+
+	@AfterEach
+	void clear() {
+		this.strategy.clearContext();
+	}
+
+	@Test
+	void usesSecurityContextOfCurrentCall() throws Exception {
+		Context.current().withValue(GrpcSecurity.SECURITY_CONTEXT_KEY, this.callContext).call(() -> {
+			assertThat(this.strategy.getContext()).isSameAs(this.callContext);
+			return null;
+		});
+		assertThat(this.strategy.getContext()).isNotSameAs(this.callContext);
+	}
+
+	@Test
+	void callContextTakesPrecedence() throws Exception {
+		SecurityContext threadContext = new SecurityContextImpl();
+		this.strategy.setContext(threadContext);
+		Context.current().withValue(GrpcSecurity.SECURITY_CONTEXT_KEY, this.callContext).call(() -> {
+			assertThat(this.strategy.getContext()).isSameAs(this.callContext);
+			return null;
+		});
+		assertThat(this.strategy.getContext()).isSameAs(threadContext);
+	}
+
+	@Test
+	void createsEmptyContextOutsideOfCallWithoutStoringIt() {
+		SecurityContext context = this.strategy.getContext();
+		assertThat(context.getAuthentication()).isNull();
+		assertThat(this.strategy.getContext()).isNotSameAs(context);
+	}
+
+	@Test
+	void usesContextSetOnThreadOutsideOfCall() {
+		SecurityContext threadContext = new SecurityContextImpl();
+		this.strategy.setContext(threadContext);
+		assertThat(this.strategy.getContext()).isSameAs(threadContext);
+		this.strategy.clearContext();
+		assertThat(this.strategy.getContext()).isNotSameAs(threadContext);
+	}
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.SecurityContext;
+
+/**
+ * Tests for {@link JwkSources}.
+ */
+class JwkSourcesTests {
+
+	@Test
+	void sourcesAreRegisteredOncePerContext() {
+		StaticApplicationContext context = new StaticApplicationContext();
+		JwkSources sources = JwkSources.get(context);
+		assertThat(JwkSources.get(context)).isSameAs(sources);
+		assertThat(context.getBean(JwkSources.BEAN_NAME)).isSameAs(sources);
+		assertThat(JwkSources.get(new StaticApplicationContext())).isNotSameAs(sources);
+	}
+
+	@Test
+	void sourceIsSharedForSameJwkSetUri() {
+		JwkSources sources = new JwkSources();
+		JWKSource<SecurityContext> source = sources.getSource("https://example.com/jwks", null);
+		assertThat(sources.getSource("https://example.com/jwks", null)).isSameAs(source);
+		assertThat(sources.getSource("https://example.com/other", null)).isNotSameAs(source);
+	}
+
+	@Test
+	void defaultRestOperationsHaveTimeouts() {
+		RestTemplate restTemplate = (RestTemplate) new JwkSources().getDefaultRestOperations();
+		assertThat(restTemplate.getRequestFactory()).isInstanceOf(SimpleClientHttpRequestFactory.class)
+			.hasFieldOrPropertyWithValue("connectTimeout", JWKSourceBuilder.DEFAULT_HTTP_CONNECT_TIMEOUT)
+			.hasFieldOrPropertyWithValue("readTimeout", JWKSourceBuilder.DEFAULT_HTTP_READ_TIMEOUT);
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.grpc.server.security.OAuth2ResourceServerConfigurer.JwtConfigurer;
+import org.springframework.http.MediaType;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.web.client.RestOperations;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+/**
+ * Tests for {@link OAuth2ResourceServerConfigurer}.
+ */
+class OAuth2ResourceServerConfigurerTests {
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void jwkSetIsFetchedWithConfiguredRestOperations() throws Exception {
+		RSAKey key = new RSAKeyGenerator(2048).keyID("key").generate();
+		RestOperations restOperations = mock();
+		given(restOperations.exchange(any(RequestEntity.class), eq(String.class))).willReturn(ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(new JWKSet(key.toPublicJWK()).toString()));
+		JwtDecoder decoder = jwtConfigurer(
+				(jwt) -> jwt.jwkSetUri("https://example.com/jwks").restOperations(restOperations))
+			.getJwtDecoder();
+		Jwt jwt = decoder.decode(token(key));
+		assertThat(jwt.getSubject()).isEqualTo("user");
+		then(restOperations).should().exchange(any(RequestEntity.class), eq(String.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void configurationsOfSameContextShareJwkSet() throws Exception {
+		RSAKey key = new RSAKeyGenerator(2048).keyID("key").generate();
+		RestOperations restOperations = mock();
+		given(restOperations.exchange(any(RequestEntity.class), eq(String.class))).willReturn(ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(new JWKSet(key.toPublicJWK()).toString()));
+		StaticApplicationContext context = new StaticApplicationContext();
+		Consumer<JwtConfigurer> customizer = (jwt) -> jwt.jwkSetUri("https://example.com/jwks")
+			.restOperations(restOperations);
+		jwtConfigurer(context, customizer).getJwtDecoder().decode(token(key));
+		jwtConfigurer(context, customizer).getJwtDecoder().decode(token(key));
+		then(restOperations).should().exchange(any(RequestEntity.class), eq(String.class));
+		jwtConfigurer(new StaticApplicationContext(), customizer).getJwtDecoder().decode(token(key));
+		then(restOperations).should(times(2)).exchange(any(RequestEntity.class), eq(String.class));
+	}
+
+	@Test
+	void decoderReplacesJwkSetUri() {
+		JwtDecoder decoder = mock();
+		assertThat(jwtConfigurer((jwt) -> jwt.jwkSetUri("https://example.com/jwks").decoder(decoder)).getJwtDecoder())
+			.isSameAs(decoder);
+	}
+
+	private JwtConfigurer jwtConfigurer(Consumer<JwtConfigurer> customizer) {
+		return jwtConfigurer(new StaticApplicationContext(), customizer);
+	}
+
+	private JwtConfigurer jwtConfigurer(ApplicationContext context, Consumer<JwtConfigurer> customizer) {
+		AtomicReference<JwtConfigurer> configurer = new AtomicReference<>();
+		new OAuth2ResourceServerConfigurer(context).jwt((jwt) -> {
+			customizer.accept(jwt);
+			configurer.set(jwt);
+		});
+		return configurer.get();
+	}
+
+	private String token(RSAKey key) throws Exception {
+		JWTClaimsSet claims = new JWTClaimsSet.Builder().subject("user")
+			.expirationTime(Date.from(Instant.now().plusSeconds(60)))
+			.build();
+		SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+		jwt.sign(new RSASSASigner(key));
+		return jwt.serialize();
+	}
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.grpc.server.security.RequestMapperConfigurer.EventMode;
+import org.springframework.grpc.server.security.RequestMapperConfigurer.RequestMapperAuthorizationManager;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationEventPublisher;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+
+import io.grpc.Attributes;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+
+/**
+ * Tests for {@link RequestMapperConfigurer}.
+ */
+class RequestMapperConfigurerTests {
+
+	private final Authentication authentication = new TestingAuthenticationToken("user", "secret", "ROLE_USER");
+
+	@Test
+	void firstMatchingRuleWins() throws Exception {
+		RequestMapperConfigurer configurer = new RequestMapperConfigurer(new StaticApplicationContext());
+		configurer.methods("Greeter/*").denyAll();
+		configurer.methods("Greeter/SayHello").permitAll();
+		configurer.methods("Other/*").permitAll();
+		AuthorizationManager<CallContext> manager = build(configurer);
+		assertThat(isGranted(manager, "Greeter/SayHello")).isFalse();
+		assertThat(isGranted(manager, "Greeter/SayHello")).isFalse();
+		assertThat(isGranted(manager, "Other/Call")).isTrue();
+		assertThat(isGranted(manager, "Other/Call")).isTrue();
+	}
+
+	@Test
+	void unmatchedMethodIsDenied() throws Exception {
+		RequestMapperConfigurer configurer = new RequestMapperConfigurer(new StaticApplicationContext());
+		configurer.methods("Greeter/*").permitAll();
+		AuthorizationManager<CallContext> manager = build(configurer);
+		assertThat(isGranted(manager, "Other/Call")).isFalse();
+		assertThat(isGranted(manager, "Greeter/SayHello")).isTrue();
+		assertThat(isGranted(manager, "Other/Call")).isFalse();
+	}
+
+	@Test
+	void cachedRuleStillEvaluatesAuthentication() throws Exception {
+		RequestMapperConfigurer configurer = new RequestMapperConfigurer(new StaticApplicationContext());
+		configurer.methods("Greeter/*").hasAuthority("ROLE_ADMIN");
+		configurer.allRequests().authenticated();
+		AuthorizationManager<CallContext> manager = build(configurer);
+		Authentication admin = new TestingAuthenticationToken("admin", "secret", "ROLE_ADMIN");
+		assertThat(manager.authorize(() -> admin, context("Greeter/SayHello")).isGranted()).isTrue();
+		assertThat(isGranted(manager, "Greeter/SayHello")).isFalse();
+		assertThat(isGranted(manager, "Other/Call")).isTrue();
+	}
+
+	@Test
+	void publishesAllEvents() throws Exception {
+		AuthorizationEventPublisher publisher = mock();
+		AuthorizationManager<CallContext> manager = eventManager(publisher, EventMode.ALL);
+		isGranted(manager, "Greeter/SayHello");
+		isGranted(manager, "Other/Call");
+		then(publisher).should().publishAuthorizationEvent(any(), any(), argThat(AuthorizationResult::isGranted));
+		then(publisher).should().publishAuthorizationEvent(any(), any(), argThat((result) -> !result.isGranted()));
+	}
+
+	@Test
+	void publishesOnlyDeniedEvents() throws Exception {
+		AuthorizationEventPublisher publisher = mock();
+		AuthorizationManager<CallContext> manager = eventManager(publisher, EventMode.DENIED);
+		isGranted(manager, "Greeter/SayHello");
+		isGranted(manager, "Other/Call");
+		then(publisher).should().publishAuthorizationEvent(any(), any(), argThat((result) -> !result.isGranted()));
+		then(publisher).shouldHaveNoMoreInteractions();
+	}
+
+	@Test
+	void publishesDeniedEventsWhenSamplingNothing() throws Exception {
+		AuthorizationEventPublisher publisher = mock();
+		RequestMapperAuthorizationManager manager = eventManager(publisher, EventMode.SAMPLED);
+		manager.setEventSampleRate(0);
+		for (int i = 0; i < 10; i++) {
+			isGranted(manager, "Greeter/SayHello");
+		}
+		isGranted(manager, "Other/Call");
+		then(publisher).should().publishAuthorizationEvent(any(), any(), argThat((result) -> !result.isGranted()));
+		then(publisher).shouldHaveNoMoreInteractions();
+	}
+
+	@Test
+	void publishesNoEventsWhenOff() throws Exception {
+		AuthorizationEventPublisher publisher = mock();
+		AuthorizationManager<CallContext> manager = eventManager(publisher, EventMode.OFF);
+		isGranted(manager, "Greeter/SayHello");
+		isGranted(manager, "Other/Call");
+		then(publisher).shouldHaveNoInteractions();
+	}
+
+	private RequestMapperAuthorizationManager eventManager(AuthorizationEventPublisher publisher, EventMode mode)
+			throws Exception {
+		StaticApplicationContext context = new StaticApplicationContext();
+		context.getBeanFactory().registerSingleton("authorizationEventPublisher", publisher);
+		RequestMapperConfigurer configurer = new RequestMapperConfigurer(context);
+		configurer.methods("Greeter/*").permitAll().events(mode);
+		return (RequestMapperAuthorizationManager) build(configurer);
+	}
+
+	private boolean isGranted(AuthorizationManager<CallContext> manager, String method) {
+		AuthorizationResult result = manager.authorize(() -> this.authentication, context(method));
+		assertThat(result).isNotNull();
+		return result.isGranted();
+	}
+
+	@SuppressWarnings("unchecked")
+	private AuthorizationManager<CallContext> build(RequestMapperConfigurer configurer) {
+		GrpcSecurity security = mock();
+		configurer.configure(security);
+		ArgumentCaptor<AuthorizationManager<CallContext>> manager = ArgumentCaptor.forClass(AuthorizationManager.class);
+		then(security).should().authorizationManager(manager.capture());
+		return manager.getValue();
+	}
+
+	private CallContext context(String method) {
+		MethodDescriptor<String, String> descriptor = MethodDescriptor.<String, String>newBuilder()
+			.setType(MethodDescriptor.MethodType.UNARY)
+			.setFullMethodName(method)
+			.setRequestMarshaller(mock())
+			.setResponseMarshaller(mock())
+			.build();
+		return new CallContext(new Metadata(), Attributes.EMPTY, descriptor);
+	}
+
+}
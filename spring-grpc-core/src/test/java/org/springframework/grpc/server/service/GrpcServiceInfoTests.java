@@ -89,6 +89,7 @@ class GrpcServiceInfoTests {
 				assertThat(serviceInfo.interceptors()).isEmpty();
 				assertThat(serviceInfo.interceptorNames()).isEmpty();
 				assertThat(serviceInfo.blendWithGlobalInterceptors()).isFalse();
+				assertThat(serviceInfo.executor()).isEmpty();
 			});
 		}
 
@@ -100,6 +101,7 @@ class GrpcServiceInfoTests {
 				assertThat(serviceInfo.interceptors()).containsExactly(ServerInterceptor.class);
 				assertThat(serviceInfo.interceptorNames()).containsExactly("myInterceptor");
 				assertThat(serviceInfo.blendWithGlobalInterceptors()).isTrue();
+				assertThat(serviceInfo.executor()).isEqualTo("batch");
 			});
 		}
 
@@ -111,7 +113,7 @@ class GrpcServiceInfoTests {
 	}
 
 	@GrpcService(interceptors = ServerInterceptor.class, interceptorNames = "myInterceptor",
-			blendWithGlobalInterceptors = true)
+			blendWithGlobalInterceptors = true, executor = "batch")
 	static class TestServiceMarkedWithAttributes {
 
 	}
@@ -16,18 +16,34 @@
 
 package org.springframework.boot.grpc.server.autoconfigure;
 
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.grpc.limit.AdaptiveConcurrencyLimiter;
+import org.springframework.grpc.marshaller.MethodMarshallerProvider;
+import org.springframework.grpc.server.ConcurrencyLimitServerInterceptor;
+import org.springframework.grpc.server.DeadlineServerInterceptor;
+import org.springframework.grpc.server.ExecutorLane;
+import org.springframework.grpc.server.GlobalServerInterceptor;
+import org.springframework.grpc.server.RoutingServerCallExecutorSupplier;
 import org.springframework.grpc.server.ServerBuilderCustomizer;
 import org.springframework.grpc.server.exception.ReactiveStubBeanDefinitionRegistrar;
 import org.springframework.grpc.server.service.DefaultGrpcServiceConfigurer;
@@ -39,6 +55,9 @@ import io.grpc.BindableService;
 import io.grpc.CompressorRegistry;
 import io.grpc.DecompressorRegistry;
 import io.grpc.ServerBuilder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 
 /**
  * {@link EnableAutoConfiguration Auto-configuration} for Spring gRPC server-side
@@ -59,6 +78,17 @@ import io.grpc.ServerBuilder;
 @Import({ GrpcCodecConfiguration.class })
 public final class GrpcServerAutoConfiguration {
 
+	private static final String SYSTEM_LANE = "system";
+
+	private static final List<String> SYSTEM_SERVICES = List.of("grpc.health.v1.Health",
+			"grpc.reflection.v1.ServerReflection", "grpc.reflection.v1alpha.ServerReflection");
+
+	private final Object serverExecutorMonitor = new Object();
+
+	private boolean serverExecutorResolved;
+
+	private @Nullable Executor serverExecutor;
+
 	@ConditionalOnMissingBean
 	@Bean
 	ServerBuilderCustomizers serverBuilderCustomizers(ObjectProvider<ServerBuilderCustomizer<?>> customizers) {
@@ -67,8 +97,14 @@ public final class GrpcServerAutoConfiguration {
 
 	@ConditionalOnMissingBean(GrpcServiceConfigurer.class)
 	@Bean
-	DefaultGrpcServiceConfigurer grpcServiceConfigurer(ApplicationContext applicationContext) {
-		return new DefaultGrpcServiceConfigurer(applicationContext);
+	DefaultGrpcServiceConfigurer grpcServiceConfigurer(ApplicationContext applicationContext,
+			GrpcServerProperties properties, ObjectProvider<MethodMarshallerProvider> marshallerProvider,
+			ObjectProvider<RoutingServerCallExecutorSupplier> callExecutorSupplier) {
+		DefaultGrpcServiceConfigurer configurer = new DefaultGrpcServiceConfigurer(applicationContext);
+		configurer.setZeroCopyMarshalling(properties.isZeroCopyMarshalling());
+		marshallerProvider.ifUnique(configurer::setMarshallerProvider);
+		callExecutorSupplier.ifUnique(configurer::setCallExecutorSupplier);
+		return configurer;
 	}
 
 	@ConditionalOnMissingBean(GrpcServiceDiscoverer.class)
@@ -90,20 +126,111 @@ public final class GrpcServerAutoConfiguration {
 		return (builder) -> builder.decompressorRegistry(registry);
 	}
 
-	@ConditionalOnBean(GrpcServerExecutorProvider.class)
+	@Bean
+	@Order(-20)
+	@GlobalServerInterceptor
+	@ConditionalOnMissingBean
+	@ConditionalOnBooleanProperty("spring.grpc.server.deadlines.enabled")
+	DeadlineServerInterceptor deadlineServerInterceptor(GrpcServerProperties properties) {
+		// Ordered ahead of the security interceptors so that expired calls are not
+		// authenticated
+		GrpcServerProperties.Deadlines deadlines = properties.getDeadlines();
+		DeadlineServerInterceptor interceptor = new DeadlineServerInterceptor();
+		interceptor.setMinimumBudget(deadlines.getMinimumBudget());
+		interceptor.setMethodMinimumBudgets(deadlines.getMethodMinimumBudgets());
+		return interceptor;
+	}
+
+	@Bean
+	@Order(5)
+	@GlobalServerInterceptor
+	@ConditionalOnMissingBean
+	@ConditionalOnBooleanProperty("spring.grpc.server.limits.enabled")
+	ConcurrencyLimitServerInterceptor concurrencyLimitServerInterceptor(GrpcServerProperties properties) {
+		GrpcServerProperties.Limits limits = properties.getLimits();
+		ConcurrencyLimitServerInterceptor interceptor = new ConcurrencyLimitServerInterceptor(
+				() -> new AdaptiveConcurrencyLimiter(limits.getInitialLimit(), limits.getMinLimit(),
+						limits.getMaxLimit()));
+		interceptor.setPerMethod(limits.isPerMethod());
+		interceptor.setRetryPushback(limits.getRetryPushback());
+		return interceptor;
+	}
+
+	@ConditionalOnMissingBean
+	@Bean
+	RoutingServerCallExecutorSupplier grpcServerCallExecutorSupplier(GrpcServerProperties properties,
+			ObjectProvider<GrpcServerExecutorProvider> provider, Environment environment) {
+		GrpcServerProperties.Executor executor = properties.getExecutor();
+		// Lanes bound a share of the server executor rather than bypass it
+		Executor laneExecutor = serverExecutor(provider, environment);
+		RoutingServerCallExecutorSupplier supplier = new RoutingServerCallExecutorSupplier();
+		executor.getLanes().forEach((name, lane) -> {
+			supplier.addLane(new ExecutorLane(name, lane.getThreads(), lane.getQueueCapacity(), laneExecutor));
+			lane.getServices().forEach((service) -> supplier.route(service, name));
+		});
+		GrpcServerProperties.Executor.SystemLane systemLane = executor.getSystemLane();
+		if (systemLane.isEnabled()) {
+			supplier.addLane(new ExecutorLane(SYSTEM_LANE, systemLane.getThreads(), systemLane.getQueueCapacity(),
+					laneExecutor));
+			SYSTEM_SERVICES.forEach((service) -> supplier.route(service, SYSTEM_LANE));
+		}
+		return supplier;
+	}
+
+	@Bean
+	<T extends ServerBuilder<T>> ServerBuilderCustomizer<T> callExecutorServerConfigurer(
+			RoutingServerCallExecutorSupplier supplier) {
+		return (builder) -> {
+			// Services routed by @GrpcService(executor = ...) were registered when they
+			// were added to the server factory
+			if (supplier.hasRoutes()) {
+				builder.callExecutor(supplier);
+			}
+		};
+	}
+
 	@Bean
 	<T extends ServerBuilder<T>> ServerBuilderCustomizer<T> executorServerConfigurer(
-			GrpcServerExecutorProvider provider) {
-		return new ServerBuilderCustomizerImplementation<>(provider);
+			ObjectProvider<GrpcServerExecutorProvider> provider, Environment environment) {
+		return new ServerBuilderCustomizerImplementation<>(provider, environment);
+	}
+
+	/**
+	 * Resolve the executor of the server once, so that the server and its lanes share it
+	 * even when the provider creates a new executor each time it is asked for one.
+	 * @param provider the executor providers
+	 * @param environment the environment
+	 * @return the executor of the server or {@code null} to use the gRPC default
+	 */
+	private @Nullable Executor serverExecutor(ObjectProvider<GrpcServerExecutorProvider> provider,
+			Environment environment) {
+		synchronized (this.serverExecutorMonitor) {
+			if (!this.serverExecutorResolved) {
+				GrpcServerExecutorProvider executorProvider = resolveExecutorProvider(provider, environment);
+				this.serverExecutor = (executorProvider != null) ? executorProvider.getExecutor() : null;
+				this.serverExecutorResolved = true;
+			}
+			return this.serverExecutor;
+		}
+	}
+
+	private static @Nullable GrpcServerExecutorProvider resolveExecutorProvider(
+			ObjectProvider<GrpcServerExecutorProvider> provider, Environment environment) {
+		return provider.getIfUnique(
+				() -> Threading.VIRTUAL.isActive(environment) ? GrpcServerExecutorProvider.virtualThreads() : null);
 	}
 
 	private final class ServerBuilderCustomizerImplementation<T extends ServerBuilder<T>>
 			implements ServerBuilderCustomizer<T>, Ordered {
 
-		private final GrpcServerExecutorProvider provider;
+		private final ObjectProvider<GrpcServerExecutorProvider> provider;
 
-		private ServerBuilderCustomizerImplementation(GrpcServerExecutorProvider provider) {
+		private final Environment environment;
+
+		private ServerBuilderCustomizerImplementation(ObjectProvider<GrpcServerExecutorProvider> provider,
+				Environment environment) {
 			this.provider = provider;
+			this.environment = environment;
 		}
 
 		@Override
@@ -113,7 +240,42 @@ public final class GrpcServerAutoConfiguration {
 
 		@Override
 		public void customize(T builder) {
-			builder.executor(this.provider.getExecutor());
+			// Resolved lazily so that providers from auto-configurations processed after
+			// this one are still picked up
+			Executor executor = serverExecutor(this.provider, this.environment);
+			if (executor != null) {
+				builder.executor(executor);
+			}
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterBinder.class)
+	@ConditionalOnBooleanProperty("spring.grpc.server.limits.enabled")
+	static class ConcurrencyLimitMetricsConfiguration {
+
+		@Bean
+		MeterBinder grpcServerConcurrencyLimitMetrics(ConcurrencyLimitServerInterceptor interceptor) {
+			return (registry) -> {
+				FunctionCounter
+					.builder("grpc.server.limit.calls", interceptor,
+							ConcurrencyLimitServerInterceptor::getAcceptedCalls)
+					.description("Calls let through by the server concurrency limit")
+					.tag("outcome", "accepted")
+					.register(registry);
+				FunctionCounter
+					.builder("grpc.server.limit.calls", interceptor,
+							ConcurrencyLimitServerInterceptor::getRejectedCalls)
+					.description("Calls rejected by the server concurrency limit")
+					.tag("outcome", "rejected")
+					.register(registry);
+				Gauge
+					.builder("grpc.server.limit.in-flight", interceptor,
+							ConcurrencyLimitServerInterceptor::getInFlightCalls)
+					.description("Calls currently in flight under the server concurrency limit")
+					.register(registry);
+			};
 		}
 
 	}
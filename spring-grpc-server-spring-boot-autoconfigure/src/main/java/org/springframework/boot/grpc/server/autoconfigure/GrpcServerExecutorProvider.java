@@ -18,6 +18,8 @@ package org.springframework.boot.grpc.server.autoconfigure;
 
 import java.util.concurrent.Executor;
 
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
 /**
  * Strategy interface to determine the {@link Executor} to use for the gRPC server.
  *
@@ -33,4 +35,15 @@ public interface GrpcServerExecutorProvider {
 	 */
 	Executor getExecutor();
 
+	/**
+	 * Returns a provider whose executor runs each task of the gRPC server on a new
+	 * virtual thread. Used by default when virtual threads are enabled
+	 * ({@code spring.threads.virtual.enabled=true}) and no other provider is defined.
+	 * Requires Java 21 or later.
+	 * @return the provider of a virtual thread executor
+	 */
+	static GrpcServerExecutorProvider virtualThreads() {
+		return () -> new VirtualThreadTaskExecutor("grpc-server-");
+	}
+
 }
@@ -22,6 +22,8 @@ import java.util.Objects;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.TrustManagerFactory;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -36,6 +38,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.grpc.server.GrpcServerFactory;
 import org.springframework.grpc.server.InProcessGrpcServerFactory;
 import org.springframework.grpc.server.NettyGrpcServerFactory;
+import org.springframework.grpc.server.ReloadingKeyManagerFactory;
+import org.springframework.grpc.server.ReloadingTrustManagerFactory;
 import org.springframework.grpc.server.ServerBuilderCustomizer;
 import org.springframework.grpc.server.ServerServiceDefinitionFilter;
 import org.springframework.grpc.server.ShadedNettyGrpcServerFactory;
@@ -61,6 +65,26 @@ class GrpcServerFactoryConfigurations {
 		customizers.orderedStream().forEach((customizer) -> customizer.customize(factory));
 	}
 
+	/**
+	 * Reloads the key and trust material used by new TLS handshakes when the given SSL
+	 * bundle is updated, so that rotated certificates are picked up without restarting
+	 * the server.
+	 * @param bundles the SSL bundles
+	 * @param bundleName the name of the bundle used by the server
+	 * @param keyManager the key manager factory given to the server factory
+	 * @param trustManager the trust manager factory given to the server factory or
+	 * {@code null} if peer certificates are not verified
+	 */
+	private static void reloadOnUpdate(SslBundles bundles, String bundleName, ReloadingKeyManagerFactory keyManager,
+			@Nullable ReloadingTrustManagerFactory trustManager) {
+		bundles.addBundleUpdateHandler(bundleName, (updated) -> {
+			keyManager.reload(updated.getManagers().getKeyManagerFactory());
+			if (trustManager != null) {
+				trustManager.reload(updated.getManagers().getTrustManagerFactory());
+			}
+		});
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	@ConditionalOnClass(io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder.class)
 	@ConditionalOnMissingBean(value = GrpcServerFactory.class, ignored = InProcessGrpcServerFactory.class)
@@ -83,12 +107,20 @@ class GrpcServerFactoryConfigurations {
 				String bundleName = properties.getSsl().getBundle();
 				Assert.notNull(bundleName, () -> "SSL bundleName must not be null");
 				SslBundle bundle = bundles.getBundle(bundleName);
-				keyManager = bundle.getManagers().getKeyManagerFactory();
-				trustManager = properties.getSsl().isSecure() ? bundle.getManagers().getTrustManagerFactory()
+				ReloadingKeyManagerFactory reloadingKeyManager = ReloadingKeyManagerFactory
+					.of(bundle.getManagers().getKeyManagerFactory());
+				ReloadingTrustManagerFactory reloadingTrustManager = properties.getSsl().isSecure()
+						? ReloadingTrustManagerFactory.of(bundle.getManagers().getTrustManagerFactory()) : null;
+				reloadOnUpdate(bundles, bundleName, reloadingKeyManager, reloadingTrustManager);
+				keyManager = reloadingKeyManager;
+				trustManager = (reloadingTrustManager != null) ? reloadingTrustManager
 						: io.grpc.netty.shaded.io.netty.handler.ssl.util.InsecureTrustManagerFactory.INSTANCE;
 			}
 			ShadedNettyGrpcServerFactory factory = new ShadedNettyGrpcServerFactory(properties.determineAddress(),
 					builderCustomizers, keyManager, trustManager, properties.getSsl().getClientAuth());
+			factory.setBossThreads(properties.getNetty().getBossThreads());
+			factory.setWorkerThreads(properties.getNetty().getWorkerThreads());
+			factory.setTransport(properties.getNetty().getTransport());
 			applyServerFactoryCustomizers(customizers, factory);
 			serviceDiscoverer.findServices()
 				.stream()
@@ -129,12 +161,20 @@ class GrpcServerFactoryConfigurations {
 				String bundleName = properties.getSsl().getBundle();
 				Assert.notNull(bundleName, () -> "SSL bundleName must not be null");
 				SslBundle bundle = bundles.getBundle(bundleName);
-				keyManager = bundle.getManagers().getKeyManagerFactory();
-				trustManager = properties.getSsl().isSecure() ? bundle.getManagers().getTrustManagerFactory()
+				ReloadingKeyManagerFactory reloadingKeyManager = ReloadingKeyManagerFactory
+					.of(bundle.getManagers().getKeyManagerFactory());
+				ReloadingTrustManagerFactory reloadingTrustManager = properties.getSsl().isSecure()
+						? ReloadingTrustManagerFactory.of(bundle.getManagers().getTrustManagerFactory()) : null;
+				reloadOnUpdate(bundles, bundleName, reloadingKeyManager, reloadingTrustManager);
+				keyManager = reloadingKeyManager;
+				trustManager = (reloadingTrustManager != null) ? reloadingTrustManager
 						: InsecureTrustManagerFactory.INSTANCE;
 			}
 			NettyGrpcServerFactory factory = new NettyGrpcServerFactory(properties.determineAddress(),
 					builderCustomizers, keyManager, trustManager, properties.getSsl().getClientAuth());
+			factory.setBossThreads(properties.getNetty().getBossThreads());
+			factory.setWorkerThreads(properties.getNetty().getWorkerThreads());
+			factory.setTransport(properties.getNetty().getTransport());
 			applyServerFactoryCustomizers(customizers, factory);
 			serviceDiscoverer.findServices()
 				.stream()
@@ -19,7 +19,9 @@ package org.springframework.boot.grpc.server.autoconfigure;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
 
@@ -27,6 +29,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.convert.DataSizeUnit;
 import org.springframework.boot.convert.DurationUnit;
 import org.springframework.grpc.internal.GrpcUtils;
+import org.springframework.grpc.netty.NettyTransport;
 import org.springframework.util.unit.DataSize;
 import org.springframework.util.unit.DataUnit;
 
@@ -77,12 +80,26 @@ public class GrpcServerProperties {
 	@DurationUnit(ChronoUnit.SECONDS)
 	private Duration shutdownGracePeriod = Duration.ofSeconds(30);
 
+	/**
+	 * Whether services should parse protobuf messages directly from the transport buffers
+	 * instead of first copying each message into a byte array.
+	 */
+	private boolean zeroCopyMarshalling;
+
+	private final Deadlines deadlines = new Deadlines();
+
+	private final Executor executor = new Executor();
+
 	private final Health health = new Health();
 
 	private final Inprocess inprocess = new Inprocess();
 
 	private final KeepAlive keepAlive = new KeepAlive();
 
+	private final Limits limits = new Limits();
+
+	private final Netty netty = new Netty();
+
 	private final Ssl ssl = new Ssl();
 
 	public @Nullable String getAddress() {
@@ -142,6 +159,22 @@ public class GrpcServerProperties {
 		this.shutdownGracePeriod = shutdownGracePeriod;
 	}
 
+	public boolean isZeroCopyMarshalling() {
+		return this.zeroCopyMarshalling;
+	}
+
+	public void setZeroCopyMarshalling(boolean zeroCopyMarshalling) {
+		this.zeroCopyMarshalling = zeroCopyMarshalling;
+	}
+
+	public Deadlines getDeadlines() {
+		return this.deadlines;
+	}
+
+	public Executor getExecutor() {
+		return this.executor;
+	}
+
 	public Health getHealth() {
 		return this.health;
 	}
@@ -154,10 +187,180 @@ public class GrpcServerProperties {
 		return this.keepAlive;
 	}
 
+	public Limits getLimits() {
+		return this.limits;
+	}
+
+	public Netty getNetty() {
+		return this.netty;
+	}
+
 	public Ssl getSsl() {
 		return this.ssl;
 	}
 
+	public static class Deadlines {
+
+		/**
+		 * Whether to reject calls whose deadline leaves less than the minimum budget
+		 * before running them.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Time a call must have left before its deadline to be run, unless its method has
+		 * its own minimum budget. When the value is 0, only calls whose deadline has
+		 * already expired are rejected.
+		 */
+		private Duration minimumBudget = Duration.ZERO;
+
+		/**
+		 * Minimum budgets of individual methods or services, keyed by full method name
+		 * ('service/method') or service name.
+		 */
+		private Map<String, Duration> methodMinimumBudgets = new LinkedHashMap<>();
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getMinimumBudget() {
+			return this.minimumBudget;
+		}
+
+		public void setMinimumBudget(Duration minimumBudget) {
+			this.minimumBudget = minimumBudget;
+		}
+
+		public Map<String, Duration> getMethodMinimumBudgets() {
+			return this.methodMinimumBudgets;
+		}
+
+		public void setMethodMinimumBudgets(Map<String, Duration> methodMinimumBudgets) {
+			this.methodMinimumBudgets = methodMinimumBudgets;
+		}
+
+	}
+
+	public static class Executor {
+
+		/**
+		 * Executor lanes, keyed by name, that bound the number of calls of the services
+		 * routed to them that run at once. A lane runs its calls on threads of its own,
+		 * or on the executor of the server when one is configured.
+		 */
+		private Map<String, Lane> lanes = new LinkedHashMap<>();
+
+		private final SystemLane systemLane = new SystemLane();
+
+		public Map<String, Lane> getLanes() {
+			return this.lanes;
+		}
+
+		public void setLanes(Map<String, Lane> lanes) {
+			this.lanes = lanes;
+		}
+
+		public SystemLane getSystemLane() {
+			return this.systemLane;
+		}
+
+		public static class Lane {
+
+			/**
+			 * Number of threads of the lane.
+			 */
+			private int threads = 4;
+
+			/**
+			 * Number of waiting tasks above which new calls are no longer admitted to the
+			 * lane and run on the default executor instead.
+			 */
+			private int queueCapacity = 1000;
+
+			/**
+			 * Names of the services ('service') or methods ('service/method') whose calls
+			 * run on the lane.
+			 */
+			private List<String> services = new ArrayList<>();
+
+			public int getThreads() {
+				return this.threads;
+			}
+
+			public void setThreads(int threads) {
+				this.threads = threads;
+			}
+
+			public int getQueueCapacity() {
+				return this.queueCapacity;
+			}
+
+			public void setQueueCapacity(int queueCapacity) {
+				this.queueCapacity = queueCapacity;
+			}
+
+			public List<String> getServices() {
+				return this.services;
+			}
+
+			public void setServices(List<String> services) {
+				this.services = services;
+			}
+
+		}
+
+		public static class SystemLane {
+
+			/**
+			 * Whether the health and reflection services run on a lane of their own, so
+			 * that they keep responding while other services are saturated.
+			 */
+			private boolean enabled = true;
+
+			/**
+			 * Number of threads of the system lane.
+			 */
+			private int threads = 2;
+
+			/**
+			 * Number of waiting tasks above which new health and reflection calls run on
+			 * the default executor instead.
+			 */
+			private int queueCapacity = 100;
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public int getThreads() {
+				return this.threads;
+			}
+
+			public void setThreads(int threads) {
+				this.threads = threads;
+			}
+
+			public int getQueueCapacity() {
+				return this.queueCapacity;
+			}
+
+			public void setQueueCapacity(int queueCapacity) {
+				this.queueCapacity = queueCapacity;
+			}
+
+		}
+
+	}
+
 	public static class Health {
 
 		/**
@@ -374,6 +577,135 @@ public class GrpcServerProperties {
 
 	}
 
+	public static class Limits {
+
+		/**
+		 * Whether to shed load once a service has more calls in flight than its adaptive
+		 * concurrency limit, which follows the response times of the service.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Whether each method gets its own limit rather than sharing one with the other
+		 * methods of its service.
+		 */
+		private boolean perMethod;
+
+		/**
+		 * Number of calls allowed in flight before any response times are known.
+		 */
+		private int initialLimit = 50;
+
+		/**
+		 * Lowest number of calls in flight the limit may shrink to.
+		 */
+		private int minLimit = 5;
+
+		/**
+		 * Highest number of calls in flight the limit may grow to.
+		 */
+		private int maxLimit = 1000;
+
+		/**
+		 * How long clients are told to wait before retrying a rejected call.
+		 */
+		private Duration retryPushback = Duration.ofSeconds(1);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public boolean isPerMethod() {
+			return this.perMethod;
+		}
+
+		public void setPerMethod(boolean perMethod) {
+			this.perMethod = perMethod;
+		}
+
+		public int getInitialLimit() {
+			return this.initialLimit;
+		}
+
+		public void setInitialLimit(int initialLimit) {
+			this.initialLimit = initialLimit;
+		}
+
+		public int getMinLimit() {
+			return this.minLimit;
+		}
+
+		public void setMinLimit(int minLimit) {
+			this.minLimit = minLimit;
+		}
+
+		public int getMaxLimit() {
+			return this.maxLimit;
+		}
+
+		public void setMaxLimit(int maxLimit) {
+			this.maxLimit = maxLimit;
+		}
+
+		public Duration getRetryPushback() {
+			return this.retryPushback;
+		}
+
+		public void setRetryPushback(Duration retryPushback) {
+			this.retryPushback = retryPushback;
+		}
+
+	}
+
+	public static class Netty {
+
+		/**
+		 * Transport to use when the server is not bound to a unix domain socket.
+		 */
+		private NettyTransport transport = NettyTransport.AUTO;
+
+		/**
+		 * Number of threads of the boss event loop group. When the value is 0, the Netty
+		 * default is used.
+		 */
+		private int bossThreads = 1;
+
+		/**
+		 * Number of threads of the worker event loop group. When the value is 0, the
+		 * Netty default is used.
+		 */
+		private int workerThreads;
+
+		public NettyTransport getTransport() {
+			return this.transport;
+		}
+
+		public void setTransport(NettyTransport transport) {
+			this.transport = transport;
+		}
+
+		public int getBossThreads() {
+			return this.bossThreads;
+		}
+
+		public void setBossThreads(int bossThreads) {
+			this.bossThreads = bossThreads;
+		}
+
+		public int getWorkerThreads() {
+			return this.workerThreads;
+		}
+
+		public void setWorkerThreads(int workerThreads) {
+			this.workerThreads = workerThreads;
+		}
+
+	}
+
 	public static class Ssl {
 
 		/**
@@ -30,10 +30,12 @@ import org.springframework.boot.grpc.server.autoconfigure.exception.GrpcExceptio
 import org.springframework.boot.grpc.server.autoconfigure.security.GrpcSecurityAutoConfiguration.ExceptionHandlerConfiguration;
 import org.springframework.boot.grpc.server.autoconfigure.security.GrpcSecurityAutoConfiguration.GrpcNativeSecurityConfigurerConfiguration;
 import org.springframework.boot.grpc.server.autoconfigure.security.GrpcSecurityAutoConfiguration.GrpcServletSecurityConfigurerConfiguration;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
 import org.springframework.grpc.server.GlobalServerInterceptor;
 import org.springframework.grpc.server.exception.GrpcExceptionHandler;
 import org.springframework.grpc.server.security.CoroutineSecurityContextInterceptor;
@@ -107,7 +109,11 @@ public final class GrpcSecurityAutoConfiguration {
 
 		@Bean
 		@ConditionalOnMissingBean(GrpcServerExecutorProvider.class)
-		GrpcServerExecutorProvider grpcServerExecutorProvider() {
+		GrpcServerExecutorProvider grpcServerExecutorProvider(Environment environment) {
+			if (Threading.VIRTUAL.isActive(environment)) {
+				GrpcServerExecutorProvider virtualThreads = GrpcServerExecutorProvider.virtualThreads();
+				return () -> new DelegatingSecurityContextExecutor(virtualThreads.getExecutor());
+			}
 			return () -> new DelegatingSecurityContextExecutor(GrpcUtil.SHARED_CHANNEL_EXECUTOR.create());
 		}
 
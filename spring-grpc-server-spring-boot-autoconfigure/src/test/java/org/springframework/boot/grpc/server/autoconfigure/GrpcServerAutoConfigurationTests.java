@@ -25,13 +25,18 @@ import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 import org.mockito.InOrder;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -46,9 +51,20 @@ import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.grpc.limit.AdaptiveConcurrencyLimiter;
+import org.springframework.grpc.marshaller.CountingMethodMarshallerProvider;
+import org.springframework.grpc.marshaller.MethodMarshallerProvider;
+import org.springframework.grpc.netty.NettyTransport;
+import org.springframework.grpc.server.ConcurrencyLimitServerInterceptor;
+import org.springframework.grpc.server.DeadlineServerInterceptor;
+import org.springframework.grpc.server.ExecutorLane;
 import org.springframework.grpc.server.GrpcServerFactory;
 import org.springframework.grpc.server.InProcessGrpcServerFactory;
 import org.springframework.grpc.server.NettyGrpcServerFactory;
+import org.springframework.grpc.server.ReloadingKeyManagerFactory;
+import org.springframework.grpc.server.ReloadingTrustManagerFactory;
+import org.springframework.grpc.server.RoutingServerCallExecutorSupplier;
 import org.springframework.grpc.server.ServerBuilderCustomizer;
 import org.springframework.grpc.server.ServerServiceDefinitionFilter;
 import org.springframework.grpc.server.ShadedNettyGrpcServerFactory;
@@ -57,6 +73,8 @@ import org.springframework.grpc.server.service.DefaultGrpcServiceConfigurer;
 import org.springframework.grpc.server.service.DefaultGrpcServiceDiscoverer;
 import org.springframework.grpc.server.service.GrpcServiceConfigurer;
 import org.springframework.grpc.server.service.GrpcServiceDiscoverer;
+import org.springframework.grpc.server.service.GrpcServiceInfo;
+import org.springframework.grpc.server.service.GrpcServiceSpec;
 import org.springframework.grpc.server.service.ServerInterceptorFilter;
 
 import io.grpc.BindableService;
@@ -329,6 +347,18 @@ class GrpcServerAutoConfigurationTests {
 				NettyGrpcServerFactory.class, "myhost:6160", "nettyGrpcServerLifecycle");
 	}
 
+	@Test
+	void nettyServerFactoryTransportSetFromProperties() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.netty.boss-threads=2", "spring.grpc.server.netty.worker-threads=4",
+					"spring.grpc.server.netty.transport=nio")
+			.withClassLoader(new FilteredClassLoader(io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder.class))
+			.run((context) -> assertThat(context).getBean(NettyGrpcServerFactory.class)
+				.hasFieldOrPropertyWithValue("bossThreads", 2)
+				.hasFieldOrPropertyWithValue("workerThreads", 4)
+				.hasFieldOrPropertyWithValue("transport", NettyTransport.NIO));
+	}
+
 	@Test
 	void inProcessServerFactoryAutoConfiguredAsExpected() {
 		serverFactoryAutoConfiguredAsExpected(
@@ -414,6 +444,20 @@ class GrpcServerAutoConfigurationTests {
 				NettyGrpcServerFactory.class, "myhost:6160", "nettyGrpcServerLifecycle");
 	}
 
+	@Test
+	void nettyServerFactoryWithSslUsesReloadingManagers() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.ssl.bundle=ssltest",
+					"spring.ssl.bundle.jks.ssltest.keystore.location=classpath:org/springframework/boot/grpc/server/autoconfigure/test.jks",
+					"spring.ssl.bundle.jks.ssltest.keystore.password=secret",
+					"spring.ssl.bundle.jks.ssltest.key.password=password")
+			.withClassLoader(new FilteredClassLoader(io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder.class))
+			.run((context) -> assertThat(context).getBean(NettyGrpcServerFactory.class)
+				.extracting("keyManager", "trustManager")
+				.satisfiesExactly((keyManager) -> assertThat(keyManager).isInstanceOf(ReloadingKeyManagerFactory.class),
+						(trustManager) -> assertThat(trustManager).isInstanceOf(ReloadingTrustManagerFactory.class)));
+	}
+
 	@Nested
 	class WithCodecConfiguration {
 
@@ -467,6 +511,207 @@ class GrpcServerAutoConfigurationTests {
 
 	}
 
+	@Nested
+	class WithExecutorConfiguration {
+
+		@SuppressWarnings("unchecked")
+		@Test
+		void whenHasExecutorProviderThenExecutorIsApplied() {
+			Executor executor = mock();
+			GrpcServerAutoConfigurationTests.this.contextRunner()
+				.withBean(GrpcServerExecutorProvider.class, () -> () -> executor)
+				.run((context) -> {
+					ServerBuilder<?> builder = mock();
+					context.getBean("executorServerConfigurer", ServerBuilderCustomizer.class).customize(builder);
+					then(builder).should().executor(executor);
+				});
+		}
+
+		@SuppressWarnings("unchecked")
+		@Test
+		void whenNoExecutorProviderThenExecutorIsNotApplied() {
+			GrpcServerAutoConfigurationTests.this.contextRunner().run((context) -> {
+				ServerBuilder<?> builder = mock();
+				context.getBean("executorServerConfigurer", ServerBuilderCustomizer.class).customize(builder);
+				then(builder).should(Mockito.never()).executor(any());
+			});
+		}
+
+		@SuppressWarnings("unchecked")
+		@Test
+		@EnabledForJreRange(min = JRE.JAVA_21)
+		void whenVirtualThreadsEnabledThenVirtualThreadExecutorIsApplied() {
+			GrpcServerAutoConfigurationTests.this.contextRunner()
+				.withPropertyValues("spring.threads.virtual.enabled=true")
+				.run((context) -> {
+					ServerBuilder<?> builder = mock();
+					context.getBean("executorServerConfigurer", ServerBuilderCustomizer.class).customize(builder);
+					then(builder).should().executor(any(VirtualThreadTaskExecutor.class));
+				});
+		}
+
+	}
+
+	@Nested
+	class WithCallExecutorConfiguration {
+
+		@SuppressWarnings("unchecked")
+		@Test
+		void systemLaneConfiguredByDefault() {
+			GrpcServerAutoConfigurationTests.this.contextRunner().run((context) -> {
+				RoutingServerCallExecutorSupplier supplier = context.getBean(RoutingServerCallExecutorSupplier.class);
+				assertThat(supplier.getLanes()).containsOnlyKeys("system");
+				assertThat(supplier.hasRoutes()).isTrue();
+				ServerBuilder<?> builder = mock();
+				context.getBean("callExecutorServerConfigurer", ServerBuilderCustomizer.class).customize(builder);
+				then(builder).should().callExecutor(supplier);
+			});
+		}
+
+		@SuppressWarnings("unchecked")
+		@Test
+		void whenNoLanesThenCallExecutorIsNotApplied() {
+			GrpcServerAutoConfigurationTests.this.contextRunner()
+				.withPropertyValues("spring.grpc.server.executor.system-lane.enabled=false")
+				.run((context) -> {
+					assertThat(context.getBean(RoutingServerCallExecutorSupplier.class).getLanes()).isEmpty();
+					ServerBuilder<?> builder = mock();
+					context.getBean("callExecutorServerConfigurer", ServerBuilderCustomizer.class).customize(builder);
+					then(builder).should(Mockito.never()).callExecutor(any());
+				});
+		}
+
+		@SuppressWarnings("unchecked")
+		@Test
+		void lanesAndServerShareOneExecutorFromProvider() {
+			List<Executor> created = new ArrayList<>();
+			GrpcServerExecutorProvider executorProvider = () -> {
+				Executor executor = Runnable::run;
+				created.add(executor);
+				return executor;
+			};
+			GrpcServerAutoConfigurationTests.this.contextRunner()
+				.withBean(GrpcServerExecutorProvider.class, () -> executorProvider)
+				.run((context) -> {
+					ServerBuilder<?> builder = mock();
+					context.getBean("executorServerConfigurer", ServerBuilderCustomizer.class).customize(builder);
+					assertThat(created).hasSize(1);
+					then(builder).should().executor(created.get(0));
+				});
+		}
+
+		@Test
+		void lanesConfiguredFromProperties() {
+			GrpcServerAutoConfigurationTests.this.contextRunner()
+				.withPropertyValues("spring.grpc.server.executor.lanes.batch.threads=3",
+						"spring.grpc.server.executor.lanes.batch.queue-capacity=7",
+						"spring.grpc.server.executor.lanes.batch.services=my-service")
+				.run((context) -> {
+					RoutingServerCallExecutorSupplier supplier = context
+						.getBean(RoutingServerCallExecutorSupplier.class);
+					assertThat(supplier.getLanes()).containsOnlyKeys("batch", "system");
+					assertThat(supplier.getLanes().get("batch")).hasFieldOrPropertyWithValue("queueCapacity", 7)
+						.extracting(ExecutorLane::getExecutor)
+						.hasFieldOrPropertyWithValue("corePoolSize", 3);
+				});
+		}
+
+		@Test
+		void lanesShareConfiguredServerExecutor() {
+			List<Runnable> tasks = new ArrayList<>();
+			GrpcServerExecutorProvider executorProvider = () -> tasks::add;
+			GrpcServerAutoConfigurationTests.this.contextRunner()
+				.withPropertyValues("spring.grpc.server.executor.lanes.batch.threads=1")
+				.withBean(GrpcServerExecutorProvider.class, () -> executorProvider)
+				.run((context) -> {
+					ExecutorLane lane = context.getBean(RoutingServerCallExecutorSupplier.class)
+						.getLanes()
+						.get("batch");
+					lane.getExecutor().execute(() -> {
+					});
+					lane.getExecutor().execute(() -> {
+					});
+					assertThat(tasks).hasSize(1);
+				});
+		}
+
+		@Test
+		void lanesSelectedByGrpcServiceAreRoutedWhenServicesAreConfigured() {
+			GrpcServiceInfo serviceInfo = new GrpcServiceInfo(new Class[0], new String[0], false, "batch");
+			GrpcServerAutoConfigurationTests.this.contextRunner()
+				.withPropertyValues("spring.grpc.server.executor.lanes.batch.threads=1",
+						"spring.grpc.server.executor.system-lane.enabled=false")
+				.run((context) -> {
+					RoutingServerCallExecutorSupplier supplier = context
+						.getBean(RoutingServerCallExecutorSupplier.class);
+					assertThat(supplier.hasRoutes()).isFalse();
+					context.getBean(GrpcServiceConfigurer.class)
+						.configure(new GrpcServiceSpec(GrpcServerAutoConfigurationTests.this.service, serviceInfo),
+								null);
+					assertThat(supplier.hasRoutes()).isTrue();
+				});
+		}
+
+	}
+
+	@Nested
+	class WithDeadlineConfiguration {
+
+		@Test
+		void whenDeadlinesNotEnabledThenInterceptorIsNotConfigured() {
+			GrpcServerAutoConfigurationTests.this.contextRunner()
+				.run((context) -> assertThat(context).doesNotHaveBean(DeadlineServerInterceptor.class));
+		}
+
+		@Test
+		void whenDeadlinesEnabledThenInterceptorIsConfigured() {
+			GrpcServerAutoConfigurationTests.this.contextRunner()
+				.withPropertyValues("spring.grpc.server.deadlines.enabled=true",
+						"spring.grpc.server.deadlines.minimum-budget=20ms",
+						"spring.grpc.server.deadlines.method-minimum-budgets[test/slow]=2s")
+				.run((context) -> assertThat(context).getBean(DeadlineServerInterceptor.class)
+					.hasFieldOrPropertyWithValue("minimumBudget", Duration.ofMillis(20))
+					.hasFieldOrPropertyWithValue("methodMinimumBudgets", Map.of("test/slow", Duration.ofSeconds(2))));
+		}
+
+	}
+
+	@Nested
+	class WithConcurrencyLimitConfiguration {
+
+		@Test
+		void whenLimitsNotEnabledThenInterceptorIsNotConfigured() {
+			GrpcServerAutoConfigurationTests.this.contextRunner()
+				.run((context) -> assertThat(context).doesNotHaveBean(ConcurrencyLimitServerInterceptor.class)
+					.doesNotHaveBean("grpcServerConcurrencyLimitMetrics"));
+		}
+
+		@Test
+		void whenLimitsEnabledThenInterceptorAndMetricsAreConfigured() {
+			GrpcServerAutoConfigurationTests.this.contextRunner()
+				.withPropertyValues("spring.grpc.server.limits.enabled=true",
+						"spring.grpc.server.limits.per-method=true", "spring.grpc.server.limits.retry-pushback=250ms")
+				.run((context) -> {
+					assertThat(context).getBean(ConcurrencyLimitServerInterceptor.class)
+						.hasFieldOrPropertyWithValue("perMethod", true)
+						.hasFieldOrPropertyWithValue("retryPushback", Duration.ofMillis(250));
+					assertThat(context).hasBean("grpcServerConcurrencyLimitMetrics");
+				});
+		}
+
+		@Test
+		void whenHasUserDefinedInterceptorDoesNotAutoConfigureBean() {
+			ConcurrencyLimitServerInterceptor customInterceptor = new ConcurrencyLimitServerInterceptor(
+					() -> new AdaptiveConcurrencyLimiter(1, 1, 1));
+			GrpcServerAutoConfigurationTests.this.contextRunner()
+				.withPropertyValues("spring.grpc.server.limits.enabled=true")
+				.withBean("customInterceptor", ConcurrencyLimitServerInterceptor.class, () -> customInterceptor)
+				.run((context) -> assertThat(context).getBean(ConcurrencyLimitServerInterceptor.class)
+					.isSameAs(customInterceptor));
+		}
+
+	}
+
 	@Nested
 	class WithAllFactoriesServiceFilterAutoConfig {
 
@@ -531,6 +776,24 @@ class GrpcServerAutoConfigurationTests {
 					.isInstanceOf(DefaultGrpcServiceConfigurer.class));
 		}
 
+		@Test
+		void configurerUsesZeroCopyMarshallingWhenPropertySet() {
+			GrpcServerAutoConfigurationTests.this.contextRunnerWithLifecyle()
+				.withPropertyValues("spring.grpc.server.port=0", "spring.grpc.server.zero-copy-marshalling=true")
+				.run((context) -> assertThat(context).getBean(GrpcServiceConfigurer.class)
+					.hasFieldOrPropertyWithValue("zeroCopyMarshalling", true));
+		}
+
+		@Test
+		void configurerUsesMarshallerProviderBean() {
+			MethodMarshallerProvider marshallerProvider = new CountingMethodMarshallerProvider();
+			GrpcServerAutoConfigurationTests.this.contextRunnerWithLifecyle()
+				.withPropertyValues("spring.grpc.server.port=0")
+				.withBean(MethodMarshallerProvider.class, () -> marshallerProvider)
+				.run((context) -> assertThat(context).getBean(GrpcServiceConfigurer.class)
+					.hasFieldOrPropertyWithValue("marshallerProvider", marshallerProvider));
+		}
+
 		@Test
 		void whenNoServerInterceptorFilterThenConfigurerUsesNoFilter() {
 			GrpcServerAutoConfigurationTests.this.contextRunnerWithLifecyle()
@@ -140,6 +140,102 @@ class GrpcServerPropertiesTests {
 
 	}
 
+	@Nested
+	class ExecutorProperties {
+
+		@Test
+		void defaults() {
+			GrpcServerProperties.Executor properties = new GrpcServerProperties().getExecutor();
+			assertThat(properties.getLanes()).isEmpty();
+			assertThat(properties.getSystemLane().isEnabled()).isTrue();
+			assertThat(properties.getSystemLane().getThreads()).isEqualTo(2);
+			assertThat(properties.getSystemLane().getQueueCapacity()).isEqualTo(100);
+		}
+
+		@Test
+		void bind() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.server.executor.lanes.batch.threads", "8");
+			map.put("spring.grpc.server.executor.lanes.batch.queue-capacity", "50");
+			map.put("spring.grpc.server.executor.lanes.batch.services[0]", "foo.Bar");
+			map.put("spring.grpc.server.executor.lanes.batch.services[1]", "foo.Baz/Export");
+			map.put("spring.grpc.server.executor.system-lane.enabled", "false");
+			map.put("spring.grpc.server.executor.system-lane.threads", "1");
+			map.put("spring.grpc.server.executor.system-lane.queue-capacity", "10");
+			GrpcServerProperties.Executor properties = bindProperties(map).getExecutor();
+			assertThat(properties.getLanes()).containsOnlyKeys("batch");
+			GrpcServerProperties.Executor.Lane lane = properties.getLanes().get("batch");
+			assertThat(lane.getThreads()).isEqualTo(8);
+			assertThat(lane.getQueueCapacity()).isEqualTo(50);
+			assertThat(lane.getServices()).containsExactly("foo.Bar", "foo.Baz/Export");
+			assertThat(properties.getSystemLane().isEnabled()).isFalse();
+			assertThat(properties.getSystemLane().getThreads()).isEqualTo(1);
+			assertThat(properties.getSystemLane().getQueueCapacity()).isEqualTo(10);
+		}
+
+	}
+
+	@Nested
+	class DeadlinesProperties {
+
+		@Test
+		void defaults() {
+			GrpcServerProperties.Deadlines properties = new GrpcServerProperties().getDeadlines();
+			assertThat(properties.isEnabled()).isFalse();
+			assertThat(properties.getMinimumBudget()).isZero();
+			assertThat(properties.getMethodMinimumBudgets()).isEmpty();
+		}
+
+		@Test
+		void bind() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.server.deadlines.enabled", "true");
+			map.put("spring.grpc.server.deadlines.minimum-budget", "10ms");
+			map.put("spring.grpc.server.deadlines.method-minimum-budgets[foo.Bar/Baz]", "1s");
+			map.put("spring.grpc.server.deadlines.method-minimum-budgets[foo.Bar]", "500ms");
+			GrpcServerProperties.Deadlines properties = bindProperties(map).getDeadlines();
+			assertThat(properties.isEnabled()).isTrue();
+			assertThat(properties.getMinimumBudget()).isEqualTo(Duration.ofMillis(10));
+			assertThat(properties.getMethodMinimumBudgets()).containsEntry("foo.Bar/Baz", Duration.ofSeconds(1))
+				.containsEntry("foo.Bar", Duration.ofMillis(500));
+		}
+
+	}
+
+	@Nested
+	class LimitsProperties {
+
+		@Test
+		void defaults() {
+			GrpcServerProperties.Limits properties = new GrpcServerProperties().getLimits();
+			assertThat(properties.isEnabled()).isFalse();
+			assertThat(properties.isPerMethod()).isFalse();
+			assertThat(properties.getInitialLimit()).isEqualTo(50);
+			assertThat(properties.getMinLimit()).isEqualTo(5);
+			assertThat(properties.getMaxLimit()).isEqualTo(1000);
+			assertThat(properties.getRetryPushback()).isEqualTo(Duration.ofSeconds(1));
+		}
+
+		@Test
+		void bind() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.server.limits.enabled", "true");
+			map.put("spring.grpc.server.limits.per-method", "true");
+			map.put("spring.grpc.server.limits.initial-limit", "20");
+			map.put("spring.grpc.server.limits.min-limit", "2");
+			map.put("spring.grpc.server.limits.max-limit", "200");
+			map.put("spring.grpc.server.limits.retry-pushback", "5s");
+			GrpcServerProperties.Limits properties = bindProperties(map).getLimits();
+			assertThat(properties.isEnabled()).isTrue();
+			assertThat(properties.isPerMethod()).isTrue();
+			assertThat(properties.getInitialLimit()).isEqualTo(20);
+			assertThat(properties.getMinLimit()).isEqualTo(2);
+			assertThat(properties.getMaxLimit()).isEqualTo(200);
+			assertThat(properties.getRetryPushback()).isEqualTo(Duration.ofSeconds(5));
+		}
+
+	}
+
 	@Nested
 	class InboundLimitsProperties {
 